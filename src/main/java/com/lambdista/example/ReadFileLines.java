@@ -16,12 +16,14 @@
 package com.lambdista.example;
 
 import com.lambdista.util.Try;
+import com.lambdista.util.TryFiles;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * File lines read example
@@ -41,6 +43,9 @@ public class ReadFileLines {
         System.out.println("File read using the Try-Success-Failure API");
         lines.forEach(System.out::println);
 
+        System.out.println("File streamed line by line using the Try-Success-Failure API");
+        printFileStreamingWithTry("test.txt");
+
     } 
 
     public static List<String> readFileWithoutTry(String file) {
@@ -61,4 +66,13 @@ public class ReadFileLines {
                 .getOrElse(Arrays.asList("Could not read the file: " + file));
 
     }
+
+    public static void printFileStreamingWithTry(String file) {
+
+        // Each line is an independent Try: a line that cannot be decoded does not prevent reading the others
+        try (Stream<Try<String>> lines = TryFiles.lines(new File(file).toPath())) {
+            lines.forEach(line -> System.out.println(line.getOrElse("Could not read a line of the file: " + file)));
+        }
+
+    }
 }
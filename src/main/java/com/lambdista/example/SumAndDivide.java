@@ -18,6 +18,7 @@ package com.lambdista.example;
 import java.util.InputMismatchException;
 import java.util.Scanner;
 
+import com.lambdista.util.IntTry;
 import com.lambdista.util.Try;
 
 /**
@@ -36,6 +37,9 @@ public class SumAndDivide {
         System.out.println("Sum using the Try-Success-Failure API");
         sumWithTry("1", "2", "3");
 
+        System.out.println("Sum using the primitive IntTry API");
+        sumWithIntTry("1", "2", "3");
+
         System.out.println("Integer division using the try-catch block");
         divideWithoutTry();
 
@@ -74,6 +78,17 @@ public class SumAndDivide {
         res.forEach(sum -> System.out.println("The sum is: " + sum));
     }
 
+    public static void sumWithIntTry(String first, String second, String third) {
+
+        IntTry x = Try.parseInt(first);
+        IntTry y = Try.parseInt(second);
+        IntTry z = Try.parseInt(third);
+
+        // Same chaining as sumWithTry but malformed input does not throw and the values are never boxed
+        IntTry res = x.flatMap(a -> y.flatMap(b -> z.map(c -> a + b + c)));
+
+        res.forEach(sum -> System.out.println("The sum is: " + sum));
+    }
 
     public static void divideWithoutTry() {
 
@@ -43,9 +43,7 @@ public class Url {
     }
 
     public static String urlToStringWithTry(String url, String errorMessage) {
-        Try<Scanner> scanner = Try.apply(() -> new Scanner(new URL(url).openStream(), "UTF-8"));
-        String result = scanner.map(s -> s.useDelimiter("\\A").next()).getOrElse(errorMessage);
-        scanner.forEach(s -> s.close());
-        return result;
+        return Try.withResources(() -> new Scanner(new URL(url).openStream(), "UTF-8"),
+                scanner -> scanner.useDelimiter("\\A").next()).getOrElse(errorMessage);
     }
 }
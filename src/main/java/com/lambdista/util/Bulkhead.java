@@ -0,0 +1,237 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * <p>A bulkhead capping the number of concurrent calls to a dependency, so that when it slows down the callers do
+ * not pile up threads and memory waiting for it. A call over the limit is not run: it immediately returns a
+ * preallocated, stackless {@link Try.Failure} of {@link CallNotPermittedException}.</p>
+ *
+ * <p>The limit is either fixed or adaptive. An adaptive limit follows the additive increase, multiplicative
+ * decrease (AIMD) algorithm of TCP congestion avoidance: each call which succeeds within the latency threshold,
+ * while at least half of the limit is in use, raises it by {@code 1 / limit}, so about one per limit's worth of
+ * successful calls; each call which fails or is slower than the threshold multiplies it by the backoff ratio. The
+ * limit thus probes for the concurrency the dependency sustains and backs off as soon as it shows distress.</p>
+ *
+ * <p>Both the permits and the limit are atomic variables updated by compare-and-set, so the bulkhead never
+ * locks.</p>
+ *
+ * <pre>
+ * Bulkhead bulkhead = new Bulkhead(Bulkhead.Config.aimd(20, 5, 200)
+ *         .withLatencyThreshold(Duration.ofMillis(250)));
+ *
+ * Try&lt;Stock&gt; stock = bulkhead.apply(() -&gt; inventory.stock(sku));
+ * </pre>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public final class Bulkhead {
+
+    private final Config config;
+    private final LongSupplier nanoTime;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong limitBits;
+    private final Try<?> rejection = new Try.Failure<>(new CallNotPermittedException("Bulkhead is full"));
+
+    /**
+     * @param config the {@link Config} to use
+     */
+    public Bulkhead(Config config) {
+        this(config, System::nanoTime);
+    }
+
+    Bulkhead(Config config, LongSupplier nanoTime) {
+        this.config = Objects.requireNonNull(config);
+        this.nanoTime = nanoTime;
+        this.limitBits = new AtomicLong(Double.doubleToRawLongBits(config.initialLimit));
+    }
+
+    /**
+     * Runs {@code supplier} if the number of calls in flight is below the limit.
+     *
+     * @param supplier the {@link FailableSupplier} to use
+     * @param <T>      the type returned by the {@link FailableSupplier}
+     * @return the result of {@code supplier} or, if the limit is reached, a {@link Try.Failure} of
+     * {@link CallNotPermittedException}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Try<T> apply(FailableSupplier<T> supplier) {
+        int inFlightAtStart = tryAcquire();
+        if (inFlightAtStart < 0) {
+            return (Try<T>) rejection;
+        }
+        try {
+            if (!config.adaptive) {
+                return Try.apply(supplier);
+            }
+            long start = nanoTime.getAsLong();
+            Try<T> result = Try.apply(supplier);
+            boolean drop = nanoTime.getAsLong() - start > config.latencyThresholdNanos
+                    || (result.isFailure() && config.recordFailureIf.test(result.failed().get()));
+            adjustLimit(drop, inFlightAtStart);
+            return result;
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return the current limit of concurrent calls
+     */
+    public int getLimit() {
+        return (int) limit();
+    }
+
+    /**
+     * @return the number of calls currently running
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return the number of calls in flight including this one, or {@code -1} if the limit is reached
+     */
+    private int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit()) {
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    private double limit() {
+        return Double.longBitsToDouble(limitBits.get());
+    }
+
+    private void adjustLimit(boolean drop, int inFlightAtStart) {
+        while (true) {
+            long bits = limitBits.get();
+            double limit = Double.longBitsToDouble(bits);
+            double updated;
+            if (drop) {
+                updated = Math.max(config.minLimit, limit * config.backoffRatio);
+            } else if (inFlightAtStart * 2 >= limit) {
+                updated = Math.min(config.maxLimit, limit + 1 / limit);
+            } else {
+                return;
+            }
+            if (updated == limit || limitBits.compareAndSet(bits, Double.doubleToRawLongBits(updated))) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Bulkhead{limit=" + getLimit() + ", inFlight=" + getInFlight() + '}';
+    }
+
+    /**
+     * <p>The immutable configuration of a {@link Bulkhead}. Each {@code with*} method returns a new instance and
+     * only affects adaptive limits. By default an adaptive limit backs off by a ratio of 0.9 on every
+     * {@link Try.Failure}, while slow calls are not taken into account.</p>
+     */
+    public static final class Config {
+
+        private final boolean adaptive;
+        private final int initialLimit;
+        private final int minLimit;
+        private final int maxLimit;
+        private final double backoffRatio;
+        private final long latencyThresholdNanos;
+        private final Predicate<? super Exception> recordFailureIf;
+
+        private Config(boolean adaptive, int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+                       long latencyThresholdNanos, Predicate<? super Exception> recordFailureIf) {
+            this.adaptive = adaptive;
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            this.backoffRatio = backoffRatio;
+            this.latencyThresholdNanos = latencyThresholdNanos;
+            this.recordFailureIf = recordFailureIf;
+        }
+
+        /**
+         * @param limit the maximum number of concurrent calls
+         * @return a configuration with a fixed limit
+         */
+        public static Config fixed(int limit) {
+            if (limit <= 0) {
+                throw new IllegalArgumentException("limit must be positive: " + limit);
+            }
+            return new Config(false, limit, limit, limit, 0.9, Long.MAX_VALUE, exception -> true);
+        }
+
+        /**
+         * @param initialLimit the limit to start from
+         * @param minLimit     the lowest the limit can get
+         * @param maxLimit     the highest the limit can get
+         * @return a configuration with an AIMD adaptive limit
+         */
+        public static Config aimd(int initialLimit, int minLimit, int maxLimit) {
+            if (minLimit <= 0 || minLimit > initialLimit || initialLimit > maxLimit) {
+                throw new IllegalArgumentException("Limits must satisfy 0 < min <= initial <= max: "
+                        + minLimit + ", " + initialLimit + ", " + maxLimit);
+            }
+            return new Config(true, initialLimit, minLimit, maxLimit, 0.9, Long.MAX_VALUE, exception -> true);
+        }
+
+        /**
+         * @param ratio the ratio, between 0 and 1 (both exclusive), the limit is multiplied by on a drop
+         * @return a copy of {@code this} with the given backoff ratio
+         */
+        public Config withBackoffRatio(double ratio) {
+            if (!(ratio > 0 && ratio < 1)) {
+                throw new IllegalArgumentException("ratio must be in (0, 1): " + ratio);
+            }
+            return new Config(adaptive, initialLimit, minLimit, maxLimit, ratio, latencyThresholdNanos,
+                    recordFailureIf);
+        }
+
+        /**
+         * @param threshold the latency from which a call counts as a drop, whatever its outcome
+         * @return a copy of {@code this} with the given latency threshold
+         */
+        public Config withLatencyThreshold(Duration threshold) {
+            return new Config(adaptive, initialLimit, minLimit, maxLimit, backoffRatio, threshold.toNanos(),
+                    recordFailureIf);
+        }
+
+        /**
+         * @param predicate tells whether the exception of a {@link Try.Failure} counts as a drop. Exceptions not
+         *                  satisfying it, e.g. validation errors, count as successful calls
+         * @return a copy of {@code this} with the given predicate
+         */
+        public Config recordFailureIf(Predicate<? super Exception> predicate) {
+            return new Config(adaptive, initialLimit, minLimit, maxLimit, backoffRatio, latencyThresholdNanos,
+                    Objects.requireNonNull(predicate));
+        }
+    }
+}
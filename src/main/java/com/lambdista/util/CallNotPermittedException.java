@@ -0,0 +1,33 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+/**
+ * Unchecked exception of the {@link com.lambdista.util.Try.Failure} returned, without running the
+ * {@link FailableSupplier}, by a guard which refuses a call, e.g. an open {@link CircuitBreaker}. Since such a
+ * failure is returned at a high rate exactly when things go wrong, instances carry no stack trace and are meant to
+ * be preallocated.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class CallNotPermittedException extends RuntimeException {
+
+    public CallNotPermittedException(String message) {
+        super(message, null, false, false);
+    }
+
+}
@@ -0,0 +1,530 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * <p>A circuit breaker guarding calls to a failing dependency. While {@link State#CLOSED} every call is run and its
+ * outcome recorded in a sliding window, either of the last {@code n} calls or of the last {@code n} seconds. When,
+ * after a minimum number of calls, the failure rate or the slow call rate reaches its threshold, the breaker opens:
+ * for {@code openDuration} calls are not run and immediately return a preallocated, stackless {@link Try.Failure}
+ * of {@link CallNotPermittedException}. Then the breaker is {@link State#HALF_OPEN}: a few probe calls are let
+ * through and, depending on their outcome, the breaker closes again or reopens.</p>
+ *
+ * <p>The breaker never locks: the windows are made of atomic counters and the state transitions are
+ * compare-and-set operations, so exactly one thread performs each transition.</p>
+ *
+ * <pre>
+ * CircuitBreaker breaker = new CircuitBreaker(CircuitBreaker.Config.countBased(100)
+ *         .withFailureRateThreshold(0.5)
+ *         .withSlowCallRateThreshold(0.8, Duration.ofSeconds(2))
+ *         .withOpenDuration(Duration.ofSeconds(30)));
+ *
+ * Try&lt;Quote&gt; quote = breaker.apply(() -&gt; quoteService.quote(symbol));
+ * </pre>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public final class CircuitBreaker {
+
+    /**
+     * The states of a {@link CircuitBreaker}
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final Config config;
+    private final LongSupplier nanoTime;
+    private final AtomicReference<Phase> phase;
+    private final Try<?> rejection = new Try.Failure<>(new CallNotPermittedException("CircuitBreaker is open"));
+
+    /**
+     * @param config the {@link Config} to use
+     */
+    public CircuitBreaker(Config config) {
+        this(config, System::nanoTime);
+    }
+
+    CircuitBreaker(Config config, LongSupplier nanoTime) {
+        this.config = Objects.requireNonNull(config);
+        this.nanoTime = nanoTime;
+        this.phase = new AtomicReference<>(new Closed(config.newWindow()));
+    }
+
+    /**
+     * Runs {@code supplier} if the breaker permits it, recording the outcome.
+     *
+     * @param supplier the {@link FailableSupplier} to use
+     * @param <T>      the type returned by the {@link FailableSupplier}
+     * @return the result of {@code supplier} or, if the call is not permitted, a {@link Try.Failure} of
+     * {@link CallNotPermittedException}. An {@link Error} thrown by {@code supplier}, or anything thrown by the
+     * {@code recordFailureIf} predicate, is recorded as a failure and rethrown.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Try<T> apply(FailableSupplier<T> supplier) {
+        Phase current = acquire();
+        if (current == null) {
+            return (Try<T>) rejection;
+        }
+        long start = nanoTime.getAsLong();
+        boolean failure = true;
+        try {
+            Try<T> result = Try.apply(supplier);
+            failure = result.isFailure() && config.recordFailureIf.test(result.failed().get());
+            return result;
+        } finally {
+            // Always recorded, otherwise a half-open probe would keep its permit forever
+            long end = nanoTime.getAsLong();
+            current.record(failure, end - start >= config.slowCallNanos, end);
+        }
+    }
+
+    /**
+     * @return the current {@link State}. An open breaker whose {@code openDuration} has elapsed is reported as
+     * {@link State#OPEN} until the next call moves it to {@link State#HALF_OPEN}
+     */
+    public State getState() {
+        return phase.get().state();
+    }
+
+    /**
+     * Closes the breaker, discarding the recorded outcomes.
+     */
+    public void reset() {
+        phase.set(new Closed(config.newWindow()));
+    }
+
+    /**
+     * @return the phase the call belongs to, {@code null} if the call is not permitted
+     */
+    private Phase acquire() {
+        while (true) {
+            Phase current = phase.get();
+            if (current instanceof Closed) {
+                return current;
+            }
+            if (current instanceof HalfOpen) {
+                return ((HalfOpen) current).tryAcquire() ? current : null;
+            }
+            if (nanoTime.getAsLong() - ((Open) current).openedAt < config.openDurationNanos) {
+                return null;
+            }
+            phase.compareAndSet(current, new HalfOpen(config.halfOpenCalls));
+        }
+    }
+
+    private void open(Phase from, long now) {
+        phase.compareAndSet(from, new Open(now));
+    }
+
+    private interface Phase {
+
+        State state();
+
+        void record(boolean failure, boolean slow, long now);
+    }
+
+    private final class Closed implements Phase {
+
+        private final Window window;
+
+        Closed(Window window) {
+            this.window = window;
+        }
+
+        @Override
+        public State state() {
+            return State.CLOSED;
+        }
+
+        @Override
+        public void record(boolean failure, boolean slow, long now) {
+            if (window.record(failure, slow, now)) {
+                open(this, now);
+            }
+        }
+    }
+
+    private final class Open implements Phase {
+
+        private final long openedAt;
+
+        Open(long openedAt) {
+            this.openedAt = openedAt;
+        }
+
+        @Override
+        public State state() {
+            return State.OPEN;
+        }
+
+        @Override
+        public void record(boolean failure, boolean slow, long now) {
+        }
+    }
+
+    private final class HalfOpen implements Phase {
+
+        private final AtomicInteger permits;
+        private final AtomicLong outcomes = new AtomicLong();
+
+        HalfOpen(int calls) {
+            this.permits = new AtomicInteger(calls);
+        }
+
+        boolean tryAcquire() {
+            while (true) {
+                int available = permits.get();
+                if (available <= 0) {
+                    return false;
+                }
+                if (permits.compareAndSet(available, available - 1)) {
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        public State state() {
+            return State.HALF_OPEN;
+        }
+
+        @Override
+        public void record(boolean failure, boolean slow, long now) {
+            long packed = outcomes.addAndGet(Counts.pack(1, failure ? 1 : 0, slow ? 1 : 0));
+            long calls = Counts.calls(packed);
+            if (calls == config.halfOpenCalls) {
+                if (config.rateExceeded(calls, Counts.failures(packed), Counts.slow(packed))) {
+                    open(this, now);
+                } else {
+                    phase.compareAndSet(this, new Closed(config.newWindow()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Three counters packed in a {@code long}, 21 bits each, so that they can be updated together atomically.
+     */
+    private static final class Counts {
+
+        static final int MAX = (1 << 21) - 1;
+
+        static long pack(long calls, long failures, long slow) {
+            return calls << 42 | failures << 21 | slow;
+        }
+
+        static long calls(long packed) {
+            return packed >>> 42;
+        }
+
+        static long failures(long packed) {
+            return packed >>> 21 & MAX;
+        }
+
+        static long slow(long packed) {
+            return packed & MAX;
+        }
+    }
+
+    /**
+     * The sliding window of a closed breaker.
+     */
+    private interface Window {
+
+        /**
+         * @return {@code true} if, after recording the outcome, the thresholds are exceeded
+         */
+        boolean record(boolean failure, boolean slow, long now);
+    }
+
+    /**
+     * A window of the last {@code size} outcomes: a ring of outcomes and the number of failures and slow calls it
+     * holds, each updated by the difference between the outcome written and the one overwritten. The two counters
+     * are separate atomics, so that, while racing writers of the same slot briefly leave one of them off by a call,
+     * it never borrows from the other; the number of calls follows from the cursor.
+     */
+    private static final class CountWindow implements Window {
+
+        private static final int FAILURE = 1;
+        private static final int SLOW = 2;
+
+        private final Config config;
+        private final AtomicIntegerArray ring;
+        private final AtomicLong cursor = new AtomicLong();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicInteger slowCalls = new AtomicInteger();
+
+        CountWindow(Config config) {
+            this.config = config;
+            this.ring = new AtomicIntegerArray(config.windowSize);
+        }
+
+        @Override
+        public boolean record(boolean failure, boolean slow, long now) {
+            int outcome = (failure ? FAILURE : 0) | (slow ? SLOW : 0);
+            long ticket = cursor.getAndIncrement();
+            int previous = ring.getAndSet((int) (ticket % ring.length()), outcome);
+            int failureCount = update(failures, outcome, previous, FAILURE);
+            int slowCount = update(slowCalls, outcome, previous, SLOW);
+            long calls = Math.min(ticket + 1, ring.length());
+            return config.exceeded(calls, Math.max(0, failureCount), Math.max(0, slowCount));
+        }
+
+        private static int update(AtomicInteger counter, int outcome, int previous, int flag) {
+            int delta = (outcome & flag) - (previous & flag);
+            return delta == 0 ? counter.get() : counter.addAndGet(delta / flag);
+        }
+    }
+
+    /**
+     * A window of the last {@code size} seconds: a ring of one-second buckets, each packed in a {@code long} as a
+     * 16-bit epoch, telling which second the bucket belongs to, and three 16-bit counters. A bucket left from an
+     * older second is reset by the first outcome recorded in it. Counters saturate: once a bucket has recorded 65535
+     * calls, the following outcomes of the same second are ignored. The past buckets are only summed when the second
+     * changes, so recording an outcome reads the current bucket and the cached totals of the others.
+     */
+    private static final class TimeWindow implements Window {
+
+        private static final long BUCKET_NANOS = 1_000_000_000L;
+        private static final int MASK = 0xFFFF;
+
+        private final Config config;
+        private final AtomicLongArray buckets;
+        /**
+         * The totals of the buckets before the current second, summed once per second
+         */
+        private volatile Totals past = new Totals(Long.MIN_VALUE, 0, 0, 0);
+
+        TimeWindow(Config config) {
+            this.config = config;
+            this.buckets = new AtomicLongArray(config.windowSize);
+        }
+
+        @Override
+        public boolean record(boolean failure, boolean slow, long now) {
+            long second = Math.floorDiv(now, BUCKET_NANOS);
+            int index = (int) Math.floorMod(second, (long) buckets.length());
+            long epoch = second & MASK;
+            long increment = 1L << 32 | (failure ? 1L << 16 : 0) | (slow ? 1 : 0);
+            long current;
+            while (true) {
+                long bucket = buckets.get(index);
+                if (bucket >>> 48 != epoch) {
+                    current = epoch << 48 | increment;
+                } else if ((bucket >>> 32 & MASK) == MASK) {
+                    current = bucket;
+                    break;
+                } else {
+                    current = bucket + increment;
+                }
+                if (buckets.compareAndSet(index, bucket, current)) {
+                    break;
+                }
+            }
+            Totals totals = past;
+            if (totals.second != second) {
+                totals = sumPast(second, index, epoch);
+                past = totals;
+            }
+            return config.exceeded(totals.calls + (current >>> 32 & MASK), totals.failures + (current >>> 16 & MASK),
+                    totals.slowCalls + (current & MASK));
+        }
+
+        private Totals sumPast(long second, int index, long epoch) {
+            long calls = 0;
+            long failures = 0;
+            long slowCalls = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                long bucket = buckets.get(i);
+                if (i != index && (epoch - (bucket >>> 48) & MASK) < buckets.length()) {
+                    calls += bucket >>> 32 & MASK;
+                    failures += bucket >>> 16 & MASK;
+                    slowCalls += bucket & MASK;
+                }
+            }
+            return new Totals(second, calls, failures, slowCalls);
+        }
+    }
+
+    /**
+     * The number of calls, failures and slow calls in the buckets of a {@link TimeWindow} before {@code second}.
+     */
+    private static final class Totals {
+
+        private final long second;
+        private final long calls;
+        private final long failures;
+        private final long slowCalls;
+
+        Totals(long second, long calls, long failures, long slowCalls) {
+            this.second = second;
+            this.calls = calls;
+            this.failures = failures;
+            this.slowCalls = slowCalls;
+        }
+    }
+
+    /**
+     * <p>The immutable configuration of a {@link CircuitBreaker}. Each {@code with*} method returns a new
+     * instance. By default the breaker opens when at least half of the calls fail, as soon as the window holds
+     * {@code min(10, size)} calls, and stays open for 30 seconds, before letting 10 probe calls through. Slow calls
+     * are not taken into account.</p>
+     */
+    public static final class Config {
+
+        private final boolean timeBased;
+        private final int windowSize;
+        private final int minimumCalls;
+        private final double failureRateThreshold;
+        private final double slowCallRateThreshold;
+        private final long slowCallNanos;
+        private final long openDurationNanos;
+        private final int halfOpenCalls;
+        private final Predicate<? super Exception> recordFailureIf;
+
+        private Config(boolean timeBased, int windowSize, int minimumCalls, double failureRateThreshold,
+                       double slowCallRateThreshold, long slowCallNanos, long openDurationNanos, int halfOpenCalls,
+                       Predicate<? super Exception> recordFailureIf) {
+            this.timeBased = timeBased;
+            this.windowSize = windowSize;
+            this.minimumCalls = minimumCalls;
+            this.failureRateThreshold = failureRateThreshold;
+            this.slowCallRateThreshold = slowCallRateThreshold;
+            this.slowCallNanos = slowCallNanos;
+            this.openDurationNanos = openDurationNanos;
+            this.halfOpenCalls = halfOpenCalls;
+            this.recordFailureIf = recordFailureIf;
+        }
+
+        /**
+         * @param size the number of calls in the sliding window
+         * @return a configuration whose window holds the outcomes of the last {@code size} calls
+         */
+        public static Config countBased(int size) {
+            if (size <= 0 || size > Counts.MAX) {
+                throw new IllegalArgumentException("size must be between 1 and " + Counts.MAX + ": " + size);
+            }
+            return new Config(false, size, Math.min(10, size), 0.5, 1.0, Long.MAX_VALUE,
+                    Duration.ofSeconds(30).toNanos(), 10, exception -> true);
+        }
+
+        /**
+         * @param seconds the number of seconds in the sliding window
+         * @return a configuration whose window holds the outcomes of the calls ended in the last {@code seconds}
+         * seconds
+         */
+        public static Config timeBased(int seconds) {
+            if (seconds <= 0 || seconds > 3600) {
+                throw new IllegalArgumentException("seconds must be between 1 and 3600: " + seconds);
+            }
+            return new Config(true, seconds, 10, 0.5, 1.0, Long.MAX_VALUE,
+                    Duration.ofSeconds(30).toNanos(), 10, exception -> true);
+        }
+
+        /**
+         * @param minimumCalls the number of calls the window must hold before the rates are evaluated
+         * @return a copy of {@code this} with the given minimum number of calls
+         */
+        public Config withMinimumCalls(int minimumCalls) {
+            if (minimumCalls <= 0) {
+                throw new IllegalArgumentException("minimumCalls must be positive: " + minimumCalls);
+            }
+            return new Config(timeBased, windowSize, minimumCalls, failureRateThreshold, slowCallRateThreshold,
+                    slowCallNanos, openDurationNanos, halfOpenCalls, recordFailureIf);
+        }
+
+        /**
+         * @param threshold the failure rate, between 0 (exclusive) and 1 (inclusive), opening the breaker
+         * @return a copy of {@code this} with the given failure rate threshold
+         */
+        public Config withFailureRateThreshold(double threshold) {
+            return new Config(timeBased, windowSize, minimumCalls, checkRate(threshold), slowCallRateThreshold,
+                    slowCallNanos, openDurationNanos, halfOpenCalls, recordFailureIf);
+        }
+
+        /**
+         * @param threshold the slow call rate, between 0 (exclusive) and 1 (inclusive), opening the breaker
+         * @param duration  the duration from which a call is slow, whatever its outcome
+         * @return a copy of {@code this} with the given slow call rate threshold
+         */
+        public Config withSlowCallRateThreshold(double threshold, Duration duration) {
+            return new Config(timeBased, windowSize, minimumCalls, failureRateThreshold, checkRate(threshold),
+                    duration.toNanos(), openDurationNanos, halfOpenCalls, recordFailureIf);
+        }
+
+        /**
+         * @param duration how long the breaker stays open before letting probe calls through
+         * @return a copy of {@code this} with the given open duration
+         */
+        public Config withOpenDuration(Duration duration) {
+            return new Config(timeBased, windowSize, minimumCalls, failureRateThreshold, slowCallRateThreshold,
+                    slowCallNanos, duration.toNanos(), halfOpenCalls, recordFailureIf);
+        }
+
+        /**
+         * @param calls the number of probe calls let through while half-open, deciding whether the breaker closes
+         * @return a copy of {@code this} with the given number of probe calls
+         */
+        public Config withHalfOpenCalls(int calls) {
+            if (calls <= 0 || calls > Counts.MAX) {
+                throw new IllegalArgumentException("calls must be between 1 and " + Counts.MAX + ": " + calls);
+            }
+            return new Config(timeBased, windowSize, minimumCalls, failureRateThreshold, slowCallRateThreshold,
+                    slowCallNanos, openDurationNanos, calls, recordFailureIf);
+        }
+
+        /**
+         * @param predicate tells whether the exception of a {@link Try.Failure} counts as a failure of the
+         *                  dependency. Exceptions not satisfying it are recorded as successful calls
+         * @return a copy of {@code this} with the given predicate
+         */
+        public Config recordFailureIf(Predicate<? super Exception> predicate) {
+            return new Config(timeBased, windowSize, minimumCalls, failureRateThreshold, slowCallRateThreshold,
+                    slowCallNanos, openDurationNanos, halfOpenCalls, Objects.requireNonNull(predicate));
+        }
+
+        private static double checkRate(double rate) {
+            if (!(rate > 0 && rate <= 1)) {
+                throw new IllegalArgumentException("rate must be in (0, 1]: " + rate);
+            }
+            return rate;
+        }
+
+        private Window newWindow() {
+            return timeBased ? new TimeWindow(this) : new CountWindow(this);
+        }
+
+        private boolean exceeded(long calls, long failures, long slow) {
+            return calls >= minimumCalls && rateExceeded(calls, failures, slow);
+        }
+
+        private boolean rateExceeded(long calls, long failures, long slow) {
+            return failures >= failureRateThreshold * calls || slow >= slowCallRateThreshold * calls;
+        }
+    }
+}
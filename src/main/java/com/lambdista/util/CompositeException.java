@@ -0,0 +1,45 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Checked exception of the {@link com.lambdista.util.Try.Failure} of an operation made of independent attempts, all
+ * of which are reported. Every underlying exception is attached as a suppressed exception, in the order of the
+ * attempts.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class CompositeException extends Exception {
+
+    public CompositeException(String message, List<? extends Throwable> exceptions) {
+        super(message);
+        for (Throwable exception : exceptions) {
+            addSuppressed(exception);
+        }
+    }
+
+    /**
+     * @return the underlying exceptions, i.e. the suppressed ones
+     */
+    public List<Throwable> getExceptions() {
+        return Arrays.asList(getSuppressed());
+    }
+
+}
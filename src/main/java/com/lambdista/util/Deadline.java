@@ -0,0 +1,84 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>A point in time, measured with {@link System#nanoTime()}, after which a result is no longer worth computing.
+ * A deadline is created once, from the budget of the caller, and then passed along so that every piece of work
+ * uses what remains of the same budget.</p>
+ *
+ * <pre>
+ * Deadline deadline = Deadline.after(Duration.ofMillis(200));
+ * Try&lt;Order&gt; order = LazyTry.apply(() -&gt; orders.load(id))
+ *         .flatMap(o -&gt; LazyTry.fromTry(Try.applyWithin(deadline.remaining(), () -&gt; pricing.price(o))))
+ *         .evaluate(deadline);
+ * </pre>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ * @see LazyTry#evaluate(Deadline)
+ * @see Try#applyWithin(Duration, FailableSupplier)
+ */
+public final class Deadline {
+
+    private static final Duration MAX_BUDGET = Duration.ofNanos(Long.MAX_VALUE / 2);
+
+    private final long deadlineNanos;
+    private final LongSupplier nanoTime;
+
+    private Deadline(long deadlineNanos, LongSupplier nanoTime) {
+        this.deadlineNanos = deadlineNanos;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * @param budget the time available from now
+     * @return a deadline {@code budget} from now
+     */
+    public static Deadline after(Duration budget) {
+        return after(budget, System::nanoTime);
+    }
+
+    static Deadline after(Duration budget, LongSupplier nanoTime) {
+        // capped so that the difference with System.nanoTime() never overflows, as its javadoc requires
+        long nanos = budget.compareTo(MAX_BUDGET) > 0 ? MAX_BUDGET.toNanos() : budget.toNanos();
+        long deadline = nanoTime.getAsLong() + nanos;
+        return new Deadline(deadline, nanoTime);
+    }
+
+    /**
+     * @return {@code true} if the deadline has passed
+     */
+    public boolean isExpired() {
+        return deadlineNanos - nanoTime.getAsLong() <= 0;
+    }
+
+    /**
+     * @return the time left before the deadline, {@link Duration#ZERO} if it has passed
+     */
+    public Duration remaining() {
+        long remaining = deadlineNanos - nanoTime.getAsLong();
+        return remaining > 0 ? Duration.ofNanos(remaining) : Duration.ZERO;
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline{remaining=" + remaining() + '}';
+    }
+}
@@ -0,0 +1,521 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.OptionalDouble;
+import java.util.function.Function;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * <p>The {@code double} specialization of {@link Try}. A {@code DoubleTry} represents a computation that may fail and
+ * whose successful result is a primitive {@code double}, so that pipelining arithmetic operations through
+ * {@link DoubleTry#map(DoubleUnaryOperator)} does not box the intermediate values.</p>
+ *
+ * <p>Use {@link DoubleTry#apply(FailableDoubleSupplier)} to create one, {@link Try#mapToDouble(ToDoubleFunction)} to come from a
+ * {@code Try<T>} and {@link DoubleTry#mapToObj(DoubleFunction)} or {@link DoubleTry#boxed()} to go back.</p>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public abstract class DoubleTry {
+
+    /**
+     * Ensures that the only possible instances of this class
+     * are either {@link Success} or {@link Failure}
+     */
+    private DoubleTry() {
+    }
+
+    /**
+     * @return {@code true} if the {@code DoubleTry} is a {@code Success}, {@code false} if it's a {@code Failure}
+     */
+    public abstract boolean isSuccess();
+
+    /**
+     * @return {@code true} if the {@code DoubleTry} is a {@code Failure}, {@code false} if it's a {@code Success}
+     */
+    public abstract boolean isFailure();
+
+    /**
+     * @return the value wrapped within {@code Success} if it's a {@code Success} or throws
+     * the exception if {@code this} is a {@code Failure}
+     * @throws GetOfFailureException if {@code this} is a {@code Failure}
+     */
+    public abstract double getAsDouble() throws GetOfFailureException;
+
+    /**
+     * @return the value wrapped within {@code Success} if it's a {@code Success} or throws the exception if {@code
+     * this} is a {@code Failure}
+     * @throws Exception if {@code this} is a {@code Failure}
+     */
+    public abstract double checkedGetAsDouble() throws Exception;
+
+    /**
+     * Feeds the value to {@link DoubleConsumer}'s {@code accept} method if {@code this} is
+     * a {@link Success}. If {@code this} is a  {@link Failure} it takes no action
+     *
+     * @param action the {@link DoubleConsumer} to use
+     */
+    public abstract void forEach(DoubleConsumer action);
+
+    /**
+     * Maps the value by applying the {@code mapper} function to it if {@code this} is a {@link Success}
+     * otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value
+     * @return the result of applying {@code mapper} wrapped in a {@code DoubleTry} if it's a {@link Success} or
+     * {@code this} if it's a  {@link Failure}
+     */
+    public abstract DoubleTry map(DoubleUnaryOperator mapper);
+
+    /**
+     * Maps the value to a {@code int} by applying the {@code mapper} function to it if {@code this} is a
+     * {@link Success} otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value
+     * @return the result of applying {@code mapper} wrapped in a {@code IntTry} if it's a {@link Success} or
+     * a {@link IntTry.Failure} with the same exception if it's a  {@link Failure}
+     */
+    public abstract IntTry mapToInt(DoubleToIntFunction mapper);
+
+    /**
+     * Maps the value to a {@code long} by applying the {@code mapper} function to it if {@code this} is a
+     * {@link Success} otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value
+     * @return the result of applying {@code mapper} wrapped in a {@code LongTry} if it's a {@link Success} or
+     * a {@link LongTry.Failure} with the same exception if it's a  {@link Failure}
+     */
+    public abstract LongTry mapToLong(DoubleToLongFunction mapper);
+
+    /**
+     * Maps the value to an object by applying the {@code mapper} function to it if {@code this} is a
+     * {@link Success} otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value
+     * @param <U>    the type of the result
+     * @return the result of applying {@code mapper} wrapped in a {@code Try} if it's a {@link Success} or
+     * a {@link Try.Failure} with the same exception if it's a  {@link Failure}
+     */
+    public abstract <U> Try<U> mapToObj(DoubleFunction<? extends U> mapper);
+
+    /**
+     * Maps the value to a {@code DoubleTry} by applying the {@code mapper} function to it if {@code this} is a
+     * {@link Success} otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value which produces a {@code DoubleTry}
+     * @return the result of applying {@code mapper} if it's a {@link Success} or
+     * {@code this} if it's a  {@link Failure}
+     */
+    public abstract DoubleTry flatMap(DoubleFunction<? extends DoubleTry> mapper);
+
+    /**
+     * Converts {@code this} to a {@link Failure} if the predicate is not satisfied.
+     *
+     * @param predicate the {@link DoublePredicate} to use
+     * @return a {@code DoubleTry} which is a {@link Success} if {@code predicate}
+     * is satisfied or a {@link Failure} if either  {@code this}
+     * is already a {@link Failure} or the {@code predicate}
+     * is not satisfied.
+     */
+    public abstract DoubleTry filter(DoublePredicate predicate);
+
+    /**
+     * Applies the given function {@code recoverFunc} if {@code this} is a {@link Failure},
+     * otherwise returns {@code this} if {@code this} is a {@link Success}.
+     *
+     * @param recoverFunc the function to apply if {@code this} is a {@link Failure}
+     * @return a {@code DoubleTry} obtained by wrapping the result of applying {@code recoverFunc} to
+     * the {@link java.lang.Exception}
+     */
+    public abstract DoubleTry recover(ToDoubleFunction<? super Exception> recoverFunc);
+
+    /**
+     * Applies the given function {@code recoverFunc} if {@code this} is a {@link Failure},
+     * otherwise returns {@code this} if {@code this} is a {@link Success}.
+     *
+     * @param recoverFunc the function to apply if {@code this} is a {@link Failure}
+     * @return a {@code DoubleTry} obtained by applying {@code recoverFunc} to the {@link java.lang.Exception}
+     */
+    public abstract DoubleTry recoverWith(Function<? super Exception, ? extends DoubleTry> recoverFunc);
+
+    /**
+     * Converts this {@code DoubleTry} into a {@code java.util.OptionalDouble}
+     *
+     * @return an empty {@link OptionalDouble} if {@code this} is a {@link Failure}
+     * or one holding the value if {@code this} is a {@link Success}
+     */
+    public abstract OptionalDouble toOptional();
+
+    /**
+     * @param defaultValue the default value to return if {@code this} is a {@link Failure}
+     * @return the value from {@code this} {@link Success} or the given {@code defaultValue}
+     * argument if {@code this} is a {@link Failure}
+     */
+    public abstract double getOrElse(double defaultValue);
+
+    /**
+     * @param defaultValue the default value to return if {@code this} is a {@link Failure}
+     * @return {@code this} {@code DoubleTry} if it's a {@link Success} or the given {@code defaultValue}
+     * argument if {@code this} is a {@link Failure}
+     */
+    public abstract DoubleTry orElse(DoubleTry defaultValue);
+
+    /**
+     * @return {@code this} converted to a {@code Try<Double>}
+     */
+    public abstract Try<Double> boxed();
+
+    /**
+     * Constructs a {@code DoubleTry} using the {@link FailableDoubleSupplier} parameter. This
+     * method will ensure any non-fatal exception is caught and a {@link Failure} object is returned. Like
+     * {@link Try#apply(FailableSupplier)} it reports to the {@link TryListener} installed, if any.
+     *
+     * @param supplier the {@link FailableDoubleSupplier} to use
+     * @return a {@code DoubleTry} object (an instance of either {@link Success} or {@link Failure}
+     */
+    public static DoubleTry apply(FailableDoubleSupplier supplier) {
+        TryListener current = Try.getListener();
+        if (current != null) {
+            return applyInstrumented(supplier, current);
+        }
+        try {
+            return new Success(supplier.getAsDouble());
+        } catch (Exception e) {
+            return new Failure(e);
+        }
+    }
+
+    private static DoubleTry applyInstrumented(FailableDoubleSupplier supplier, TryListener listener) {
+        long start = System.nanoTime();
+        double value;
+        try {
+            value = supplier.getAsDouble();
+        } catch (Exception e) {
+            listener.onFailure(Try.APPLY, e, System.nanoTime() - start);
+            return new Failure(e);
+        }
+        listener.onSuccess(Try.APPLY, System.nanoTime() - start);
+        return new Success(value);
+    }
+
+    /**
+     * Represents the successful result of a computation
+     *
+     * @author Alessandro Lacava
+     * @since 2026-10-17
+     */
+    public static final class Success extends DoubleTry {
+
+        private final double value;
+
+        public Success(double value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return false;
+        }
+
+        @Override
+        public double getAsDouble() {
+            return value;
+        }
+
+        @Override
+        public double checkedGetAsDouble() {
+            return value;
+        }
+
+        @Override
+        public void forEach(DoubleConsumer action) {
+            action.accept(value);
+        }
+
+        @Override
+        public DoubleTry map(DoubleUnaryOperator mapper) {
+            try {
+                return new Success(mapper.applyAsDouble(value));
+            } catch (Exception e) {
+                return new Failure(e);
+            }
+        }
+
+        @Override
+        public IntTry mapToInt(DoubleToIntFunction mapper) {
+            try {
+                return new IntTry.Success(mapper.applyAsInt(value));
+            } catch (Exception e) {
+                return new IntTry.Failure(e);
+            }
+        }
+
+        @Override
+        public LongTry mapToLong(DoubleToLongFunction mapper) {
+            try {
+                return new LongTry.Success(mapper.applyAsLong(value));
+            } catch (Exception e) {
+                return new LongTry.Failure(e);
+            }
+        }
+
+        @Override
+        public <U> Try<U> mapToObj(DoubleFunction<? extends U> mapper) {
+            try {
+                return new Try.Success<>(mapper.apply(value));
+            } catch (Exception e) {
+                return new Try.Failure<>(e);
+            }
+        }
+
+        @Override
+        public DoubleTry flatMap(DoubleFunction<? extends DoubleTry> mapper) {
+            try {
+                return mapper.apply(value);
+            } catch (Exception e) {
+                return new Failure(e);
+            }
+        }
+
+        @Override
+        public DoubleTry filter(DoublePredicate predicate) {
+            try {
+                if (predicate.test(value)) {
+                    return this;
+                } else {
+                    return new Failure(Try.noSuchElement("Predicate does not hold for " + value));
+                }
+            } catch (Exception e) {
+                return new Failure(e);
+            }
+        }
+
+        @Override
+        public DoubleTry recover(ToDoubleFunction<? super Exception> recoverFunc) {
+            return this;
+        }
+
+        @Override
+        public DoubleTry recoverWith(Function<? super Exception, ? extends DoubleTry> recoverFunc) {
+            return this;
+        }
+
+        @Override
+        public OptionalDouble toOptional() {
+            return OptionalDouble.of(value);
+        }
+
+        @Override
+        public double getOrElse(double defaultValue) {
+            return value;
+        }
+
+        @Override
+        public DoubleTry orElse(DoubleTry defaultValue) {
+            return this;
+        }
+
+        @Override
+        public Try<Double> boxed() {
+            return new Try.Success<>(value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Success success = (Success) o;
+
+            return Double.compare(value, success.value) == 0;
+
+        }
+
+        @Override
+        public int hashCode() {
+            return Double.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return "Success{" +
+                    "value=" + value +
+                    '}';
+        }
+    }
+
+    /**
+     * Represents the failed result of a computation
+     *
+     * @author Alessandro Lacava
+     * @since 2026-10-17
+     */
+    public static final class Failure extends DoubleTry {
+
+        private final Exception exception;
+
+        public Failure(Exception exception) {
+            this(exception, true);
+        }
+
+        /**
+         * @param exception the exception
+         * @param report    {@code false} when {@code exception} comes from a failure of another type, which already
+         *                  reported it to JFR
+         */
+        Failure(Exception exception, boolean report) {
+            this.exception = exception;
+            if (report) {
+                JfrEvents.failureCreated(exception);
+            }
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return true;
+        }
+
+        @Override
+        public double getAsDouble() {
+            throw new GetOfFailureException(exception);
+        }
+
+        @Override
+        public double checkedGetAsDouble() throws Exception {
+            throw exception;
+        }
+
+        @Override
+        public void forEach(DoubleConsumer action) {
+        }
+
+        @Override
+        public DoubleTry map(DoubleUnaryOperator mapper) {
+            return this;
+        }
+
+        @Override
+        public IntTry mapToInt(DoubleToIntFunction mapper) {
+            return new IntTry.Failure(exception, false);
+        }
+
+        @Override
+        public LongTry mapToLong(DoubleToLongFunction mapper) {
+            return new LongTry.Failure(exception, false);
+        }
+
+        @Override
+        public <U> Try<U> mapToObj(DoubleFunction<? extends U> mapper) {
+            return new Try.Failure<>(exception, false);
+        }
+
+        @Override
+        public DoubleTry flatMap(DoubleFunction<? extends DoubleTry> mapper) {
+            return this;
+        }
+
+        @Override
+        public DoubleTry filter(DoublePredicate predicate) {
+            return this;
+        }
+
+        @Override
+        public DoubleTry recover(ToDoubleFunction<? super Exception> recoverFunc) {
+            Try.notifyRecover(exception);
+            Object event = JfrEvents.recoverStarted();
+            try {
+                return new Success(recoverFunc.applyAsDouble(exception));
+            } catch (Exception e) {
+                return new Failure(e);
+            } finally {
+                JfrEvents.recoverEnded(event, exception, "recover");
+            }
+        }
+
+        @Override
+        public DoubleTry recoverWith(Function<? super Exception, ? extends DoubleTry> recoverFunc) {
+            Try.notifyRecover(exception);
+            Object event = JfrEvents.recoverStarted();
+            try {
+                return recoverFunc.apply(exception);
+            } catch (Exception e) {
+                return new Failure(e);
+            } finally {
+                JfrEvents.recoverEnded(event, exception, "recoverWith");
+            }
+        }
+
+        @Override
+        public OptionalDouble toOptional() {
+            return OptionalDouble.empty();
+        }
+
+        @Override
+        public double getOrElse(double defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public DoubleTry orElse(DoubleTry defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public Try<Double> boxed() {
+            return new Try.Failure<>(exception, false);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Failure failure = (Failure) o;
+
+            return failure.exception.equals(exception);
+
+        }
+
+        @Override
+        public int hashCode() {
+            return exception.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "Failure{" +
+                    "exception=" + exception +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.DoubleStream;
+
+/**
+ * <p>The {@code double} specialization of {@link TryBatch}: the values of the successful elements are stored in a
+ * primitive {@code double[]}, so numeric workloads neither box nor chase pointers.</p>
+ *
+ * <p>Use {@link DoubleTryBatch#apply(List, ToDoubleFunction)} to create one, {@link TryBatch#mapToDouble(ToDoubleFunction)} to
+ * come from a {@code TryBatch<T>} and {@link DoubleTryBatch#boxed()} to go back.</p>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public final class DoubleTryBatch {
+
+    private final int size;
+    private final BitSet successes;
+    private final double[] values;
+    private final SparseFailures failures;
+
+    DoubleTryBatch(int size, BitSet successes, double[] values, SparseFailures failures) {
+        this.size = size;
+        this.successes = successes;
+        this.values = values;
+        this.failures = failures;
+    }
+
+    /**
+     * Applies {@code function} to each of {@code inputs}.
+     *
+     * @param inputs   the inputs of the operations
+     * @param function the function to apply
+     * @param <A>      the type of the inputs
+     * @return a batch holding the outcome of each operation, in the order of {@code inputs}
+     */
+    public static <A> DoubleTryBatch apply(List<? extends A> inputs, ToDoubleFunction<? super A> function) {
+        int size = inputs.size();
+        BitSet successes = new BitSet(size);
+        double[] values = new double[size];
+        Iterator<? extends A> input = inputs.iterator();
+        SparseFailures failures = SparseFailures.NONE.visitSuccesses(size, successes,
+                i -> values[i] = function.applyAsDouble(input.next()));
+        return new DoubleTryBatch(size, successes, values, failures);
+    }
+
+    /**
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of successful elements
+     */
+    public int successCount() {
+        return size - failures.count();
+    }
+
+    /**
+     * @return the number of failed elements
+     */
+    public int failureCount() {
+        return failures.count();
+    }
+
+    /**
+     * @param index the index of the element
+     * @return {@code true} if the element at {@code index} is a success
+     */
+    public boolean isSuccess(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        return successes.get(index);
+    }
+
+    /**
+     * @param index the index of the element
+     * @return the value of the element at {@code index}
+     * @throws java.util.NoSuchElementException if the element is a failure
+     */
+    public double getAsDouble(int index) {
+        if (!isSuccess(index)) {
+            throw Try.noSuchElement("Element " + index + " is a failure");
+        }
+        return values[index];
+    }
+
+    /**
+     * @param index the index of the element
+     * @return the exception of the element at {@code index}
+     * @throws java.util.NoSuchElementException if the element is a success
+     */
+    public Exception exception(int index) {
+        if (isSuccess(index)) {
+            throw Try.noSuchElement("Element " + index + " is a success");
+        }
+        return failures.get(index);
+    }
+
+    /**
+     * @param index the index of the element
+     * @return the element at {@code index} as an {@link DoubleTry}, which is allocated by this call
+     */
+    public DoubleTry get(int index) {
+        return isSuccess(index) ? new DoubleTry.Success(values[index]) : new DoubleTry.Failure(failures.get(index));
+    }
+
+    /**
+     * Maps the value of each successful element. An exception thrown by {@code mapper} turns the element into a
+     * failure; failed elements stay as they are.
+     *
+     * @param mapper the function to apply to each value
+     * @return a new batch
+     */
+    public DoubleTryBatch map(DoubleUnaryOperator mapper) {
+        BitSet mapped = new BitSet(size);
+        double[] results = new double[size];
+        SparseFailures newFailures = failures.visitSuccesses(size, mapped,
+                i -> results[i] = mapper.applyAsDouble(values[i]));
+        return new DoubleTryBatch(size, mapped, results, newFailures);
+    }
+
+    /**
+     * Turns the successful elements not satisfying {@code predicate} into failures of
+     * {@link java.util.NoSuchElementException}.
+     *
+     * @param predicate the {@link DoublePredicate} to use
+     * @return a new batch
+     */
+    public DoubleTryBatch filter(DoublePredicate predicate) {
+        BitSet kept = new BitSet(size);
+        double[] results = new double[size];
+        SparseFailures newFailures = failures.visitSuccesses(size, kept, i -> {
+            if (!predicate.test(values[i])) {
+                throw Try.noSuchElement("Predicate does not hold for " + values[i]);
+            }
+            results[i] = values[i];
+        });
+        return new DoubleTryBatch(size, kept, results, newFailures);
+    }
+
+    /**
+     * Replaces each failed element by the value {@code recoverFunc} computes from its exception. An exception
+     * thrown by {@code recoverFunc} becomes the new exception of the element.
+     *
+     * @param recoverFunc the function to apply to each exception
+     * @return a new batch
+     */
+    public DoubleTryBatch recover(ToDoubleFunction<? super Exception> recoverFunc) {
+        if (failures.count() == 0) {
+            return this;
+        }
+        BitSet recovered = (BitSet) successes.clone();
+        double[] results = values.clone();
+        SparseFailures newFailures = failures.visitFailures(recovered,
+                (i, exception) -> results[i] = recoverFunc.applyAsDouble(exception));
+        return new DoubleTryBatch(size, recovered, results, newFailures);
+    }
+
+    /**
+     * Feeds the value of each successful element, in index order, to {@code action}.
+     *
+     * @param action the {@link DoubleConsumer} to use
+     */
+    public void forEachSuccess(DoubleConsumer action) {
+        for (int i = successes.nextSetBit(0); i >= 0; i = successes.nextSetBit(i + 1)) {
+            action.accept(values[i]);
+        }
+    }
+
+    /**
+     * @return a {@link DoubleStream} of the values of the successful elements, in index order
+     */
+    public DoubleStream successes() {
+        return successes.stream().mapToDouble(i -> values[i]);
+    }
+
+    /**
+     * @return the sum of the values of the successful elements
+     */
+    public double sum() {
+        double sum = 0;
+        for (int i = successes.nextSetBit(0); i >= 0; i = successes.nextSetBit(i + 1)) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    /**
+     * @return a {@link Try.Success} of a copy of the values if every element succeeded, otherwise a
+     * {@link Try.Failure} of the exception of the first failed element
+     */
+    public Try<double[]> toTry() {
+        return failures.count() > 0 ? new Try.Failure<>(failures.exceptionAt(0)) : new Try.Success<>(values.clone());
+    }
+
+    /**
+     * @return a {@link TryBatch} of the boxed values
+     */
+    public TryBatch<Double> boxed() {
+        Object[] boxed = new Object[size];
+        for (int i = successes.nextSetBit(0); i >= 0; i = successes.nextSetBit(i + 1)) {
+            boxed[i] = values[i];
+        }
+        return new TryBatch<>(size, (BitSet) successes.clone(), boxed, failures);
+    }
+
+    @Override
+    public String toString() {
+        return "DoubleTryBatch{size=" + size + ", failures=" + failures.count() + '}';
+    }
+}
@@ -0,0 +1,521 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.OptionalInt;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * <p>The {@code int} specialization of {@link Try}. A {@code IntTry} represents a computation that may fail and
+ * whose successful result is a primitive {@code int}, so that pipelining arithmetic operations through
+ * {@link IntTry#map(IntUnaryOperator)} does not box the intermediate values.</p>
+ *
+ * <p>Use {@link IntTry#apply(FailableIntSupplier)} to create one, {@link Try#mapToInt(ToIntFunction)} to come from a
+ * {@code Try<T>} and {@link IntTry#mapToObj(IntFunction)} or {@link IntTry#boxed()} to go back.</p>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public abstract class IntTry {
+
+    /**
+     * Ensures that the only possible instances of this class
+     * are either {@link Success} or {@link Failure}
+     */
+    private IntTry() {
+    }
+
+    /**
+     * @return {@code true} if the {@code IntTry} is a {@code Success}, {@code false} if it's a {@code Failure}
+     */
+    public abstract boolean isSuccess();
+
+    /**
+     * @return {@code true} if the {@code IntTry} is a {@code Failure}, {@code false} if it's a {@code Success}
+     */
+    public abstract boolean isFailure();
+
+    /**
+     * @return the value wrapped within {@code Success} if it's a {@code Success} or throws
+     * the exception if {@code this} is a {@code Failure}
+     * @throws GetOfFailureException if {@code this} is a {@code Failure}
+     */
+    public abstract int getAsInt() throws GetOfFailureException;
+
+    /**
+     * @return the value wrapped within {@code Success} if it's a {@code Success} or throws the exception if {@code
+     * this} is a {@code Failure}
+     * @throws Exception if {@code this} is a {@code Failure}
+     */
+    public abstract int checkedGetAsInt() throws Exception;
+
+    /**
+     * Feeds the value to {@link IntConsumer}'s {@code accept} method if {@code this} is
+     * a {@link Success}. If {@code this} is a  {@link Failure} it takes no action
+     *
+     * @param action the {@link IntConsumer} to use
+     */
+    public abstract void forEach(IntConsumer action);
+
+    /**
+     * Maps the value by applying the {@code mapper} function to it if {@code this} is a {@link Success}
+     * otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value
+     * @return the result of applying {@code mapper} wrapped in a {@code IntTry} if it's a {@link Success} or
+     * {@code this} if it's a  {@link Failure}
+     */
+    public abstract IntTry map(IntUnaryOperator mapper);
+
+    /**
+     * Maps the value to a {@code long} by applying the {@code mapper} function to it if {@code this} is a
+     * {@link Success} otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value
+     * @return the result of applying {@code mapper} wrapped in a {@code LongTry} if it's a {@link Success} or
+     * a {@link LongTry.Failure} with the same exception if it's a  {@link Failure}
+     */
+    public abstract LongTry mapToLong(IntToLongFunction mapper);
+
+    /**
+     * Maps the value to a {@code double} by applying the {@code mapper} function to it if {@code this} is a
+     * {@link Success} otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value
+     * @return the result of applying {@code mapper} wrapped in a {@code DoubleTry} if it's a {@link Success} or
+     * a {@link DoubleTry.Failure} with the same exception if it's a  {@link Failure}
+     */
+    public abstract DoubleTry mapToDouble(IntToDoubleFunction mapper);
+
+    /**
+     * Maps the value to an object by applying the {@code mapper} function to it if {@code this} is a
+     * {@link Success} otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value
+     * @param <U>    the type of the result
+     * @return the result of applying {@code mapper} wrapped in a {@code Try} if it's a {@link Success} or
+     * a {@link Try.Failure} with the same exception if it's a  {@link Failure}
+     */
+    public abstract <U> Try<U> mapToObj(IntFunction<? extends U> mapper);
+
+    /**
+     * Maps the value to a {@code IntTry} by applying the {@code mapper} function to it if {@code this} is a
+     * {@link Success} otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value which produces a {@code IntTry}
+     * @return the result of applying {@code mapper} if it's a {@link Success} or
+     * {@code this} if it's a  {@link Failure}
+     */
+    public abstract IntTry flatMap(IntFunction<? extends IntTry> mapper);
+
+    /**
+     * Converts {@code this} to a {@link Failure} if the predicate is not satisfied.
+     *
+     * @param predicate the {@link IntPredicate} to use
+     * @return a {@code IntTry} which is a {@link Success} if {@code predicate}
+     * is satisfied or a {@link Failure} if either  {@code this}
+     * is already a {@link Failure} or the {@code predicate}
+     * is not satisfied.
+     */
+    public abstract IntTry filter(IntPredicate predicate);
+
+    /**
+     * Applies the given function {@code recoverFunc} if {@code this} is a {@link Failure},
+     * otherwise returns {@code this} if {@code this} is a {@link Success}.
+     *
+     * @param recoverFunc the function to apply if {@code this} is a {@link Failure}
+     * @return a {@code IntTry} obtained by wrapping the result of applying {@code recoverFunc} to
+     * the {@link java.lang.Exception}
+     */
+    public abstract IntTry recover(ToIntFunction<? super Exception> recoverFunc);
+
+    /**
+     * Applies the given function {@code recoverFunc} if {@code this} is a {@link Failure},
+     * otherwise returns {@code this} if {@code this} is a {@link Success}.
+     *
+     * @param recoverFunc the function to apply if {@code this} is a {@link Failure}
+     * @return a {@code IntTry} obtained by applying {@code recoverFunc} to the {@link java.lang.Exception}
+     */
+    public abstract IntTry recoverWith(Function<? super Exception, ? extends IntTry> recoverFunc);
+
+    /**
+     * Converts this {@code IntTry} into a {@code java.util.OptionalInt}
+     *
+     * @return an empty {@link OptionalInt} if {@code this} is a {@link Failure}
+     * or one holding the value if {@code this} is a {@link Success}
+     */
+    public abstract OptionalInt toOptional();
+
+    /**
+     * @param defaultValue the default value to return if {@code this} is a {@link Failure}
+     * @return the value from {@code this} {@link Success} or the given {@code defaultValue}
+     * argument if {@code this} is a {@link Failure}
+     */
+    public abstract int getOrElse(int defaultValue);
+
+    /**
+     * @param defaultValue the default value to return if {@code this} is a {@link Failure}
+     * @return {@code this} {@code IntTry} if it's a {@link Success} or the given {@code defaultValue}
+     * argument if {@code this} is a {@link Failure}
+     */
+    public abstract IntTry orElse(IntTry defaultValue);
+
+    /**
+     * @return {@code this} converted to a {@code Try<Integer>}
+     */
+    public abstract Try<Integer> boxed();
+
+    /**
+     * Constructs a {@code IntTry} using the {@link FailableIntSupplier} parameter. This
+     * method will ensure any non-fatal exception is caught and a {@link Failure} object is returned. Like
+     * {@link Try#apply(FailableSupplier)} it reports to the {@link TryListener} installed, if any.
+     *
+     * @param supplier the {@link FailableIntSupplier} to use
+     * @return a {@code IntTry} object (an instance of either {@link Success} or {@link Failure}
+     */
+    public static IntTry apply(FailableIntSupplier supplier) {
+        TryListener current = Try.getListener();
+        if (current != null) {
+            return applyInstrumented(supplier, current);
+        }
+        try {
+            return new Success(supplier.getAsInt());
+        } catch (Exception e) {
+            return new Failure(e);
+        }
+    }
+
+    private static IntTry applyInstrumented(FailableIntSupplier supplier, TryListener listener) {
+        long start = System.nanoTime();
+        int value;
+        try {
+            value = supplier.getAsInt();
+        } catch (Exception e) {
+            listener.onFailure(Try.APPLY, e, System.nanoTime() - start);
+            return new Failure(e);
+        }
+        listener.onSuccess(Try.APPLY, System.nanoTime() - start);
+        return new Success(value);
+    }
+
+    /**
+     * Represents the successful result of a computation
+     *
+     * @author Alessandro Lacava
+     * @since 2026-10-17
+     */
+    public static final class Success extends IntTry {
+
+        private final int value;
+
+        public Success(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return false;
+        }
+
+        @Override
+        public int getAsInt() {
+            return value;
+        }
+
+        @Override
+        public int checkedGetAsInt() {
+            return value;
+        }
+
+        @Override
+        public void forEach(IntConsumer action) {
+            action.accept(value);
+        }
+
+        @Override
+        public IntTry map(IntUnaryOperator mapper) {
+            try {
+                return new Success(mapper.applyAsInt(value));
+            } catch (Exception e) {
+                return new Failure(e);
+            }
+        }
+
+        @Override
+        public LongTry mapToLong(IntToLongFunction mapper) {
+            try {
+                return new LongTry.Success(mapper.applyAsLong(value));
+            } catch (Exception e) {
+                return new LongTry.Failure(e);
+            }
+        }
+
+        @Override
+        public DoubleTry mapToDouble(IntToDoubleFunction mapper) {
+            try {
+                return new DoubleTry.Success(mapper.applyAsDouble(value));
+            } catch (Exception e) {
+                return new DoubleTry.Failure(e);
+            }
+        }
+
+        @Override
+        public <U> Try<U> mapToObj(IntFunction<? extends U> mapper) {
+            try {
+                return new Try.Success<>(mapper.apply(value));
+            } catch (Exception e) {
+                return new Try.Failure<>(e);
+            }
+        }
+
+        @Override
+        public IntTry flatMap(IntFunction<? extends IntTry> mapper) {
+            try {
+                return mapper.apply(value);
+            } catch (Exception e) {
+                return new Failure(e);
+            }
+        }
+
+        @Override
+        public IntTry filter(IntPredicate predicate) {
+            try {
+                if (predicate.test(value)) {
+                    return this;
+                } else {
+                    return new Failure(Try.noSuchElement("Predicate does not hold for " + value));
+                }
+            } catch (Exception e) {
+                return new Failure(e);
+            }
+        }
+
+        @Override
+        public IntTry recover(ToIntFunction<? super Exception> recoverFunc) {
+            return this;
+        }
+
+        @Override
+        public IntTry recoverWith(Function<? super Exception, ? extends IntTry> recoverFunc) {
+            return this;
+        }
+
+        @Override
+        public OptionalInt toOptional() {
+            return OptionalInt.of(value);
+        }
+
+        @Override
+        public int getOrElse(int defaultValue) {
+            return value;
+        }
+
+        @Override
+        public IntTry orElse(IntTry defaultValue) {
+            return this;
+        }
+
+        @Override
+        public Try<Integer> boxed() {
+            return new Try.Success<>(value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Success success = (Success) o;
+
+            return Integer.compare(value, success.value) == 0;
+
+        }
+
+        @Override
+        public int hashCode() {
+            return Integer.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return "Success{" +
+                    "value=" + value +
+                    '}';
+        }
+    }
+
+    /**
+     * Represents the failed result of a computation
+     *
+     * @author Alessandro Lacava
+     * @since 2026-10-17
+     */
+    public static final class Failure extends IntTry {
+
+        private final Exception exception;
+
+        public Failure(Exception exception) {
+            this(exception, true);
+        }
+
+        /**
+         * @param exception the exception
+         * @param report    {@code false} when {@code exception} comes from a failure of another type, which already
+         *                  reported it to JFR
+         */
+        Failure(Exception exception, boolean report) {
+            this.exception = exception;
+            if (report) {
+                JfrEvents.failureCreated(exception);
+            }
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return true;
+        }
+
+        @Override
+        public int getAsInt() {
+            throw new GetOfFailureException(exception);
+        }
+
+        @Override
+        public int checkedGetAsInt() throws Exception {
+            throw exception;
+        }
+
+        @Override
+        public void forEach(IntConsumer action) {
+        }
+
+        @Override
+        public IntTry map(IntUnaryOperator mapper) {
+            return this;
+        }
+
+        @Override
+        public LongTry mapToLong(IntToLongFunction mapper) {
+            return new LongTry.Failure(exception, false);
+        }
+
+        @Override
+        public DoubleTry mapToDouble(IntToDoubleFunction mapper) {
+            return new DoubleTry.Failure(exception, false);
+        }
+
+        @Override
+        public <U> Try<U> mapToObj(IntFunction<? extends U> mapper) {
+            return new Try.Failure<>(exception, false);
+        }
+
+        @Override
+        public IntTry flatMap(IntFunction<? extends IntTry> mapper) {
+            return this;
+        }
+
+        @Override
+        public IntTry filter(IntPredicate predicate) {
+            return this;
+        }
+
+        @Override
+        public IntTry recover(ToIntFunction<? super Exception> recoverFunc) {
+            Try.notifyRecover(exception);
+            Object event = JfrEvents.recoverStarted();
+            try {
+                return new Success(recoverFunc.applyAsInt(exception));
+            } catch (Exception e) {
+                return new Failure(e);
+            } finally {
+                JfrEvents.recoverEnded(event, exception, "recover");
+            }
+        }
+
+        @Override
+        public IntTry recoverWith(Function<? super Exception, ? extends IntTry> recoverFunc) {
+            Try.notifyRecover(exception);
+            Object event = JfrEvents.recoverStarted();
+            try {
+                return recoverFunc.apply(exception);
+            } catch (Exception e) {
+                return new Failure(e);
+            } finally {
+                JfrEvents.recoverEnded(event, exception, "recoverWith");
+            }
+        }
+
+        @Override
+        public OptionalInt toOptional() {
+            return OptionalInt.empty();
+        }
+
+        @Override
+        public int getOrElse(int defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public IntTry orElse(IntTry defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public Try<Integer> boxed() {
+            return new Try.Failure<>(exception, false);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Failure failure = (Failure) o;
+
+            return failure.exception.equals(exception);
+
+        }
+
+        @Override
+        public int hashCode() {
+            return exception.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "Failure{" +
+                    "exception=" + exception +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+/**
+ * Entry point to the JDK Flight Recorder events of this library. The event classes are only loaded when the
+ * runtime provides the {@code jdk.jfr} API, so this class is safe to use on Java 8 runtimes without it. When JFR
+ * is not recording each method costs a disabled-event check.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+final class JfrEvents {
+
+    private static final boolean AVAILABLE = isAvailable();
+
+    private JfrEvents() {
+    }
+
+    static void failureCreated(Exception exception) {
+        if (AVAILABLE) {
+            Emitter.failureCreated(exception);
+        }
+    }
+
+    /**
+     * @return a token to pass to {@link JfrEvents#recoverEnded(Object, Exception, String)}, {@code null} if the
+     * event is not enabled
+     */
+    static Object recoverStarted() {
+        return AVAILABLE ? Emitter.recoverStarted() : null;
+    }
+
+    static void recoverEnded(Object token, Exception exception, String method) {
+        if (token != null) {
+            Emitter.recoverEnded(token, exception, method);
+        }
+    }
+
+    private static boolean isAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, JfrEvents.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * The only class referring to the event classes, loaded only if {@link JfrEvents#AVAILABLE}
+     */
+    private static final class Emitter {
+
+        static void failureCreated(Exception exception) {
+            TryFailureEvent.emit(exception);
+        }
+
+        static Object recoverStarted() {
+            return TryRecoverEvent.start();
+        }
+
+        static void recoverEnded(Object token, Exception exception, String method) {
+            ((TryRecoverEvent) token).end(exception, method);
+        }
+    }
+}
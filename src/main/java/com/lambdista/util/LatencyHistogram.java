@@ -0,0 +1,172 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A fixed-memory histogram of non negative {@code long} values (e.g. latencies in nanoseconds) in the style of
+ * HdrHistogram: values are counted in buckets whose width grows with the magnitude of the value, so that every
+ * value is recorded with a relative error below {@code 1 / 32} (about 3%) across the whole {@code long} range.
+ * Recording is lock-free. Like a {@link java.util.concurrent.atomic.LongAdder}, the histogram starts with a single
+ * array of counts and, when recording threads contend, adds stripes, up to the number of processors, so that
+ * concurrent threads update different arrays; reads add the stripes up.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private static final int MAX_STRIPES = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1);
+
+    private final AtomicReference<AtomicLongArray[]> stripes =
+            new AtomicReference<>(new AtomicLongArray[]{new AtomicLongArray(BUCKETS)});
+
+    /**
+     * @param value the value to record. Negative values are recorded as 0.
+     */
+    public void record(long value) {
+        int index = indexOf(Math.max(0, value));
+        AtomicLongArray[] current = stripes.get();
+        AtomicLongArray counts = current[stripeOf(Thread.currentThread(), current.length)];
+        long count = counts.get(index);
+        if (!counts.compareAndSet(index, count, count + 1)) {
+            counts.incrementAndGet(index);
+            if (current.length < MAX_STRIPES) {
+                grow(current);
+            }
+        }
+    }
+
+    private void grow(AtomicLongArray[] current) {
+        AtomicLongArray[] grown = new AtomicLongArray[current.length * 2];
+        System.arraycopy(current, 0, grown, 0, current.length);
+        for (int i = current.length; i < grown.length; i++) {
+            grown[i] = new AtomicLongArray(BUCKETS);
+        }
+        stripes.compareAndSet(current, grown);
+    }
+
+    private static int stripeOf(Thread thread, int stripeCount) {
+        long hash = thread.getId() * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & (stripeCount - 1);
+    }
+
+    private long[] snapshot() {
+        long[] snapshot = new long[BUCKETS];
+        for (AtomicLongArray counts : stripes.get()) {
+            for (int i = 0; i < BUCKETS; i++) {
+                snapshot[i] += counts.get(i);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * @return the number of values recorded
+     */
+    public long count() {
+        long total = 0;
+        for (long count : snapshot()) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * @return an upper bound of the largest value recorded, 0 if none was
+     */
+    public long max() {
+        long[] snapshot = snapshot();
+        for (int i = BUCKETS - 1; i >= 0; i--) {
+            if (snapshot[i] > 0) {
+                return highestEquivalentValue(i);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @param percentile the percentile, between 0 and 100
+     * @return the value at the given percentile, i.e. an upper bound of the value which {@code percentile}% of the
+     * recorded values do not exceed, 0 if no value was recorded
+     */
+    public long valueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100: " + percentile);
+        }
+        long[] snapshot = snapshot();
+        long total = 0;
+        for (long count : snapshot) {
+            total += count;
+        }
+        long target = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= target) {
+                return highestEquivalentValue(i);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Clears every recorded value.
+     */
+    public void reset() {
+        for (AtomicLongArray counts : stripes.get()) {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts.set(i, 0);
+            }
+        }
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        long subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        long lowest = (SUB_BUCKETS + subBucket) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram{" +
+                "count=" + count() +
+                ", p50=" + valueAtPercentile(50) +
+                ", p99=" + valueAtPercentile(99) +
+                ", max=" + max() +
+                '}';
+    }
+}
@@ -0,0 +1,379 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * <p>A deferred {@link Try}. Unlike {@code Try}, whose combinators run as soon as they are called, a
+ * {@code LazyTry} just records its {@code map/flatMap/filter/recover/recoverWith} stages and runs them only when
+ * {@link LazyTry#evaluate()} is invoked.</p>
+ *
+ * <p>Evaluation happens in a single loop using an explicit stack of pending stages instead of the call stack, so
+ * arbitrarily long chains and recursive {@code flatMap}s (see {@link LazyTry#tailRecM(Object, Function)}) cannot
+ * overflow it. Adjacent {@code map} stages are applied one after the other on the raw value, therefore no
+ * intermediate {@link Try.Success} is allocated: the only {@code Try} created is the final result.</p>
+ *
+ * <pre>
+ * LazyTry&lt;Integer&gt; sum = LazyTry.apply(() -&gt; Integer.parseInt(input))
+ *         .map(i -&gt; i + 1)
+ *         .filter(i -&gt; i &gt; 0);
+ *
+ * Try&lt;Integer&gt; result = sum.evaluate();
+ * </pre>
+ *
+ * A {@code LazyTry} is immutable and can be evaluated many times; each evaluation runs the stages again.
+ *
+ * @param <T> the type returned by the computation
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public final class LazyTry<T> {
+
+    private static final int SUCCESS = 0;
+    private static final int FAILURE = 1;
+    private static final int SUSPEND = 2;
+    private static final int MAP = 3;
+    private static final int FLAT_MAP = 4;
+    private static final int FILTER = 5;
+    private static final int RECOVER = 6;
+    private static final int RECOVER_WITH = 7;
+
+    private final int tag;
+    private final LazyTry<?> source;
+    private final Object payload;
+
+    private LazyTry(int tag, LazyTry<?> source, Object payload) {
+        this.tag = tag;
+        this.source = source;
+        this.payload = payload;
+    }
+
+    /**
+     * Constructs a {@code LazyTry} that will call the {@link FailableSupplier} parameter when evaluated.
+     *
+     * @param supplier the {@link FailableSupplier} to use
+     * @param <T>      the type returned by the {@link FailableSupplier}
+     * @return a {@code LazyTry} wrapping {@code supplier}
+     */
+    public static <T> LazyTry<T> apply(FailableSupplier<T> supplier) {
+        return new LazyTry<>(SUSPEND, null, supplier);
+    }
+
+    /**
+     * @param value the successful value
+     * @param <T>   the type of the value
+     * @return a {@code LazyTry} which evaluates to a {@link Try.Success} of {@code value}
+     */
+    public static <T> LazyTry<T> success(T value) {
+        return new LazyTry<>(SUCCESS, null, value);
+    }
+
+    /**
+     * @param exception the exception to fail with
+     * @param <T>       the type of the computation
+     * @return a {@code LazyTry} which evaluates to a {@link Try.Failure} of {@code exception}
+     */
+    public static <T> LazyTry<T> failure(Exception exception) {
+        return new LazyTry<>(FAILURE, null, exception);
+    }
+
+    /**
+     * @param result an already evaluated {@code Try}
+     * @param <T>    the type of the computation
+     * @return a {@code LazyTry} which evaluates to the same outcome as {@code result}
+     */
+    public static <T> LazyTry<T> fromTry(Try<T> result) {
+        return result.isSuccess() ? success(result.get()) : failure(result.failed().get());
+    }
+
+    /**
+     * Runs {@code step} starting from {@code initial} until it returns a {@link Step#done(Object)}, feeding each
+     * {@link Step#more(Object)} back into it. The loop runs in constant stack space, so it is suitable for retry
+     * or pagination loops running for millions of iterations. It stops at the first failed step.
+     *
+     * @param initial the initial state
+     * @param step    the function computing the next step from the current state
+     * @param <A>     the type of the state
+     * @param <B>     the type of the result
+     * @return a {@code LazyTry} evaluating to the value of the first {@link Step#done(Object)}
+     */
+    public static <A, B> LazyTry<B> tailRecM(A initial, Function<? super A, LazyTry<Step<A, B>>> step) {
+        return LazyTry.<A>success(initial).flatMap(a -> step.apply(a).flatMap(
+                s -> s.done ? LazyTry.<B>success(s.result) : tailRecM(s.state, step)));
+    }
+
+    /**
+     * Records a stage mapping the value of type {@code T} to a value of type {@code U}.
+     *
+     * @param mapper a function to apply to the value of type {@code T}
+     * @param <U>    the type of the result
+     * @return a new {@code LazyTry}
+     * @see Try#map(Function)
+     */
+    public <U> LazyTry<U> map(Function<? super T, ? extends U> mapper) {
+        return new LazyTry<>(MAP, this, mapper);
+    }
+
+    /**
+     * Records a stage mapping the value of type {@code T} to a {@code LazyTry<U>}.
+     *
+     * @param mapper a function to apply to the value which produces a {@code LazyTry} of a new value
+     * @param <U>    the type of the result
+     * @return a new {@code LazyTry}
+     * @see Try#flatMap(Function)
+     */
+    public <U> LazyTry<U> flatMap(Function<? super T, ? extends LazyTry<U>> mapper) {
+        return new LazyTry<>(FLAT_MAP, this, mapper);
+    }
+
+    /**
+     * Records a stage failing the computation if the predicate is not satisfied.
+     *
+     * @param predicate the {@link Predicate} to use
+     * @return a new {@code LazyTry}
+     * @see Try#filter(Predicate)
+     */
+    public LazyTry<T> filter(Predicate<? super T> predicate) {
+        return new LazyTry<>(FILTER, this, predicate);
+    }
+
+    /**
+     * Records a stage recovering from a failure.
+     *
+     * @param recoverFunc the function to apply if the computation failed
+     * @return a new {@code LazyTry}
+     * @see Try#recover(Function)
+     */
+    public LazyTry<T> recover(Function<? super Exception, ? extends T> recoverFunc) {
+        return new LazyTry<>(RECOVER, this, recoverFunc);
+    }
+
+    /**
+     * Records a stage recovering from a failure with another {@code LazyTry}.
+     *
+     * @param recoverFunc the function to apply if the computation failed
+     * @return a new {@code LazyTry}
+     * @see Try#recoverWith(Function)
+     */
+    public LazyTry<T> recoverWith(Function<? super Exception, ? extends LazyTry<T>> recoverFunc) {
+        return new LazyTry<>(RECOVER_WITH, this, recoverFunc);
+    }
+
+    /**
+     * Runs all the recorded stages.
+     *
+     * @return the outcome of the computation, either a {@link Try.Success} or a {@link Try.Failure}
+     */
+    public Try<T> evaluate() {
+        return evaluate(null);
+    }
+
+    /**
+     * Runs the recorded stages as long as {@code deadline} has not passed. The deadline is checked before each
+     * supplier and each {@code map}, {@code flatMap} or {@code filter} function is called: once it has passed, the
+     * computation fails with a {@link TimeoutException} and those stages are skipped, while the {@code recover} and
+     * {@code recoverWith} stages that follow still run, so a fallback can be served. A supplier deferred by such a
+     * fallback is subject to the deadline too. A stage already running is not interrupted, wrap its work in
+     * {@link Try#applyWithin(java.time.Duration, FailableSupplier)} with {@link Deadline#remaining()} to bound it.
+     *
+     * @param deadline the {@link Deadline} of the computation, {@code null} for none
+     * @return the outcome of the computation, either a {@link Try.Success} or a {@link Try.Failure}
+     */
+    @SuppressWarnings("unchecked")
+    public Try<T> evaluate(Deadline deadline) {
+        ArrayDeque<LazyTry<?>> stages = null;
+        LazyTry<?> current = this;
+        Object value = null;
+        Exception exception = null;
+
+        while (true) {
+            // Descend to the innermost source, pushing the stages to run on the way back
+            while (current != null) {
+                switch (current.tag) {
+                    case SUCCESS:
+                        value = current.payload;
+                        exception = null;
+                        current = null;
+                        break;
+                    case FAILURE:
+                        value = null;
+                        exception = (Exception) current.payload;
+                        current = null;
+                        break;
+                    case SUSPEND:
+                        if (expired(deadline)) {
+                            value = null;
+                            exception = timeout();
+                            current = null;
+                            break;
+                        }
+                        try {
+                            value = ((FailableSupplier<?>) current.payload).get();
+                            exception = null;
+                        } catch (Exception e) {
+                            value = null;
+                            exception = e;
+                        }
+                        current = null;
+                        break;
+                    default:
+                        if (stages == null) {
+                            stages = new ArrayDeque<>();
+                        }
+                        stages.push(current);
+                        current = current.source;
+                }
+            }
+
+            if (stages == null) {
+                break;
+            }
+
+            // Run the pending stages until they are exhausted or one of them yields another LazyTry to descend into
+            while (current == null && !stages.isEmpty()) {
+                LazyTry<?> stage = stages.pop();
+                if (exception == null && runs(stage.tag, true) && expired(deadline)) {
+                    // Fail the computation and keep draining, so that the recover stages still run
+                    value = null;
+                    exception = timeout();
+                    continue;
+                }
+                try {
+                    if (exception == null) {
+                        switch (stage.tag) {
+                            case MAP:
+                                value = ((Function<Object, Object>) stage.payload).apply(value);
+                                break;
+                            case FLAT_MAP:
+                                current = Objects.requireNonNull(
+                                        ((Function<Object, LazyTry<?>>) stage.payload).apply(value));
+                                break;
+                            case FILTER:
+                                if (!((Predicate<Object>) stage.payload).test(value)) {
+                                    exception = Try.noSuchElement("Predicate does not hold for " + value);
+                                    value = null;
+                                }
+                                break;
+                            default:
+                                break;
+                        }
+                    } else {
+                        switch (stage.tag) {
+                            case RECOVER:
+                                value = ((Function<Exception, Object>) stage.payload).apply(exception);
+                                exception = null;
+                                break;
+                            case RECOVER_WITH:
+                                current = Objects.requireNonNull(
+                                        ((Function<Exception, LazyTry<?>>) stage.payload).apply(exception));
+                                break;
+                            default:
+                                break;
+                        }
+                    }
+                } catch (Exception e) {
+                    value = null;
+                    exception = e;
+                }
+            }
+
+            if (current == null) {
+                break;
+            }
+        }
+
+        return exception == null ? new Try.Success<>((T) value) : new Try.Failure<>(exception);
+    }
+
+    /**
+     * @return {@code true} if the stage calls a function given the current outcome
+     */
+    private static boolean runs(int tag, boolean success) {
+        return success ? tag == MAP || tag == FLAT_MAP || tag == FILTER : tag == RECOVER || tag == RECOVER_WITH;
+    }
+
+    private static boolean expired(Deadline deadline) {
+        return deadline != null && deadline.isExpired();
+    }
+
+    private static TimeoutException timeout() {
+        return new TimeoutException("Deadline exceeded, remaining stages skipped");
+    }
+
+    @Override
+    public String toString() {
+        return "LazyTry{<deferred>}";
+    }
+
+    /**
+     * One step of a {@link LazyTry#tailRecM(Object, Function)} loop: either a new state to loop on or the
+     * final result.
+     *
+     * @param <A> the type of the state
+     * @param <B> the type of the result
+     * @author Alessandro Lacava
+     * @since 2026-10-17
+     */
+    public static final class Step<A, B> {
+
+        private final boolean done;
+        private final A state;
+        private final B result;
+
+        private Step(boolean done, A state, B result) {
+            this.done = done;
+            this.state = state;
+            this.result = result;
+        }
+
+        /**
+         * @param state the state to loop on
+         * @param <A>   the type of the state
+         * @param <B>   the type of the result
+         * @return a step continuing the loop with {@code state}
+         */
+        public static <A, B> Step<A, B> more(A state) {
+            return new Step<>(false, state, null);
+        }
+
+        /**
+         * @param result the final result
+         * @param <A>    the type of the state
+         * @param <B>    the type of the result
+         * @return a step ending the loop with {@code result}
+         */
+        public static <A, B> Step<A, B> done(B result) {
+            return new Step<>(true, null, result);
+        }
+
+        /**
+         * @return {@code true} if this step ends the loop
+         */
+        public boolean isDone() {
+            return done;
+        }
+
+        @Override
+        public String toString() {
+            return done ? "Done{result=" + result + '}' : "More{state=" + state + '}';
+        }
+    }
+}
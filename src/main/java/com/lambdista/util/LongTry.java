@@ -0,0 +1,521 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.OptionalLong;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * <p>The {@code long} specialization of {@link Try}. A {@code LongTry} represents a computation that may fail and
+ * whose successful result is a primitive {@code long}, so that pipelining arithmetic operations through
+ * {@link LongTry#map(LongUnaryOperator)} does not box the intermediate values.</p>
+ *
+ * <p>Use {@link LongTry#apply(FailableLongSupplier)} to create one, {@link Try#mapToLong(ToLongFunction)} to come from a
+ * {@code Try<T>} and {@link LongTry#mapToObj(LongFunction)} or {@link LongTry#boxed()} to go back.</p>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public abstract class LongTry {
+
+    /**
+     * Ensures that the only possible instances of this class
+     * are either {@link Success} or {@link Failure}
+     */
+    private LongTry() {
+    }
+
+    /**
+     * @return {@code true} if the {@code LongTry} is a {@code Success}, {@code false} if it's a {@code Failure}
+     */
+    public abstract boolean isSuccess();
+
+    /**
+     * @return {@code true} if the {@code LongTry} is a {@code Failure}, {@code false} if it's a {@code Success}
+     */
+    public abstract boolean isFailure();
+
+    /**
+     * @return the value wrapped within {@code Success} if it's a {@code Success} or throws
+     * the exception if {@code this} is a {@code Failure}
+     * @throws GetOfFailureException if {@code this} is a {@code Failure}
+     */
+    public abstract long getAsLong() throws GetOfFailureException;
+
+    /**
+     * @return the value wrapped within {@code Success} if it's a {@code Success} or throws the exception if {@code
+     * this} is a {@code Failure}
+     * @throws Exception if {@code this} is a {@code Failure}
+     */
+    public abstract long checkedGetAsLong() throws Exception;
+
+    /**
+     * Feeds the value to {@link LongConsumer}'s {@code accept} method if {@code this} is
+     * a {@link Success}. If {@code this} is a  {@link Failure} it takes no action
+     *
+     * @param action the {@link LongConsumer} to use
+     */
+    public abstract void forEach(LongConsumer action);
+
+    /**
+     * Maps the value by applying the {@code mapper} function to it if {@code this} is a {@link Success}
+     * otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value
+     * @return the result of applying {@code mapper} wrapped in a {@code LongTry} if it's a {@link Success} or
+     * {@code this} if it's a  {@link Failure}
+     */
+    public abstract LongTry map(LongUnaryOperator mapper);
+
+    /**
+     * Maps the value to a {@code int} by applying the {@code mapper} function to it if {@code this} is a
+     * {@link Success} otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value
+     * @return the result of applying {@code mapper} wrapped in a {@code IntTry} if it's a {@link Success} or
+     * a {@link IntTry.Failure} with the same exception if it's a  {@link Failure}
+     */
+    public abstract IntTry mapToInt(LongToIntFunction mapper);
+
+    /**
+     * Maps the value to a {@code double} by applying the {@code mapper} function to it if {@code this} is a
+     * {@link Success} otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value
+     * @return the result of applying {@code mapper} wrapped in a {@code DoubleTry} if it's a {@link Success} or
+     * a {@link DoubleTry.Failure} with the same exception if it's a  {@link Failure}
+     */
+    public abstract DoubleTry mapToDouble(LongToDoubleFunction mapper);
+
+    /**
+     * Maps the value to an object by applying the {@code mapper} function to it if {@code this} is a
+     * {@link Success} otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value
+     * @param <U>    the type of the result
+     * @return the result of applying {@code mapper} wrapped in a {@code Try} if it's a {@link Success} or
+     * a {@link Try.Failure} with the same exception if it's a  {@link Failure}
+     */
+    public abstract <U> Try<U> mapToObj(LongFunction<? extends U> mapper);
+
+    /**
+     * Maps the value to a {@code LongTry} by applying the {@code mapper} function to it if {@code this} is a
+     * {@link Success} otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value which produces a {@code LongTry}
+     * @return the result of applying {@code mapper} if it's a {@link Success} or
+     * {@code this} if it's a  {@link Failure}
+     */
+    public abstract LongTry flatMap(LongFunction<? extends LongTry> mapper);
+
+    /**
+     * Converts {@code this} to a {@link Failure} if the predicate is not satisfied.
+     *
+     * @param predicate the {@link LongPredicate} to use
+     * @return a {@code LongTry} which is a {@link Success} if {@code predicate}
+     * is satisfied or a {@link Failure} if either  {@code this}
+     * is already a {@link Failure} or the {@code predicate}
+     * is not satisfied.
+     */
+    public abstract LongTry filter(LongPredicate predicate);
+
+    /**
+     * Applies the given function {@code recoverFunc} if {@code this} is a {@link Failure},
+     * otherwise returns {@code this} if {@code this} is a {@link Success}.
+     *
+     * @param recoverFunc the function to apply if {@code this} is a {@link Failure}
+     * @return a {@code LongTry} obtained by wrapping the result of applying {@code recoverFunc} to
+     * the {@link java.lang.Exception}
+     */
+    public abstract LongTry recover(ToLongFunction<? super Exception> recoverFunc);
+
+    /**
+     * Applies the given function {@code recoverFunc} if {@code this} is a {@link Failure},
+     * otherwise returns {@code this} if {@code this} is a {@link Success}.
+     *
+     * @param recoverFunc the function to apply if {@code this} is a {@link Failure}
+     * @return a {@code LongTry} obtained by applying {@code recoverFunc} to the {@link java.lang.Exception}
+     */
+    public abstract LongTry recoverWith(Function<? super Exception, ? extends LongTry> recoverFunc);
+
+    /**
+     * Converts this {@code LongTry} into a {@code java.util.OptionalLong}
+     *
+     * @return an empty {@link OptionalLong} if {@code this} is a {@link Failure}
+     * or one holding the value if {@code this} is a {@link Success}
+     */
+    public abstract OptionalLong toOptional();
+
+    /**
+     * @param defaultValue the default value to return if {@code this} is a {@link Failure}
+     * @return the value from {@code this} {@link Success} or the given {@code defaultValue}
+     * argument if {@code this} is a {@link Failure}
+     */
+    public abstract long getOrElse(long defaultValue);
+
+    /**
+     * @param defaultValue the default value to return if {@code this} is a {@link Failure}
+     * @return {@code this} {@code LongTry} if it's a {@link Success} or the given {@code defaultValue}
+     * argument if {@code this} is a {@link Failure}
+     */
+    public abstract LongTry orElse(LongTry defaultValue);
+
+    /**
+     * @return {@code this} converted to a {@code Try<Long>}
+     */
+    public abstract Try<Long> boxed();
+
+    /**
+     * Constructs a {@code LongTry} using the {@link FailableLongSupplier} parameter. This
+     * method will ensure any non-fatal exception is caught and a {@link Failure} object is returned. Like
+     * {@link Try#apply(FailableSupplier)} it reports to the {@link TryListener} installed, if any.
+     *
+     * @param supplier the {@link FailableLongSupplier} to use
+     * @return a {@code LongTry} object (an instance of either {@link Success} or {@link Failure}
+     */
+    public static LongTry apply(FailableLongSupplier supplier) {
+        TryListener current = Try.getListener();
+        if (current != null) {
+            return applyInstrumented(supplier, current);
+        }
+        try {
+            return new Success(supplier.getAsLong());
+        } catch (Exception e) {
+            return new Failure(e);
+        }
+    }
+
+    private static LongTry applyInstrumented(FailableLongSupplier supplier, TryListener listener) {
+        long start = System.nanoTime();
+        long value;
+        try {
+            value = supplier.getAsLong();
+        } catch (Exception e) {
+            listener.onFailure(Try.APPLY, e, System.nanoTime() - start);
+            return new Failure(e);
+        }
+        listener.onSuccess(Try.APPLY, System.nanoTime() - start);
+        return new Success(value);
+    }
+
+    /**
+     * Represents the successful result of a computation
+     *
+     * @author Alessandro Lacava
+     * @since 2026-10-17
+     */
+    public static final class Success extends LongTry {
+
+        private final long value;
+
+        public Success(long value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return false;
+        }
+
+        @Override
+        public long getAsLong() {
+            return value;
+        }
+
+        @Override
+        public long checkedGetAsLong() {
+            return value;
+        }
+
+        @Override
+        public void forEach(LongConsumer action) {
+            action.accept(value);
+        }
+
+        @Override
+        public LongTry map(LongUnaryOperator mapper) {
+            try {
+                return new Success(mapper.applyAsLong(value));
+            } catch (Exception e) {
+                return new Failure(e);
+            }
+        }
+
+        @Override
+        public IntTry mapToInt(LongToIntFunction mapper) {
+            try {
+                return new IntTry.Success(mapper.applyAsInt(value));
+            } catch (Exception e) {
+                return new IntTry.Failure(e);
+            }
+        }
+
+        @Override
+        public DoubleTry mapToDouble(LongToDoubleFunction mapper) {
+            try {
+                return new DoubleTry.Success(mapper.applyAsDouble(value));
+            } catch (Exception e) {
+                return new DoubleTry.Failure(e);
+            }
+        }
+
+        @Override
+        public <U> Try<U> mapToObj(LongFunction<? extends U> mapper) {
+            try {
+                return new Try.Success<>(mapper.apply(value));
+            } catch (Exception e) {
+                return new Try.Failure<>(e);
+            }
+        }
+
+        @Override
+        public LongTry flatMap(LongFunction<? extends LongTry> mapper) {
+            try {
+                return mapper.apply(value);
+            } catch (Exception e) {
+                return new Failure(e);
+            }
+        }
+
+        @Override
+        public LongTry filter(LongPredicate predicate) {
+            try {
+                if (predicate.test(value)) {
+                    return this;
+                } else {
+                    return new Failure(Try.noSuchElement("Predicate does not hold for " + value));
+                }
+            } catch (Exception e) {
+                return new Failure(e);
+            }
+        }
+
+        @Override
+        public LongTry recover(ToLongFunction<? super Exception> recoverFunc) {
+            return this;
+        }
+
+        @Override
+        public LongTry recoverWith(Function<? super Exception, ? extends LongTry> recoverFunc) {
+            return this;
+        }
+
+        @Override
+        public OptionalLong toOptional() {
+            return OptionalLong.of(value);
+        }
+
+        @Override
+        public long getOrElse(long defaultValue) {
+            return value;
+        }
+
+        @Override
+        public LongTry orElse(LongTry defaultValue) {
+            return this;
+        }
+
+        @Override
+        public Try<Long> boxed() {
+            return new Try.Success<>(value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Success success = (Success) o;
+
+            return Long.compare(value, success.value) == 0;
+
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return "Success{" +
+                    "value=" + value +
+                    '}';
+        }
+    }
+
+    /**
+     * Represents the failed result of a computation
+     *
+     * @author Alessandro Lacava
+     * @since 2026-10-17
+     */
+    public static final class Failure extends LongTry {
+
+        private final Exception exception;
+
+        public Failure(Exception exception) {
+            this(exception, true);
+        }
+
+        /**
+         * @param exception the exception
+         * @param report    {@code false} when {@code exception} comes from a failure of another type, which already
+         *                  reported it to JFR
+         */
+        Failure(Exception exception, boolean report) {
+            this.exception = exception;
+            if (report) {
+                JfrEvents.failureCreated(exception);
+            }
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return true;
+        }
+
+        @Override
+        public long getAsLong() {
+            throw new GetOfFailureException(exception);
+        }
+
+        @Override
+        public long checkedGetAsLong() throws Exception {
+            throw exception;
+        }
+
+        @Override
+        public void forEach(LongConsumer action) {
+        }
+
+        @Override
+        public LongTry map(LongUnaryOperator mapper) {
+            return this;
+        }
+
+        @Override
+        public IntTry mapToInt(LongToIntFunction mapper) {
+            return new IntTry.Failure(exception, false);
+        }
+
+        @Override
+        public DoubleTry mapToDouble(LongToDoubleFunction mapper) {
+            return new DoubleTry.Failure(exception, false);
+        }
+
+        @Override
+        public <U> Try<U> mapToObj(LongFunction<? extends U> mapper) {
+            return new Try.Failure<>(exception, false);
+        }
+
+        @Override
+        public LongTry flatMap(LongFunction<? extends LongTry> mapper) {
+            return this;
+        }
+
+        @Override
+        public LongTry filter(LongPredicate predicate) {
+            return this;
+        }
+
+        @Override
+        public LongTry recover(ToLongFunction<? super Exception> recoverFunc) {
+            Try.notifyRecover(exception);
+            Object event = JfrEvents.recoverStarted();
+            try {
+                return new Success(recoverFunc.applyAsLong(exception));
+            } catch (Exception e) {
+                return new Failure(e);
+            } finally {
+                JfrEvents.recoverEnded(event, exception, "recover");
+            }
+        }
+
+        @Override
+        public LongTry recoverWith(Function<? super Exception, ? extends LongTry> recoverFunc) {
+            Try.notifyRecover(exception);
+            Object event = JfrEvents.recoverStarted();
+            try {
+                return recoverFunc.apply(exception);
+            } catch (Exception e) {
+                return new Failure(e);
+            } finally {
+                JfrEvents.recoverEnded(event, exception, "recoverWith");
+            }
+        }
+
+        @Override
+        public OptionalLong toOptional() {
+            return OptionalLong.empty();
+        }
+
+        @Override
+        public long getOrElse(long defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public LongTry orElse(LongTry defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public Try<Long> boxed() {
+            return new Try.Failure<>(exception, false);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Failure failure = (Failure) o;
+
+            return failure.exception.equals(exception);
+
+        }
+
+        @Override
+        public int hashCode() {
+            return exception.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "Failure{" +
+                    "exception=" + exception +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Fork-join task backing {@link Try#parallelTraverse(List, Function, ForkJoinPool)}. It splits the input in
+ * ranges, writes each result straight into a presized array at its own index, so the order is kept without
+ * any merging, and stops starting new elements as soon as one of them fails.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+final class ParallelTraverse<A, B> extends RecursiveAction {
+
+    private final List<? extends A> input;
+    private final Function<? super A, ? extends Try<? extends B>> mapper;
+    private final Object[] results;
+    private final AtomicReference<Exception> failure;
+    private final int threshold;
+    private final int from;
+    private final int to;
+
+    private ParallelTraverse(List<? extends A> input, Function<? super A, ? extends Try<? extends B>> mapper,
+                             Object[] results, AtomicReference<Exception> failure, int threshold, int from, int to) {
+        this.input = input;
+        this.mapper = mapper;
+        this.results = results;
+        this.failure = failure;
+        this.threshold = threshold;
+        this.from = from;
+        this.to = to;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A, B> Try<List<B>> traverse(List<? extends A> input, Function<? super A, ? extends Try<? extends B>> mapper,
+                                        ForkJoinPool pool) {
+        Object[] results = new Object[input.size()];
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        int threshold = Math.max(1, results.length / (pool.getParallelism() * 4));
+        pool.invoke(new ParallelTraverse<>(input, mapper, results, failure, threshold, 0, results.length));
+
+        Exception exception = failure.get();
+        if (exception != null) {
+            return new Try.Failure<>(exception, false);
+        }
+        return new Try.Success<>((List<B>) Arrays.asList(results));
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= threshold) {
+            for (int i = from; i < to && failure.get() == null; i++) {
+                Try<? extends B> result;
+                try {
+                    result = mapper.apply(input.get(i));
+                } catch (Exception e) {
+                    result = new Try.Failure<>(e);
+                }
+                if (result.isSuccess()) {
+                    results[i] = result.get();
+                } else {
+                    failure.compareAndSet(null, result.failed().get());
+                }
+            }
+        } else if (failure.get() == null) {
+            int middle = (from + to) >>> 1;
+            invokeAll(new ParallelTraverse<>(input, mapper, results, failure, threshold, from, middle),
+                    new ParallelTraverse<>(input, mapper, results, failure, threshold, middle, to));
+        }
+    }
+}
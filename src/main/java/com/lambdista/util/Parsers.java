@@ -0,0 +1,341 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
+/**
+ * Implementation of the {@code Try.parse*} methods. The parsers validate their input by hand instead of relying
+ * on the exception thrown by the JDK parsers, so malformed input never throws. Each kind of error is reported
+ * through a single cached {@link Try.Failure} whose exception has no stack trace and does not carry the input;
+ * these exceptions are shared and must not be modified (e.g. through {@code addSuppressed}).
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+final class Parsers {
+
+    /**
+     * Marker returned by {@link Parsers#parseDecimal(CharSequence, int, int, long)}. It is outside of the
+     * {@code int} range so it cannot be mistaken for a parsed value.
+     */
+    private static final long INVALID = Long.MIN_VALUE;
+
+    private static final IntTry.Failure INVALID_INT =
+            new IntTry.Failure(new StacklessNumberFormatException("Not a valid int"));
+    private static final LongTry.Failure INVALID_LONG =
+            new LongTry.Failure(new StacklessNumberFormatException("Not a valid long"));
+    private static final DoubleTry.Failure INVALID_DOUBLE =
+            new DoubleTry.Failure(new StacklessNumberFormatException("Not a valid double"));
+    private static final Try<Boolean> INVALID_BOOLEAN =
+            new Try.Failure<>(new StacklessIllegalArgumentException("Not a valid boolean"));
+    private static final Try<UUID> INVALID_UUID =
+            new Try.Failure<>(new StacklessIllegalArgumentException("Not a valid UUID"));
+    private static final Try<LocalDate> INVALID_DATE =
+            new Try.Failure<>(new StacklessDateTimeParseException("Not a valid ISO-8601 date"));
+
+    private static final Try<Boolean> TRUE = new Try.Success<>(Boolean.TRUE);
+    private static final Try<Boolean> FALSE = new Try.Success<>(Boolean.FALSE);
+
+    /**
+     * Powers of ten exactly representable as a {@code double}
+     */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final int[] DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    private Parsers() {
+    }
+
+    static IntTry parseInt(CharSequence input, int offset, int length) {
+        checkRange(input, offset, length);
+        long value = parseDecimal(input, offset, length, Integer.MIN_VALUE);
+        return value == INVALID ? INVALID_INT : new IntTry.Success((int) value);
+    }
+
+    static LongTry parseLong(CharSequence input, int offset, int length) {
+        checkRange(input, offset, length);
+        int end = offset + length;
+        if (length == 0) {
+            return INVALID_LONG;
+        }
+        int i = offset;
+        boolean negative = false;
+        char first = input.charAt(i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++i == end) {
+                return INVALID_LONG;
+            }
+        }
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyLimit = limit / 10;
+        long result = 0;
+        // Accumulating negatively avoids surprises near Long.MAX_VALUE, as Long.parseLong does
+        for (; i < end; i++) {
+            int digit = input.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || result < multiplyLimit) {
+                return INVALID_LONG;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return INVALID_LONG;
+            }
+            result -= digit;
+        }
+        return new LongTry.Success(negative ? result : -result);
+    }
+
+    static DoubleTry parseDouble(CharSequence input, int offset, int length) {
+        checkRange(input, offset, length);
+        int end = offset + length;
+        if (length == 0) {
+            return INVALID_DOUBLE;
+        }
+        int i = offset;
+        boolean negative = false;
+        char first = input.charAt(i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+        }
+        if (regionMatches(input, i, end, "NaN")) {
+            return new DoubleTry.Success(Double.NaN);
+        }
+        if (regionMatches(input, i, end, "Infinity")) {
+            return new DoubleTry.Success(negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY);
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int digits = 0;
+        int scale = 0;
+        for (; i < end && isDigit(input.charAt(i)); i++, digits++) {
+            if (significantDigits < 18) {
+                mantissa = mantissa * 10 + (input.charAt(i) - '0');
+                if (mantissa != 0) {
+                    significantDigits++;
+                }
+            } else {
+                scale++;
+            }
+        }
+        if (i < end && input.charAt(i) == '.') {
+            for (i++; i < end && isDigit(input.charAt(i)); i++, digits++) {
+                if (significantDigits < 18) {
+                    mantissa = mantissa * 10 + (input.charAt(i) - '0');
+                    if (mantissa != 0) {
+                        significantDigits++;
+                    }
+                    scale--;
+                }
+            }
+        }
+        if (digits == 0) {
+            return INVALID_DOUBLE;
+        }
+        if (i < end && (input.charAt(i) == 'e' || input.charAt(i) == 'E')) {
+            long exponent = parseDecimal(input, i + 1, end - i - 1, Integer.MIN_VALUE);
+            if (exponent == INVALID) {
+                return INVALID_DOUBLE;
+            }
+            scale += (int) Math.max(-100_000, Math.min(100_000, exponent));
+            i = end;
+        }
+        if (i != end) {
+            return INVALID_DOUBLE;
+        }
+
+        // Fast path: both the mantissa and the power of ten are exact doubles so a single operation is exact
+        if (significantDigits <= 15 && scale >= -22 && scale <= 22) {
+            double value = scale >= 0 ? mantissa * POWERS_OF_TEN[scale] : mantissa / POWERS_OF_TEN[-scale];
+            return new DoubleTry.Success(negative ? -value : value);
+        }
+        // The syntax has already been validated, so the JDK parser is not going to throw here
+        return new DoubleTry.Success(Double.parseDouble(input.subSequence(offset, end).toString()));
+    }
+
+    static Try<Boolean> parseBoolean(CharSequence input, int offset, int length) {
+        checkRange(input, offset, length);
+        int end = offset + length;
+        if (regionMatchesIgnoreCase(input, offset, end, "true")) {
+            return TRUE;
+        }
+        if (regionMatchesIgnoreCase(input, offset, end, "false")) {
+            return FALSE;
+        }
+        return INVALID_BOOLEAN;
+    }
+
+    static Try<UUID> parseUUID(CharSequence input, int offset, int length) {
+        checkRange(input, offset, length);
+        if (length != 36
+                || input.charAt(offset + 8) != '-' || input.charAt(offset + 13) != '-'
+                || input.charAt(offset + 18) != '-' || input.charAt(offset + 23) != '-') {
+            return INVALID_UUID;
+        }
+        long mostSignificantBits = 0;
+        long leastSignificantBits = 0;
+        for (int i = 0; i < 36; i++) {
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                continue;
+            }
+            int digit = Character.digit(input.charAt(offset + i), 16);
+            if (digit < 0) {
+                return INVALID_UUID;
+            }
+            if (i < 18) {
+                mostSignificantBits = (mostSignificantBits << 4) | digit;
+            } else {
+                leastSignificantBits = (leastSignificantBits << 4) | digit;
+            }
+        }
+        return new Try.Success<>(new UUID(mostSignificantBits, leastSignificantBits));
+    }
+
+    static Try<LocalDate> parseLocalDate(CharSequence input, int offset, int length) {
+        checkRange(input, offset, length);
+        if (length != 10 || input.charAt(offset + 4) != '-' || input.charAt(offset + 7) != '-') {
+            return INVALID_DATE;
+        }
+        long year = parseDecimal(input, offset, 4, 0);
+        long month = parseDecimal(input, offset + 5, 2, 0);
+        long day = parseDecimal(input, offset + 8, 2, 0);
+        if (year == INVALID || month == INVALID || day == INVALID || month < 1 || month > 12 || day < 1) {
+            return INVALID_DATE;
+        }
+        boolean leap = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+        int daysInMonth = month == 2 && leap ? 29 : DAYS_IN_MONTH[(int) month - 1];
+        if (day > daysInMonth) {
+            return INVALID_DATE;
+        }
+        return new Try.Success<>(LocalDate.of((int) year, (int) month, (int) day));
+    }
+
+    /**
+     * Parses a signed decimal {@code int}, signs being allowed only if {@code minValue} is negative.
+     *
+     * @return the parsed value or {@link Parsers#INVALID}
+     */
+    private static long parseDecimal(CharSequence input, int offset, int length, long minValue) {
+        int end = offset + length;
+        if (length == 0) {
+            return INVALID;
+        }
+        int i = offset;
+        boolean negative = false;
+        char first = input.charAt(i);
+        if (minValue < 0 && (first == '-' || first == '+')) {
+            negative = first == '-';
+            if (++i == end) {
+                return INVALID;
+            }
+        }
+        long result = 0;
+        for (; i < end; i++) {
+            int digit = input.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return INVALID;
+            }
+            result = result * 10 + digit;
+            if (result > (long) Integer.MAX_VALUE + 1) {
+                return INVALID;
+            }
+        }
+        if (negative) {
+            result = -result;
+        } else if (result > Integer.MAX_VALUE) {
+            return INVALID;
+        }
+        return result;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean regionMatches(CharSequence input, int from, int to, String expected) {
+        if (to - from != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            if (input.charAt(from + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean regionMatchesIgnoreCase(CharSequence input, int from, int to, String expected) {
+        if (to - from != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            if (Character.toLowerCase(input.charAt(from + i)) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void checkRange(CharSequence input, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > input.length() - length) {
+            throw new IndexOutOfBoundsException(
+                    "offset " + offset + ", length " + length + ", input length " + input.length());
+        }
+    }
+
+    private static final class StacklessNumberFormatException extends NumberFormatException {
+
+        StacklessNumberFormatException(String message) {
+            super(message);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    private static final class StacklessIllegalArgumentException extends IllegalArgumentException {
+
+        StacklessIllegalArgumentException(String message) {
+            super(message);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    private static final class StacklessDateTimeParseException extends DateTimeParseException {
+
+        StacklessDateTimeParseException(String message) {
+            super(message, "", 0);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
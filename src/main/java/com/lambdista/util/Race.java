@@ -0,0 +1,162 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Races attempts backing {@link Try#firstSuccess(Collection, Executor)} and
+ * {@link Try#hedged(Collection, java.time.Duration, Executor)}. Each attempt runs as a {@link FutureTask}, so the
+ * losers can be cancelled, and interrupted if running, whatever the {@link Executor}. Attempts are launched in
+ * order: all at once, or one every {@code hedgeDelayNanos} and immediately after a failure. The first
+ * {@link Try.Success} completes the race; if every attempt fails, the race completes with a {@link Try.Failure}
+ * of {@link CompositeException} carrying the exceptions in the order of the attempts. An attempt throwing an
+ * {@link Error} counts as failed; if every attempt fails and one of them threw an {@link Error}, the race completes
+ * exceptionally with it.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+final class Race<T> {
+
+    private final List<FailableSupplier<? extends T>> attempts;
+    private final Executor executor;
+    private final ScheduledExecutorService scheduler;
+    private final long hedgeDelayNanos;
+    private final CompletableFuture<Try<T>> promise = new CompletableFuture<>();
+    private final AtomicReferenceArray<Future<?>> running;
+    private final AtomicReferenceArray<Throwable> failures;
+    private final AtomicInteger launched = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    private Race(Collection<? extends FailableSupplier<? extends T>> attempts, Executor executor,
+                 ScheduledExecutorService scheduler, long hedgeDelayNanos) {
+        this.attempts = new ArrayList<>(attempts);
+        this.executor = executor;
+        this.scheduler = scheduler;
+        this.hedgeDelayNanos = hedgeDelayNanos;
+        this.running = new AtomicReferenceArray<>(this.attempts.size());
+        this.failures = new AtomicReferenceArray<>(this.attempts.size());
+    }
+
+    static <T> TryFuture<T> firstSuccess(Collection<? extends FailableSupplier<? extends T>> attempts,
+                                         Executor executor) {
+        Race<T> race = new Race<>(attempts, executor, null, 0);
+        if (race.attempts.isEmpty()) {
+            return TryFuture.completed(new Try.Failure<>(new NoSuchElementException("No attempts")));
+        }
+        for (int i = 0; i < race.attempts.size(); i++) {
+            race.launchNext();
+        }
+        return TryFuture.of(race.promise);
+    }
+
+    static <T> TryFuture<T> hedged(Collection<? extends FailableSupplier<? extends T>> attempts, long hedgeDelayNanos,
+                                   Executor executor, ScheduledExecutorService scheduler) {
+        Race<T> race = new Race<>(attempts, executor, scheduler, hedgeDelayNanos);
+        if (race.attempts.isEmpty()) {
+            return TryFuture.completed(new Try.Failure<>(new NoSuchElementException("No attempts")));
+        }
+        race.launchNext();
+        race.scheduleHedge();
+        return TryFuture.of(race.promise);
+    }
+
+    private void scheduleHedge() {
+        if (promise.isDone() || launched.get() >= attempts.size()) {
+            return;
+        }
+        try {
+            Future<?> hedge = scheduler.schedule(() -> {
+                launchNext();
+                scheduleHedge();
+            }, hedgeDelayNanos, TimeUnit.NANOSECONDS);
+            promise.whenComplete((result, e) -> hedge.cancel(false));
+        } catch (RejectedExecutionException e) {
+            // attempts are still launched after each failure
+        }
+    }
+
+    private void launchNext() {
+        int index = launched.getAndIncrement();
+        if (index >= attempts.size() || promise.isDone()) {
+            return;
+        }
+        FailableSupplier<? extends T> attempt = attempts.get(index);
+        FutureTask<Void> task = new FutureTask<>(() -> complete(index, attempt), null);
+        running.set(index, task);
+        if (promise.isDone()) {
+            // the winner may have cancelled the others before this one was visible
+            task.cancel(true);
+            return;
+        }
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            fail(index, e);
+        }
+    }
+
+    private void complete(int index, FailableSupplier<? extends T> attempt) {
+        T value;
+        try {
+            value = attempt.get();
+        } catch (Throwable t) {
+            // caught here since the FutureTask would swallow it and the race would never complete
+            fail(index, t);
+            return;
+        }
+        if (promise.complete(new Try.Success<>(value))) {
+            for (int i = 0; i < running.length(); i++) {
+                Future<?> loser = running.get(i);
+                if (i != index && loser != null) {
+                    loser.cancel(true);
+                }
+            }
+        }
+    }
+
+    private void fail(int index, Throwable failure) {
+        failures.set(index, failure);
+        if (failed.incrementAndGet() == attempts.size()) {
+            List<Throwable> exceptions = new ArrayList<>(failures.length());
+            for (int i = 0; i < failures.length(); i++) {
+                Throwable exception = failures.get(i);
+                if (exception instanceof Error) {
+                    promise.completeExceptionally(exception);
+                    return;
+                }
+                exceptions.add(exception);
+            }
+            promise.complete(new Try.Failure<>(
+                    new CompositeException("All " + exceptions.size() + " attempts failed", exceptions)));
+        } else if (scheduler != null) {
+            launchNext();
+        }
+    }
+}
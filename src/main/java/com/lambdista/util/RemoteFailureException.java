@@ -0,0 +1,50 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+/**
+ * Checked exception of a {@link com.lambdista.util.Try.Failure} decoded by {@link TryCodec}. The original exception
+ * class is never instantiated, since it might not be available locally and instantiating classes named by the
+ * peer is unsafe: its name is kept in {@link RemoteFailureException#getRemoteClassName()} and the stack trace, if
+ * any was sent, is the remote one.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class RemoteFailureException extends Exception {
+
+    private final String remoteClassName;
+
+    public RemoteFailureException(String remoteClassName, String message, StackTraceElement[] stackTrace) {
+        super(message, null, false, true);
+        this.remoteClassName = remoteClassName;
+        setStackTrace(stackTrace);
+    }
+
+    /**
+     * @return the fully qualified name of the class of the original exception
+     */
+    public String getRemoteClassName() {
+        return remoteClassName;
+    }
+
+    @Override
+    public String toString() {
+        String message = getLocalizedMessage();
+        return message != null ? remoteClassName + ": " + message : remoteClassName;
+    }
+
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>A token bucket limiting how many retries may be performed, shared by all the {@link RetryPolicy}s using it.
+ * When a dependency is failing, retries multiply the load on it: a budget caps the retry rate to
+ * {@code retriesPerSecond}, allowing bursts of up to {@code burst} retries, whatever the number of callers.</p>
+ *
+ * <p>It is implemented as a generic cell rate algorithm on a single {@link AtomicLong}, so acquiring a token is
+ * lock-free.</p>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public final class RetryBudget {
+
+    private final AtomicLong theoreticalArrivalTime;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final LongSupplier nanoTime;
+
+    /**
+     * @param retriesPerSecond the sustained retry rate
+     * @param burst            the number of retries allowed at once, i.e. the capacity of the bucket
+     */
+    public RetryBudget(double retriesPerSecond, int burst) {
+        this(retriesPerSecond, burst, System::nanoTime);
+    }
+
+    RetryBudget(double retriesPerSecond, int burst, LongSupplier nanoTime) {
+        if (!(retriesPerSecond > 0) || burst <= 0) {
+            throw new IllegalArgumentException("retriesPerSecond and burst must be positive");
+        }
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / retriesPerSecond));
+        this.toleranceNanos = intervalNanos * burst;
+        this.nanoTime = nanoTime;
+        this.theoreticalArrivalTime = new AtomicLong(nanoTime.getAsLong());
+    }
+
+    /**
+     * @return {@code true} if a token was available and has been taken, {@code false} if the budget is exhausted
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            long now = nanoTime.getAsLong();
+            long current = theoreticalArrivalTime.get();
+            long next = Math.max(current, now) + intervalNanos;
+            if (next - now > toleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrivalTime.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return the time until a token is available, {@link Duration#ZERO} if one is
+     */
+    public Duration timeUntilAvailable() {
+        long wait = theoreticalArrivalTime.get() + intervalNanos - toleranceNanos - nanoTime.getAsLong();
+        return wait > 0 ? Duration.ofNanos(wait) : Duration.ZERO;
+    }
+}
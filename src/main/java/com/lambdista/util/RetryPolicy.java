@@ -0,0 +1,202 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * <p>Describes how {@link Try#retry(RetryPolicy, FailableSupplier)} retries a failing {@link FailableSupplier}:
+ * the maximum number of attempts, the exponential backoff between them, which exceptions are worth a retry and,
+ * optionally, a {@link RetryBudget} shared with other callers. Instances are immutable; each {@code with*} method
+ * returns a new policy.</p>
+ *
+ * <pre>
+ * RetryPolicy policy = RetryPolicy.maxAttempts(5)
+ *         .withBackoff(Duration.ofMillis(50), Duration.ofSeconds(5))
+ *         .retryOn(IOException.class)
+ *         .withBudget(sharedBudget);
+ *
+ * TryFuture&lt;String&gt; page = Try.retry(policy, () -&gt; fetch(url));
+ * </pre>
+ *
+ * The delay before the attempt {@code n + 1} is drawn uniformly between 0 and
+ * {@code min(maxDelay, baseDelay * 2^(n - 1))} ("full jitter"), so that callers failing together do not retry
+ * together.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public final class RetryPolicy {
+
+    private final int maxAttempts;
+    private final long baseDelayNanos;
+    private final long maxDelayNanos;
+    private final Predicate<? super Exception> retryIf;
+    private final RetryBudget budget;
+
+    private RetryPolicy(int maxAttempts, long baseDelayNanos, long maxDelayNanos,
+                        Predicate<? super Exception> retryIf, RetryBudget budget) {
+        this.maxAttempts = maxAttempts;
+        this.baseDelayNanos = baseDelayNanos;
+        this.maxDelayNanos = maxDelayNanos;
+        this.retryIf = retryIf;
+        this.budget = budget;
+    }
+
+    /**
+     * @param maxAttempts the maximum number of attempts, the first one included
+     * @return a policy retrying every exception immediately, without budget
+     */
+    public static RetryPolicy maxAttempts(int maxAttempts) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts);
+        }
+        return new RetryPolicy(maxAttempts, 0, 0, exception -> true, null);
+    }
+
+    /**
+     * @param baseDelay the upper bound of the first delay
+     * @param maxDelay  the upper bound of any delay
+     * @return a copy of {@code this} with an exponential backoff with full jitter
+     */
+    public RetryPolicy withBackoff(Duration baseDelay, Duration maxDelay) {
+        if (baseDelay.isNegative() || maxDelay.compareTo(baseDelay) < 0) {
+            throw new IllegalArgumentException("Invalid backoff: " + baseDelay + ", " + maxDelay);
+        }
+        return new RetryPolicy(maxAttempts, baseDelay.toNanos(), maxDelay.toNanos(), retryIf, budget);
+    }
+
+    /**
+     * @param types the exception classes worth a retry
+     * @return a copy of {@code this} retrying only the exceptions which are instances of one of {@code types}
+     */
+    @SafeVarargs
+    public final RetryPolicy retryOn(Class<? extends Exception>... types) {
+        Class<?>[] copy = types.clone();
+        return retryIf(exception -> {
+            for (Class<?> type : copy) {
+                if (type.isInstance(exception)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    /**
+     * @param predicate tells whether the exception of a {@link Try.Failure} is worth a retry
+     * @return a copy of {@code this} retrying only the exceptions satisfying {@code predicate}
+     */
+    public RetryPolicy retryIf(Predicate<? super Exception> predicate) {
+        return new RetryPolicy(maxAttempts, baseDelayNanos, maxDelayNanos, Objects.requireNonNull(predicate), budget);
+    }
+
+    /**
+     * @param retryBudget the budget every retry takes a token from, usually shared by many policies
+     * @return a copy of {@code this} giving up as soon as {@code retryBudget} is exhausted
+     */
+    public RetryPolicy withBudget(RetryBudget retryBudget) {
+        return new RetryPolicy(maxAttempts, baseDelayNanos, maxDelayNanos, retryIf, retryBudget);
+    }
+
+    /**
+     * @return the maximum number of attempts, the first one included
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * @param attempt the number of the attempt which just failed, starting from 1
+     * @param random  a random number between 0 (inclusive) and 1 (exclusive)
+     * @return the delay before the next attempt
+     */
+    long delayNanos(int attempt, double random) {
+        if (maxDelayNanos == 0) {
+            return 0;
+        }
+        int shift = Math.min(attempt - 1, 62);
+        long ceiling = baseDelayNanos > (maxDelayNanos >> shift) ? maxDelayNanos : baseDelayNanos << shift;
+        return (long) (ceiling * random);
+    }
+
+    <T> TryFuture<T> execute(FailableSupplier<T> supplier, Executor executor, ScheduledExecutorService scheduler) {
+        CompletableFuture<Try<T>> promise = new CompletableFuture<>();
+        attempt(1, supplier, executor, scheduler, promise);
+        return TryFuture.of(promise);
+    }
+
+    private <T> void attempt(int attempt, FailableSupplier<T> supplier, Executor executor,
+                             ScheduledExecutorService scheduler, CompletableFuture<Try<T>> promise) {
+        try {
+            executor.execute(() -> {
+                try {
+                    retryOrComplete(attempt, supplier, executor, scheduler, promise);
+                } catch (Exception e) {
+                    // thrown by retryIf or the budget
+                    promise.complete(new Try.Failure<>(e));
+                } catch (VirtualMachineError e) {
+                    promise.completeExceptionally(e);
+                    throw e;
+                } catch (Throwable t) {
+                    // The promise carries it, rethrowing would only kill the executor thread
+                    promise.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            promise.complete(new Try.Failure<>(e));
+        }
+    }
+
+    private <T> void retryOrComplete(int attempt, FailableSupplier<T> supplier, Executor executor,
+                                     ScheduledExecutorService scheduler, CompletableFuture<Try<T>> promise) {
+        Try<T> result = Try.apply(supplier);
+        if (result.isSuccess() || attempt >= maxAttempts) {
+            promise.complete(result);
+            return;
+        }
+        Exception exception = result.failed().get();
+        if (!retryIf.test(exception) || (budget != null && !budget.tryAcquire())) {
+            promise.complete(result);
+            return;
+        }
+        long delay = delayNanos(attempt, ThreadLocalRandom.current().nextDouble());
+        try {
+            scheduler.schedule(() -> attempt(attempt + 1, supplier, executor, scheduler, promise),
+                    delay, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            promise.complete(result);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{" +
+                "maxAttempts=" + maxAttempts +
+                ", baseDelay=" + Duration.ofNanos(baseDelayNanos) +
+                ", maxDelay=" + Duration.ofNanos(maxDelayNanos) +
+                ", budget=" + (budget != null) +
+                '}';
+    }
+}
@@ -0,0 +1,145 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * The failures of a {@link TryBatch} or of its numeric specializations: a map from element index to exception
+ * stored as two parallel arrays sorted by index, so that a batch with few failures pays for those only and no
+ * index is boxed.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+final class SparseFailures {
+
+    static final SparseFailures NONE = new SparseFailures(new int[0], new Exception[0], 0);
+
+    private final int[] indices;
+    private final Exception[] exceptions;
+    private final int count;
+
+    private SparseFailures(int[] indices, Exception[] exceptions, int count) {
+        this.indices = indices;
+        this.exceptions = exceptions;
+        this.count = count;
+    }
+
+    int count() {
+        return count;
+    }
+
+    /**
+     * @return the exception of the element at {@code index}, {@code null} if the element is a success
+     */
+    Exception get(int index) {
+        int position = Arrays.binarySearch(indices, 0, count, index);
+        return position >= 0 ? exceptions[position] : null;
+    }
+
+    /**
+     * @return the {@code n}-th failure, in index order
+     */
+    Exception exceptionAt(int n) {
+        return exceptions[n];
+    }
+
+    /**
+     * The single pass behind the bulk operations of a batch: visits, in index order, each of the {@code size}
+     * elements which is not a failure of {@code this}, and marks it in {@code successes} unless {@code visitor}
+     * throws.
+     *
+     * @return the failures of the new batch: those of {@code this} and the exceptions thrown by {@code visitor}
+     */
+    SparseFailures visitSuccesses(int size, BitSet successes, IndexVisitor visitor) {
+        Builder newFailures = new Builder();
+        int next = 0;
+        for (int i = 0; i < size; i++) {
+            if (next < count && indices[next] == i) {
+                newFailures.add(i, exceptions[next++]);
+                continue;
+            }
+            try {
+                visitor.visit(i);
+                successes.set(i);
+            } catch (Exception e) {
+                newFailures.add(i, e);
+            }
+        }
+        return newFailures.build();
+    }
+
+    /**
+     * Visits, in index order, each failure of {@code this}, and marks its index in {@code successes} unless
+     * {@code visitor} throws.
+     *
+     * @return the failures left: the exceptions thrown by {@code visitor}
+     */
+    SparseFailures visitFailures(BitSet successes, FailureVisitor visitor) {
+        Builder newFailures = new Builder();
+        for (int n = 0; n < count; n++) {
+            try {
+                visitor.visit(indices[n], exceptions[n]);
+                successes.set(indices[n]);
+            } catch (Exception e) {
+                newFailures.add(indices[n], e);
+            }
+        }
+        return newFailures.build();
+    }
+
+    interface IndexVisitor {
+
+        /**
+         * @throws Exception to turn the element at {@code index} into a failure
+         */
+        void visit(int index) throws Exception;
+    }
+
+    interface FailureVisitor {
+
+        /**
+         * @throws Exception to keep the element at {@code index} a failure, of the exception thrown
+         */
+        void visit(int index, Exception exception) throws Exception;
+    }
+
+    /**
+     * Collects failures, which must be added in increasing index order.
+     */
+    static final class Builder {
+
+        private int[] indices = new int[8];
+        private Exception[] exceptions = new Exception[8];
+        private int count;
+
+        void add(int index, Exception exception) {
+            if (count == indices.length) {
+                indices = Arrays.copyOf(indices, count * 2);
+                exceptions = Arrays.copyOf(exceptions, count * 2);
+            }
+            indices[count] = index;
+            exceptions[count] = exception;
+            count++;
+        }
+
+        SparseFailures build() {
+            return count == 0 ? NONE : new SparseFailures(indices, exceptions, count);
+        }
+    }
+}
@@ -15,11 +15,30 @@
  */
 package com.lambdista.util;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
 
 /**
  * <p>The {@code Try} type represents a computation that may fail. If the computation is successful returns
@@ -59,6 +78,23 @@ import java.util.function.Predicate;
  */
 public abstract class Try<T> {
 
+    /**
+     * Name of the system property which, when set to {@code true}, makes the exceptions {@code Try} creates
+     * itself to signal expected control-flow failures (e.g. the {@link java.util.NoSuchElementException} of
+     * {@link Success#filter(Predicate)} or the {@link java.lang.UnsupportedOperationException} of
+     * {@link Success#failed()}) skip the stack-trace capture.
+     */
+    public static final String STACKLESS_FAILURES_PROPERTY = "com.lambdista.util.Try.stacklessFailures";
+
+    static boolean stacklessFailures = Boolean.getBoolean(STACKLESS_FAILURES_PROPERTY);
+
+    /**
+     * Name under which {@link Try#apply(FailableSupplier)} reports to the {@link TryListener}
+     */
+    public static final String APPLY = "apply";
+
+    private static volatile TryListener listener;
+
     /**
      * Ensures that the only possible instances of this class
      * are either {@link Success} or {@link Failure}
@@ -123,6 +159,36 @@ public abstract class Try<T> {
      */
     public abstract <U> Try<U> flatMap(Function<? super T, ? extends Try<U>> mapper);
 
+    /**
+     * Maps the value of type {@code T} to a primitive {@code int} by applying the {@code mapper} function to it
+     * if {@code this} is a {@link Success} otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value of type {@code T}
+     * @return the result of applying {@code mapper} wrapped in a {@link IntTry} if it's a {@link Success} or
+     * a {@link IntTry.Failure} with the same exception if it's a  {@link Failure}
+     */
+    public abstract IntTry mapToInt(ToIntFunction<? super T> mapper);
+
+    /**
+     * Maps the value of type {@code T} to a primitive {@code long} by applying the {@code mapper} function to it
+     * if {@code this} is a {@link Success} otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value of type {@code T}
+     * @return the result of applying {@code mapper} wrapped in a {@link LongTry} if it's a {@link Success} or
+     * a {@link LongTry.Failure} with the same exception if it's a  {@link Failure}
+     */
+    public abstract LongTry mapToLong(ToLongFunction<? super T> mapper);
+
+    /**
+     * Maps the value of type {@code T} to a primitive {@code double} by applying the {@code mapper} function to it
+     * if {@code this} is a {@link Success} otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value of type {@code T}
+     * @return the result of applying {@code mapper} wrapped in a {@link DoubleTry} if it's a {@link Success} or
+     * a {@link DoubleTry.Failure} with the same exception if it's a  {@link Failure}
+     */
+    public abstract DoubleTry mapToDouble(ToDoubleFunction<? super T> mapper);
+
     /**
      * Converts {@code this} to a {@link Failure} if the predicate is not satisfied.
      *
@@ -171,6 +237,14 @@ public abstract class Try<T> {
      */
     public abstract Optional<T> toOptional();
 
+    /**
+     * Converts this {@code Try<T>} into a {@code java.util.stream.Stream<T>}
+     *
+     * @return a {@link Stream} of the value if {@code this} is a {@link Success} or an empty {@link Stream}
+     * if {@code this} is a {@link Failure}
+     */
+    public abstract Stream<T> stream();
+
     /**
      * @param defaultValue the default value to return if {@code this} is a {@link Failure}
      * @return the value from {@code this} {@link Success} or the given {@code defaultValue}
@@ -206,6 +280,10 @@ public abstract class Try<T> {
      * @return a {@code Try} object (an instance of either {@link Success} or {@link Failure}
      */
     public static <T> Try<T> apply(FailableSupplier<T> supplier) {
+        TryListener current = listener;
+        if (current != null) {
+            return applyInstrumented(APPLY, supplier, current);
+        }
         try {
             return new Success<>(supplier.get());
         } catch (Exception e) {
@@ -213,6 +291,583 @@ public abstract class Try<T> {
         }
     }
 
+    /**
+     * Same as {@link Try#apply(FailableSupplier)} but the outcome and the duration of {@code supplier} are reported
+     * under {@code name} to the {@link TryListener} installed through {@link Try#setListener(TryListener)}, if any.
+     * Without a listener it costs as much as {@code apply}.
+     *
+     * @param name     the name of the call site
+     * @param supplier the {@link FailableSupplier} to use
+     * @param <T>      the type returned by the {@link FailableSupplier}
+     * @return a {@code Try} object (an instance of either {@link Success} or {@link Failure}
+     */
+    public static <T> Try<T> instrumented(String name, FailableSupplier<T> supplier) {
+        TryListener current = listener;
+        if (current != null) {
+            return applyInstrumented(name, supplier, current);
+        }
+        try {
+            return new Success<>(supplier.get());
+        } catch (Exception e) {
+            return new Failure<>(e);
+        }
+    }
+
+    /**
+     * Installs the {@link TryListener} which {@code apply}, {@code instrumented}, {@code recover} and
+     * {@code recoverWith} report to. There is at most one listener; {@code null} removes it, which is the default.
+     *
+     * @param newListener the listener to install or {@code null}
+     */
+    public static void setListener(TryListener newListener) {
+        listener = newListener;
+    }
+
+    /**
+     * @return the installed {@link TryListener} or {@code null} if there is none
+     */
+    public static TryListener getListener() {
+        return listener;
+    }
+
+    private static <T> Try<T> applyInstrumented(String name, FailableSupplier<T> supplier, TryListener listener) {
+        long start = System.nanoTime();
+        T value;
+        try {
+            value = supplier.get();
+        } catch (Exception e) {
+            listener.onFailure(name, e, System.nanoTime() - start);
+            return new Failure<>(e);
+        }
+        listener.onSuccess(name, System.nanoTime() - start);
+        return new Success<>(value);
+    }
+
+    static void notifyRecover(Exception exception) {
+        TryListener current = listener;
+        if (current != null) {
+            current.onRecover(exception);
+        }
+    }
+
+    /**
+     * Runs {@code supplier} on {@link TryExecutors#defaultExecutor()}, a virtual thread when available, and waits at
+     * most {@code timeout} for it.
+     *
+     * @param timeout  the maximum time to wait
+     * @param supplier the {@link FailableSupplier} to use
+     * @param <T>      the type returned by the {@link FailableSupplier}
+     * @return the outcome of {@code supplier} or, if it has not completed within {@code timeout}, a {@link Failure}
+     * of {@link TimeoutException}
+     * @see Try#applyWithin(Duration, FailableSupplier, Executor)
+     */
+    public static <T> Try<T> applyWithin(Duration timeout, FailableSupplier<T> supplier) {
+        return applyWithin(timeout, supplier, TryExecutors.defaultExecutor());
+    }
+
+    /**
+     * Runs {@code supplier} on {@code executor} and waits at most {@code timeout} for it. On expiry the supplier is
+     * interrupted, so that blocking I/O or waits give the thread back instead of working for nobody. If the calling
+     * thread is interrupted while waiting, the supplier is interrupted too and a {@link Failure} of
+     * {@link InterruptedException} is returned, with the interrupt status of the calling thread restored.
+     *
+     * @param timeout  the maximum time to wait
+     * @param supplier the {@link FailableSupplier} to use
+     * @param executor the {@link Executor} running {@code supplier}
+     * @param <T>      the type returned by the {@link FailableSupplier}
+     * @return the outcome of {@code supplier} or, if it has not completed within {@code timeout}, a {@link Failure}
+     * of {@link TimeoutException}
+     */
+    public static <T> Try<T> applyWithin(Duration timeout, FailableSupplier<T> supplier, Executor executor) {
+        FutureTask<T> task = new FutureTask<>(supplier::get);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            return new Failure<>(e);
+        }
+        try {
+            return new Success<>(task.get(timeout.toNanos(), TimeUnit.NANOSECONDS));
+        } catch (TimeoutException e) {
+            if (task.cancel(true)) {
+                return new Failure<>(new TimeoutException("Not completed within " + timeout));
+            }
+            // completed while timing out
+            return outcome(task);
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            return new Failure<>(e);
+        } catch (ExecutionException e) {
+            return failureOf(e.getCause());
+        }
+    }
+
+    private static <T> Try<T> outcome(FutureTask<T> task) {
+        try {
+            return new Success<>(task.get());
+        } catch (InterruptedException | CancellationException e) {
+            return new Failure<>(e);
+        } catch (ExecutionException e) {
+            return failureOf(e.getCause());
+        }
+    }
+
+    private static <T> Try<T> failureOf(Throwable cause) {
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new Failure<>((Exception) cause);
+    }
+
+    /**
+     * Runs all the {@code attempts} concurrently on {@code executor} and completes with the first {@link Success}.
+     * The other attempts are then cancelled, and interrupted if running. If every attempt fails, the result is a
+     * {@link Failure} of {@link CompositeException} carrying their exceptions, in the order of {@code attempts},
+     * unless one of them threw an {@link Error}: then the {@link TryFuture} completes exceptionally with it.
+     *
+     * @param attempts the {@link FailableSupplier}s to race, e.g. the same request sent to different replicas
+     * @param executor the {@link Executor} running the attempts
+     * @param <T>      the type returned by the {@link FailableSupplier}s
+     * @return a {@link TryFuture} completing with the first {@link Success} or a {@link Failure}
+     */
+    public static <T> TryFuture<T> firstSuccess(Collection<? extends FailableSupplier<? extends T>> attempts,
+                                                Executor executor) {
+        return Race.firstSuccess(attempts, executor);
+    }
+
+    /**
+     * Hedges a request: runs the first of {@code attempts} on {@code executor} and, each time {@code hedgeDelay}
+     * elapses or an attempt fails without a {@link Success} yet, launches the next one. Completes with the first
+     * {@link Success}, cancelling, and interrupting if running, the other attempts. If every attempt fails, the
+     * result is a {@link Failure} of {@link CompositeException} carrying their exceptions, in the order of
+     * {@code attempts}, unless one of them threw an {@link Error}: then the {@link TryFuture} completes exceptionally
+     * with it. The delays are waited on a shared single-thread scheduler.
+     *
+     * <pre>
+     * TryFuture&lt;Row&gt; row = Try.hedged(Arrays.asList(() -&gt; primary.read(key), () -&gt; replica.read(key)),
+     *         Duration.ofMillis(20), executor);
+     * </pre>
+     *
+     * @param attempts   the {@link FailableSupplier}s to launch, in order
+     * @param hedgeDelay the delay after which the next attempt is launched, typically the p95 latency
+     * @param executor   the {@link Executor} running the attempts
+     * @param <T>        the type returned by the {@link FailableSupplier}s
+     * @return a {@link TryFuture} completing with the first {@link Success} or a {@link Failure}
+     */
+    public static <T> TryFuture<T> hedged(Collection<? extends FailableSupplier<? extends T>> attempts,
+                                          Duration hedgeDelay, Executor executor) {
+        return hedged(attempts, hedgeDelay, executor, TryExecutors.defaultScheduler());
+    }
+
+    /**
+     * Like {@link Try#hedged(Collection, Duration, Executor)} but waits the delays on {@code scheduler}.
+     *
+     * @param attempts   the {@link FailableSupplier}s to launch, in order
+     * @param hedgeDelay the delay after which the next attempt is launched, typically the p95 latency
+     * @param executor   the {@link Executor} running the attempts
+     * @param scheduler  the {@link ScheduledExecutorService} waiting the delays
+     * @param <T>        the type returned by the {@link FailableSupplier}s
+     * @return a {@link TryFuture} completing with the first {@link Success} or a {@link Failure}
+     */
+    public static <T> TryFuture<T> hedged(Collection<? extends FailableSupplier<? extends T>> attempts,
+                                          Duration hedgeDelay, Executor executor,
+                                          ScheduledExecutorService scheduler) {
+        return Race.hedged(attempts, hedgeDelay.toNanos(), executor, scheduler);
+    }
+
+    /**
+     * Acquires a resource, applies {@code body} to it and closes it, whatever the outcome, exactly like a
+     * try-with-resources statement. If {@code body} fails, an exception thrown by {@code close} is added as
+     * suppressed to the exception of the {@link Failure}. If only {@code close} fails, a {@link Failure} of its
+     * exception is returned.
+     *
+     * <pre>
+     * Try&lt;String&gt; page = Try.withResources(() -&gt; new Scanner(new URL(url).openStream(), "UTF-8"),
+     *         scanner -&gt; scanner.useDelimiter("\\A").next());
+     * </pre>
+     *
+     * @param resource the {@link FailableSupplier} acquiring the resource
+     * @param body     the {@link FailableFunction} using the resource
+     * @param <R>      the type of the resource
+     * @param <T>      the type returned by {@code body}
+     * @return the result of {@code body}, or a {@link Failure} if acquiring, using or closing the resource fails
+     */
+    public static <R extends AutoCloseable, T> Try<T> withResources(FailableSupplier<? extends R> resource,
+                                                                    FailableFunction<? super R, ? extends T> body) {
+        try (R r = resource.get()) {
+            return new Success<>(body.apply(r));
+        } catch (Exception e) {
+            return new Failure<>(e);
+        }
+    }
+
+    /**
+     * Like {@link Try#withResources(FailableSupplier, FailableFunction)} but with two resources, acquired in order
+     * and closed in reverse order. If acquiring the second one fails, the first one is closed.
+     *
+     * @param resource1 the {@link FailableSupplier} acquiring the first resource
+     * @param resource2 the {@link FailableSupplier} acquiring the second resource
+     * @param body      the {@link FailableBiFunction} using the resources
+     * @param <R1>      the type of the first resource
+     * @param <R2>      the type of the second resource
+     * @param <T>       the type returned by {@code body}
+     * @return the result of {@code body}, or a {@link Failure} if acquiring, using or closing a resource fails
+     */
+    public static <R1 extends AutoCloseable, R2 extends AutoCloseable, T> Try<T> withResources(
+            FailableSupplier<? extends R1> resource1, FailableSupplier<? extends R2> resource2,
+            FailableBiFunction<? super R1, ? super R2, ? extends T> body) {
+        try (R1 r1 = resource1.get(); R2 r2 = resource2.get()) {
+            return new Success<>(body.apply(r1, r2));
+        } catch (Exception e) {
+            return new Failure<>(e);
+        }
+    }
+
+    /**
+     * Like {@link Try#withResources(FailableSupplier, FailableFunction)} but with three resources, acquired in
+     * order and closed in reverse order. If acquiring a resource fails, the ones already acquired are closed.
+     *
+     * @param resource1 the {@link FailableSupplier} acquiring the first resource
+     * @param resource2 the {@link FailableSupplier} acquiring the second resource
+     * @param resource3 the {@link FailableSupplier} acquiring the third resource
+     * @param body      the {@link FailableTriFunction} using the resources
+     * @param <R1>      the type of the first resource
+     * @param <R2>      the type of the second resource
+     * @param <R3>      the type of the third resource
+     * @param <T>       the type returned by {@code body}
+     * @return the result of {@code body}, or a {@link Failure} if acquiring, using or closing a resource fails
+     */
+    public static <R1 extends AutoCloseable, R2 extends AutoCloseable, R3 extends AutoCloseable, T> Try<T>
+    withResources(FailableSupplier<? extends R1> resource1, FailableSupplier<? extends R2> resource2,
+                  FailableSupplier<? extends R3> resource3,
+                  FailableTriFunction<? super R1, ? super R2, ? super R3, ? extends T> body) {
+        try (R1 r1 = resource1.get(); R2 r2 = resource2.get(); R3 r3 = resource3.get()) {
+            return new Success<>(body.apply(r1, r2, r3));
+        } catch (Exception e) {
+            return new Failure<>(e);
+        }
+    }
+
+    /**
+     * Runs the {@link FailableSupplier} parameter asynchronously on the given {@link Executor}.
+     *
+     * @param supplier the {@link FailableSupplier} to use
+     * @param executor the {@link Executor} running {@code supplier}
+     * @param <T>      the type returned by the {@link FailableSupplier}
+     * @return a {@link TryFuture} completing with either a {@link Success} or a {@link Failure}
+     * @see TryFuture#applyAsync(FailableSupplier, Executor)
+     */
+    public static <T> TryFuture<T> applyAsync(FailableSupplier<T> supplier, Executor executor) {
+        return TryFuture.applyAsync(supplier, executor);
+    }
+
+    /**
+     * Runs {@code supplier} on {@link TryExecutors#defaultExecutor()}, retrying it according to {@code policy}.
+     * The delays between attempts are waited on a shared single-thread scheduler, so no thread is held while
+     * waiting.
+     *
+     * @param policy   the {@link RetryPolicy} to use
+     * @param supplier the {@link FailableSupplier} to use
+     * @param <T>      the type returned by the {@link FailableSupplier}
+     * @return a {@link TryFuture} completing with the first {@link Success} or the last {@link Failure}
+     */
+    public static <T> TryFuture<T> retry(RetryPolicy policy, FailableSupplier<T> supplier) {
+        return retry(policy, supplier, TryExecutors.defaultExecutor(), TryExecutors.defaultScheduler());
+    }
+
+    /**
+     * Runs {@code supplier} on {@code executor}, retrying it according to {@code policy}. The delays between
+     * attempts are waited on {@code scheduler}, so no thread is held while waiting.
+     *
+     * @param policy    the {@link RetryPolicy} to use
+     * @param supplier  the {@link FailableSupplier} to use
+     * @param executor  the {@link Executor} running the attempts
+     * @param scheduler the {@link ScheduledExecutorService} waiting the delays between attempts
+     * @param <T>       the type returned by the {@link FailableSupplier}
+     * @return a {@link TryFuture} completing with the first {@link Success} or the last {@link Failure}, with a
+     * {@link Failure} of the exception thrown by the policy's retry predicate if it throws, or exceptionally if an
+     * attempt throws an {@link Error}
+     */
+    public static <T> TryFuture<T> retry(RetryPolicy policy, FailableSupplier<T> supplier, Executor executor,
+                                         ScheduledExecutorService scheduler) {
+        return policy.execute(supplier, executor, scheduler);
+    }
+
+    /**
+     * Turns a collection of {@code Try}s into a single {@code Try} of the list of their values.
+     *
+     * @param tries the {@code Try}s to combine
+     * @param <T>   the type of the values
+     * @return a {@link Success} of the values, in iteration order, if every element is a {@link Success}
+     * or the first {@link Failure} found otherwise
+     */
+    public static <T> Try<List<T>> sequence(Collection<? extends Try<? extends T>> tries) {
+        return traverse(tries, Function.identity());
+    }
+
+    /**
+     * Applies {@code mapper} to each element of {@code input}, stopping at the first {@link Failure}.
+     *
+     * @param input  the elements to map
+     * @param mapper the function to apply to each element
+     * @param <A>    the type of the elements
+     * @param <B>    the type of the values
+     * @return a {@link Success} of the mapped values, in iteration order, if every element maps to a
+     * {@link Success} or the first {@link Failure} otherwise. The remaining elements are not mapped.
+     */
+    public static <A, B> Try<List<B>> traverse(Collection<? extends A> input,
+                                               Function<? super A, ? extends Try<? extends B>> mapper) {
+        List<B> values = new ArrayList<>(input.size());
+        for (A element : input) {
+            Try<? extends B> result;
+            try {
+                result = mapper.apply(element);
+            } catch (Exception e) {
+                return new Failure<>(e);
+            }
+            if (result.isFailure()) {
+                return new Failure<>(result.failed().get(), false);
+            }
+            values.add(result.get());
+        }
+        return new Success<>(values);
+    }
+
+    /**
+     * Runs the given suppliers in parallel on the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param suppliers the {@link FailableSupplier}s to run
+     * @param <T>       the type of the values
+     * @return a {@link Success} of the values, in the same order as {@code suppliers}, or a {@link Failure}
+     * @see Try#parallelTraverse(List, Function, ForkJoinPool)
+     */
+    public static <T> Try<List<T>> parallelSequence(List<? extends FailableSupplier<? extends T>> suppliers) {
+        return parallelTraverse(suppliers, supplier -> Try.apply(supplier::get), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Applies {@code mapper} to each element of {@code input} in parallel on the
+     * {@link ForkJoinPool#commonPool()}.
+     *
+     * @param input  the elements to map
+     * @param mapper the function to apply to each element
+     * @param <A>    the type of the elements
+     * @param <B>    the type of the values
+     * @return a {@link Success} of the mapped values, in the same order as {@code input}, or a {@link Failure}
+     * @see Try#parallelTraverse(List, Function, ForkJoinPool)
+     */
+    public static <A, B> Try<List<B>> parallelTraverse(List<? extends A> input,
+                                                       Function<? super A, ? extends Try<? extends B>> mapper) {
+        return parallelTraverse(input, mapper, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Applies {@code mapper} to each element of {@code input} in parallel on the given {@link ForkJoinPool}.
+     * The results are written into a list presized to {@code input.size()}, so their order is kept. As soon as
+     * one element fails no further element is mapped; the elements already running are left to complete.
+     * {@code input} should support fast random access.
+     *
+     * @param input  the elements to map
+     * @param mapper the function to apply to each element
+     * @param pool   the {@link ForkJoinPool} to run on
+     * @param <A>    the type of the elements
+     * @param <B>    the type of the values
+     * @return a {@link Success} of the mapped values, in the same order as {@code input}, if every element maps
+     * to a {@link Success} or a {@link Failure} otherwise. If several elements fail, the {@code Failure} of any of
+     * them may be returned.
+     */
+    public static <A, B> Try<List<B>> parallelTraverse(List<? extends A> input,
+                                                       Function<? super A, ? extends Try<? extends B>> mapper,
+                                                       ForkJoinPool pool) {
+        return ParallelTraverse.traverse(input, mapper, pool);
+    }
+
+    /**
+     * Parses a decimal {@code int}, with an optional sign, as {@link Integer#parseInt(String)} does. It never throws:
+     * malformed input yields a cached {@code Failure} whose exception has no stack trace.
+     *
+     * @param input the characters to parse
+     * @return an {@code int} wrapped in a {@code Success} or a {@code Failure} if {@code input} is malformed
+     */
+    public static IntTry parseInt(CharSequence input) {
+        return Parsers.parseInt(input, 0, input.length());
+    }
+
+    /**
+     * Parses the {@code length} characters of {@code input} starting at {@code offset}, without copying them.
+     *
+     * @param input  the characters to parse
+     * @param offset the index of the first character to parse
+     * @param length the number of characters to parse
+     * @return an {@code int} wrapped in a {@code Success} or a {@code Failure} if the range is malformed
+     * @throws IndexOutOfBoundsException if the range is not within {@code input}
+     * @see Try#parseInt(CharSequence)
+     */
+    public static IntTry parseInt(CharSequence input, int offset, int length) {
+        return Parsers.parseInt(input, offset, length);
+    }
+
+    /**
+     * Parses a decimal {@code long}, with an optional sign, as {@link Long#parseLong(String)} does. It never throws:
+     * malformed input yields a cached {@code Failure} whose exception has no stack trace.
+     *
+     * @param input the characters to parse
+     * @return a {@code long} wrapped in a {@code Success} or a {@code Failure} if {@code input} is malformed
+     */
+    public static LongTry parseLong(CharSequence input) {
+        return Parsers.parseLong(input, 0, input.length());
+    }
+
+    /**
+     * Parses the {@code length} characters of {@code input} starting at {@code offset}, without copying them.
+     *
+     * @param input  the characters to parse
+     * @param offset the index of the first character to parse
+     * @param length the number of characters to parse
+     * @return a {@code long} wrapped in a {@code Success} or a {@code Failure} if the range is malformed
+     * @throws IndexOutOfBoundsException if the range is not within {@code input}
+     * @see Try#parseLong(CharSequence)
+     */
+    public static LongTry parseLong(CharSequence input, int offset, int length) {
+        return Parsers.parseLong(input, offset, length);
+    }
+
+    /**
+     * Parses a decimal {@code double}, with an optional sign, fraction and exponent, or {@code NaN} and {@code
+     * Infinity}. Unlike {@link Double#parseDouble(String)} neither surrounding whitespace, hexadecimal notation nor
+     * type suffixes are accepted. It never throws: malformed input yields a cached {@code Failure} whose exception has
+     * no stack trace.
+     *
+     * @param input the characters to parse
+     * @return a {@code double} wrapped in a {@code Success} or a {@code Failure} if {@code input} is malformed
+     */
+    public static DoubleTry parseDouble(CharSequence input) {
+        return Parsers.parseDouble(input, 0, input.length());
+    }
+
+    /**
+     * Parses the {@code length} characters of {@code input} starting at {@code offset}, without copying them.
+     *
+     * @param input  the characters to parse
+     * @param offset the index of the first character to parse
+     * @param length the number of characters to parse
+     * @return a {@code double} wrapped in a {@code Success} or a {@code Failure} if the range is malformed
+     * @throws IndexOutOfBoundsException if the range is not within {@code input}
+     * @see Try#parseDouble(CharSequence)
+     */
+    public static DoubleTry parseDouble(CharSequence input, int offset, int length) {
+        return Parsers.parseDouble(input, offset, length);
+    }
+
+    /**
+     * Parses either {@code "true"} or {@code "false"}, ignoring case. Unlike {@link Boolean#parseBoolean(String)} any
+     * other input is a failure. It never throws: malformed input yields a cached {@code Failure} whose exception has
+     * no stack trace.
+     *
+     * @param input the characters to parse
+     * @return a {@code boolean} wrapped in a {@code Success} or a {@code Failure} if {@code input} is malformed
+     */
+    public static Try<Boolean> parseBoolean(CharSequence input) {
+        return Parsers.parseBoolean(input, 0, input.length());
+    }
+
+    /**
+     * Parses the {@code length} characters of {@code input} starting at {@code offset}, without copying them.
+     *
+     * @param input  the characters to parse
+     * @param offset the index of the first character to parse
+     * @param length the number of characters to parse
+     * @return a {@code boolean} wrapped in a {@code Success} or a {@code Failure} if the range is malformed
+     * @throws IndexOutOfBoundsException if the range is not within {@code input}
+     * @see Try#parseBoolean(CharSequence)
+     */
+    public static Try<Boolean> parseBoolean(CharSequence input, int offset, int length) {
+        return Parsers.parseBoolean(input, offset, length);
+    }
+
+    /**
+     * Parses the canonical 36 characters representation of a {@link UUID}. It never throws: malformed input yields a
+     * cached {@code Failure} whose exception has no stack trace.
+     *
+     * @param input the characters to parse
+     * @return a {@link UUID} wrapped in a {@code Success} or a {@code Failure} if {@code input} is malformed
+     */
+    public static Try<UUID> parseUUID(CharSequence input) {
+        return Parsers.parseUUID(input, 0, input.length());
+    }
+
+    /**
+     * Parses the {@code length} characters of {@code input} starting at {@code offset}, without copying them.
+     *
+     * @param input  the characters to parse
+     * @param offset the index of the first character to parse
+     * @param length the number of characters to parse
+     * @return a {@link UUID} wrapped in a {@code Success} or a {@code Failure} if the range is malformed
+     * @throws IndexOutOfBoundsException if the range is not within {@code input}
+     * @see Try#parseUUID(CharSequence)
+     */
+    public static Try<UUID> parseUUID(CharSequence input, int offset, int length) {
+        return Parsers.parseUUID(input, offset, length);
+    }
+
+    /**
+     * Parses an ISO-8601 {@code yyyy-MM-dd} date with a four digits year. It never throws: malformed input yields a
+     * cached {@code Failure} whose exception has no stack trace.
+     *
+     * @param input the characters to parse
+     * @return a {@link LocalDate} wrapped in a {@code Success} or a {@code Failure} if {@code input} is malformed
+     */
+    public static Try<LocalDate> parseLocalDate(CharSequence input) {
+        return Parsers.parseLocalDate(input, 0, input.length());
+    }
+
+    /**
+     * Parses the {@code length} characters of {@code input} starting at {@code offset}, without copying them.
+     *
+     * @param input  the characters to parse
+     * @param offset the index of the first character to parse
+     * @param length the number of characters to parse
+     * @return a {@link LocalDate} wrapped in a {@code Success} or a {@code Failure} if the range is malformed
+     * @throws IndexOutOfBoundsException if the range is not within {@code input}
+     * @see Try#parseLocalDate(CharSequence)
+     */
+    public static Try<LocalDate> parseLocalDate(CharSequence input, int offset, int length) {
+        return Parsers.parseLocalDate(input, offset, length);
+    }
+
+    static NoSuchElementException noSuchElement(String message) {
+        return stacklessFailures ? new StacklessNoSuchElementException(message) : new NoSuchElementException(message);
+    }
+
+    static UnsupportedOperationException unsupportedOperation(String message) {
+        return stacklessFailures
+                ? new StacklessUnsupportedOperationException(message)
+                : new UnsupportedOperationException(message);
+    }
+
+    private static final class StacklessNoSuchElementException extends NoSuchElementException {
+
+        StacklessNoSuchElementException(String message) {
+            super(message);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    private static final class StacklessUnsupportedOperationException extends UnsupportedOperationException {
+
+        StacklessUnsupportedOperationException(String message) {
+            super(message);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
 
     /**
      * Represents the successful result of a computation
@@ -255,7 +910,11 @@ public abstract class Try<T> {
 
         @Override
         public <U> Try<U> map(Function<? super T, ? extends U> mapper) {
-            return Try.apply(() -> mapper.apply(value));
+            try {
+                return new Success<>(mapper.apply(value));
+            } catch (Exception e) {
+                return new Failure<>(e);
+            }
         }
 
         @Override
@@ -267,13 +926,40 @@ public abstract class Try<T> {
             }
         }
 
+        @Override
+        public IntTry mapToInt(ToIntFunction<? super T> mapper) {
+            try {
+                return new IntTry.Success(mapper.applyAsInt(value));
+            } catch (Exception e) {
+                return new IntTry.Failure(e);
+            }
+        }
+
+        @Override
+        public LongTry mapToLong(ToLongFunction<? super T> mapper) {
+            try {
+                return new LongTry.Success(mapper.applyAsLong(value));
+            } catch (Exception e) {
+                return new LongTry.Failure(e);
+            }
+        }
+
+        @Override
+        public DoubleTry mapToDouble(ToDoubleFunction<? super T> mapper) {
+            try {
+                return new DoubleTry.Success(mapper.applyAsDouble(value));
+            } catch (Exception e) {
+                return new DoubleTry.Failure(e);
+            }
+        }
+
         @Override
         public Try<T> filter(Predicate<? super T> predicate) {
             try {
                 if (predicate.test(value)) {
                     return this;
                 } else {
-                    return new Failure<>(new NoSuchElementException("Predicate does not hold for " + value));
+                    return new Failure<>(noSuchElement("Predicate does not hold for " + value));
                 }
             } catch (Exception e) {
                 return new Failure<>(e);
@@ -294,7 +980,7 @@ public abstract class Try<T> {
 
         @Override
         public Try<Exception> failed() {
-            return new Failure<>(new UnsupportedOperationException("Success.failed"));
+            return new Failure<>(unsupportedOperation("Success.failed"));
         }
 
         @Override
@@ -302,6 +988,11 @@ public abstract class Try<T> {
             return Optional.of(value);
         }
 
+        @Override
+        public Stream<T> stream() {
+            return Stream.of(value);
+        }
+
         @Override
         public T getOrElse(T defaultValue) {
             return value;
@@ -351,11 +1042,21 @@ public abstract class Try<T> {
     public static final class Failure<T> extends Try<T> {
 
         private final Exception exception;
-        private final GetOfFailureException unckeckedException;
 
         public Failure(Exception exception) {
+            this(exception, true);
+        }
+
+        /**
+         * @param exception the exception
+         * @param report    {@code false} when {@code exception} comes from a failure of another type, which already
+         *                  reported it to JFR
+         */
+        Failure(Exception exception, boolean report) {
             this.exception = exception;
-            this.unckeckedException = new GetOfFailureException(exception);
+            if (report) {
+                JfrEvents.failureCreated(exception);
+            }
         }
 
         @Override
@@ -370,7 +1071,7 @@ public abstract class Try<T> {
 
         @Override
         public T get() {
-            throw unckeckedException;
+            throw new GetOfFailureException(exception);
         }
 
         @Override
@@ -394,6 +1095,21 @@ public abstract class Try<T> {
             return (Try<U>) this;
         }
 
+        @Override
+        public IntTry mapToInt(ToIntFunction<? super T> mapper) {
+            return new IntTry.Failure(exception, false);
+        }
+
+        @Override
+        public LongTry mapToLong(ToLongFunction<? super T> mapper) {
+            return new LongTry.Failure(exception, false);
+        }
+
+        @Override
+        public DoubleTry mapToDouble(ToDoubleFunction<? super T> mapper) {
+            return new DoubleTry.Failure(exception, false);
+        }
+
         @Override
         public Try<T> filter(Predicate<? super T> predicate) {
             return this;
@@ -401,19 +1117,27 @@ public abstract class Try<T> {
 
         @Override
         public <U> Try<U> recover(Function<? super Exception, ? extends U> recoverFunc) {
+            notifyRecover(exception);
+            Object event = JfrEvents.recoverStarted();
             try {
-                return Try.apply(() -> recoverFunc.apply(exception));
+                return new Success<>(recoverFunc.apply(exception));
             } catch (Exception e) {
                 return new Failure<>(e);
+            } finally {
+                JfrEvents.recoverEnded(event, exception, "recover");
             }
         }
 
         @Override
         public <U> Try<U> recoverWith(Function<? super Exception, ? extends Try<U>> recoverFunc) {
+            notifyRecover(exception);
+            Object event = JfrEvents.recoverStarted();
             try {
                 return recoverFunc.apply(exception);
             } catch (Exception e) {
                 return new Failure<>(e);
+            } finally {
+                JfrEvents.recoverEnded(event, exception, "recoverWith");
             }
         }
 
@@ -427,6 +1151,11 @@ public abstract class Try<T> {
             return Optional.empty();
         }
 
+        @Override
+        public Stream<T> stream() {
+            return Stream.empty();
+        }
+
         @Override
         public T getOrElse(T defaultValue) {
             return defaultValue;
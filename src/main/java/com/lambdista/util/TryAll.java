@@ -0,0 +1,376 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * <p>Runs independent {@link FailableSupplier}s and combines their results. Unlike a chain of
+ * {@link Try#flatMap(java.util.function.Function)}, which stops at the first {@link Try.Failure}, every supplier is
+ * run: if all of them succeed, their values are passed to a combiner, otherwise a single {@link Try.Failure} of
+ * {@link CompositeException} is returned, carrying every exception as suppressed, in the order of the suppliers.
+ * This makes it suitable for validation, where all the errors must be reported at once.</p>
+ *
+ * <pre>
+ * Try&lt;User&gt; user = TryAll.parallel().apply(
+ *         () -&gt; validateName(form.name()),
+ *         () -&gt; validateEmail(form.email()),
+ *         () -&gt; validateAge(form.age()),
+ *         User::new);
+ * </pre>
+ *
+ * <p>A {@link TryAll#sequential()} instance runs the suppliers one after the other on the calling thread. A
+ * {@link TryAll#parallel(Executor)} instance runs them concurrently on the executor, the first one on the calling
+ * thread, and waits for all of them. The values are collected in a plain array, no intermediate {@link Try} is
+ * allocated.</p>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public final class TryAll {
+
+    private static final TryAll SEQUENTIAL = new TryAll(null);
+
+    private final Executor executor;
+
+    private TryAll(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * @return a {@code TryAll} running the suppliers sequentially on the calling thread
+     */
+    public static TryAll sequential() {
+        return SEQUENTIAL;
+    }
+
+    /**
+     * @return a {@code TryAll} running the suppliers concurrently on {@link TryExecutors#defaultExecutor()}
+     */
+    public static TryAll parallel() {
+        return parallel(TryExecutors.defaultExecutor());
+    }
+
+    /**
+     * @param executor the {@link Executor} running the suppliers. If it rejects a supplier, the supplier is run on
+     *                 the calling thread
+     * @return a {@code TryAll} running the suppliers concurrently on {@code executor}
+     */
+    public static TryAll parallel(Executor executor) {
+        return new TryAll(Objects.requireNonNull(executor));
+    }
+
+    /**
+     * @param suppliers the {@link FailableSupplier}s to run
+     * @param <T>       the type returned by the suppliers
+     * @return a {@link Try.Success} of the list of the values, in the order of the suppliers, or a
+     * {@link Try.Failure} of {@link CompositeException}
+     */
+    public <T> Try<List<T>> apply(List<? extends FailableSupplier<? extends T>> suppliers) {
+        Object[] values = new Object[suppliers.size()];
+        Exception failure = run(values, suppliers.toArray(new FailableSupplier<?>[0]));
+        if (failure != null) {
+            return new Try.Failure<>(failure);
+        }
+        List<T> result = new ArrayList<>(values.length);
+        for (Object value : values) {
+            result.add(cast(value));
+        }
+        return new Try.Success<>(Collections.unmodifiableList(result));
+    }
+
+    /**
+     * Runs {@code a} to {@code b} and, if all of them succeed, combines their values with {@code combiner}.
+     *
+     * @return a {@link Try.Success} of the combined value, a {@link Try.Failure} of {@link CompositeException}
+     * if a supplier failed, or a {@link Try.Failure} of the exception thrown by {@code combiner}
+     */
+    public <A, B, R> Try<R> apply(FailableSupplier<? extends A> a, FailableSupplier<? extends B> b,
+                                  FailableBiFunction<? super A, ? super B, ? extends R> combiner) {
+        Object[] v = new Object[2];
+        Exception failure = run(v, a, b);
+        if (failure != null) {
+            return new Try.Failure<>(failure);
+        }
+        try {
+            return new Try.Success<>(combiner.apply(cast(v[0]), cast(v[1])));
+        } catch (Exception e) {
+            return new Try.Failure<>(e);
+        }
+    }
+
+    /**
+     * Runs {@code a} to {@code c} and, if all of them succeed, combines their values with {@code combiner}.
+     *
+     * @return a {@link Try.Success} of the combined value, a {@link Try.Failure} of {@link CompositeException}
+     * if a supplier failed, or a {@link Try.Failure} of the exception thrown by {@code combiner}
+     */
+    public <A, B, C, R> Try<R> apply(FailableSupplier<? extends A> a, FailableSupplier<? extends B> b,
+                                     FailableSupplier<? extends C> c,
+                                     FailableTriFunction<? super A, ? super B, ? super C, ? extends R> combiner) {
+        Object[] v = new Object[3];
+        Exception failure = run(v, a, b, c);
+        if (failure != null) {
+            return new Try.Failure<>(failure);
+        }
+        try {
+            return new Try.Success<>(combiner.apply(cast(v[0]), cast(v[1]), cast(v[2])));
+        } catch (Exception e) {
+            return new Try.Failure<>(e);
+        }
+    }
+
+    /**
+     * Runs {@code a} to {@code d} and, if all of them succeed, combines their values with {@code combiner}.
+     *
+     * @return a {@link Try.Success} of the combined value, a {@link Try.Failure} of {@link CompositeException}
+     * if a supplier failed, or a {@link Try.Failure} of the exception thrown by {@code combiner}
+     */
+    public <A, B, C, D, R> Try<R> apply(FailableSupplier<? extends A> a, FailableSupplier<? extends B> b,
+                                        FailableSupplier<? extends C> c, FailableSupplier<? extends D> d,
+                                        Combiner4<? super A, ? super B, ? super C, ? super D, ? extends R> combiner) {
+        Object[] v = new Object[4];
+        Exception failure = run(v, a, b, c, d);
+        if (failure != null) {
+            return new Try.Failure<>(failure);
+        }
+        try {
+            return new Try.Success<>(combiner.apply(cast(v[0]), cast(v[1]), cast(v[2]), cast(v[3])));
+        } catch (Exception e) {
+            return new Try.Failure<>(e);
+        }
+    }
+
+    /**
+     * Runs {@code a} to {@code e} and, if all of them succeed, combines their values with {@code combiner}.
+     *
+     * @return a {@link Try.Success} of the combined value, a {@link Try.Failure} of {@link CompositeException}
+     * if a supplier failed, or a {@link Try.Failure} of the exception thrown by {@code combiner}
+     */
+    public <A, B, C, D, E, R> Try<R> apply(FailableSupplier<? extends A> a, FailableSupplier<? extends B> b,
+                                           FailableSupplier<? extends C> c, FailableSupplier<? extends D> d,
+                                           FailableSupplier<? extends E> e,
+                                           Combiner5<? super A, ? super B, ? super C, ? super D, ? super E,
+                                                   ? extends R> combiner) {
+        Object[] v = new Object[5];
+        Exception failure = run(v, a, b, c, d, e);
+        if (failure != null) {
+            return new Try.Failure<>(failure);
+        }
+        try {
+            return new Try.Success<>(combiner.apply(cast(v[0]), cast(v[1]), cast(v[2]), cast(v[3]), cast(v[4])));
+        } catch (Exception ex) {
+            return new Try.Failure<>(ex);
+        }
+    }
+
+    /**
+     * Runs {@code a} to {@code f} and, if all of them succeed, combines their values with {@code combiner}.
+     *
+     * @return a {@link Try.Success} of the combined value, a {@link Try.Failure} of {@link CompositeException}
+     * if a supplier failed, or a {@link Try.Failure} of the exception thrown by {@code combiner}
+     */
+    public <A, B, C, D, E, F, R> Try<R> apply(FailableSupplier<? extends A> a, FailableSupplier<? extends B> b,
+                                              FailableSupplier<? extends C> c, FailableSupplier<? extends D> d,
+                                              FailableSupplier<? extends E> e, FailableSupplier<? extends F> f,
+                                              Combiner6<? super A, ? super B, ? super C, ? super D, ? super E,
+                                                      ? super F, ? extends R> combiner) {
+        Object[] v = new Object[6];
+        Exception failure = run(v, a, b, c, d, e, f);
+        if (failure != null) {
+            return new Try.Failure<>(failure);
+        }
+        try {
+            return new Try.Success<>(combiner.apply(cast(v[0]), cast(v[1]), cast(v[2]), cast(v[3]), cast(v[4]),
+                    cast(v[5])));
+        } catch (Exception ex) {
+            return new Try.Failure<>(ex);
+        }
+    }
+
+    /**
+     * Runs {@code a} to {@code g} and, if all of them succeed, combines their values with {@code combiner}.
+     *
+     * @return a {@link Try.Success} of the combined value, a {@link Try.Failure} of {@link CompositeException}
+     * if a supplier failed, or a {@link Try.Failure} of the exception thrown by {@code combiner}
+     */
+    public <A, B, C, D, E, F, G, R> Try<R> apply(FailableSupplier<? extends A> a, FailableSupplier<? extends B> b,
+                                                 FailableSupplier<? extends C> c, FailableSupplier<? extends D> d,
+                                                 FailableSupplier<? extends E> e, FailableSupplier<? extends F> f,
+                                                 FailableSupplier<? extends G> g,
+                                                 Combiner7<? super A, ? super B, ? super C, ? super D, ? super E,
+                                                         ? super F, ? super G, ? extends R> combiner) {
+        Object[] v = new Object[7];
+        Exception failure = run(v, a, b, c, d, e, f, g);
+        if (failure != null) {
+            return new Try.Failure<>(failure);
+        }
+        try {
+            return new Try.Success<>(combiner.apply(cast(v[0]), cast(v[1]), cast(v[2]), cast(v[3]), cast(v[4]),
+                    cast(v[5]), cast(v[6])));
+        } catch (Exception ex) {
+            return new Try.Failure<>(ex);
+        }
+    }
+
+    /**
+     * Runs {@code a} to {@code h} and, if all of them succeed, combines their values with {@code combiner}.
+     *
+     * @return a {@link Try.Success} of the combined value, a {@link Try.Failure} of {@link CompositeException}
+     * if a supplier failed, or a {@link Try.Failure} of the exception thrown by {@code combiner}
+     */
+    public <A, B, C, D, E, F, G, H, R> Try<R> apply(FailableSupplier<? extends A> a, FailableSupplier<? extends B> b,
+                                                    FailableSupplier<? extends C> c, FailableSupplier<? extends D> d,
+                                                    FailableSupplier<? extends E> e, FailableSupplier<? extends F> f,
+                                                    FailableSupplier<? extends G> g, FailableSupplier<? extends H> h,
+                                                    Combiner8<? super A, ? super B, ? super C, ? super D, ? super E,
+                                                            ? super F, ? super G, ? super H, ? extends R> combiner) {
+        Object[] v = new Object[8];
+        Exception failure = run(v, a, b, c, d, e, f, g, h);
+        if (failure != null) {
+            return new Try.Failure<>(failure);
+        }
+        try {
+            return new Try.Success<>(combiner.apply(cast(v[0]), cast(v[1]), cast(v[2]), cast(v[3]), cast(v[4]),
+                    cast(v[5]), cast(v[6]), cast(v[7])));
+        } catch (Exception ex) {
+            return new Try.Failure<>(ex);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object value) {
+        return (T) value;
+    }
+
+    /**
+     * Runs every supplier, storing its value in {@code values}.
+     *
+     * @return {@code null} if all the suppliers succeeded, the {@link CompositeException} otherwise
+     */
+    private Exception run(Object[] values, FailableSupplier<?>... suppliers) {
+        Throwable[] failures = new Throwable[suppliers.length];
+        if (executor == null || suppliers.length < 2) {
+            for (int i = 0; i < suppliers.length; i++) {
+                runOne(suppliers[i], i, values, failures);
+            }
+        } else {
+            CountDownLatch done = new CountDownLatch(suppliers.length - 1);
+            for (int i = 1; i < suppliers.length; i++) {
+                int index = i;
+                Runnable task = () -> {
+                    try {
+                        runOne(suppliers[index], index, values, failures);
+                    } finally {
+                        done.countDown();
+                    }
+                };
+                try {
+                    executor.execute(task);
+                } catch (RejectedExecutionException e) {
+                    task.run();
+                }
+            }
+            runOne(suppliers[0], 0, values, failures);
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return e;
+            }
+        }
+        return composite(failures);
+    }
+
+    private static void runOne(FailableSupplier<?> supplier, int index, Object[] values, Throwable[] failures) {
+        try {
+            values[index] = supplier.get();
+        } catch (Throwable t) {
+            failures[index] = t;
+        }
+    }
+
+    private static Exception composite(Throwable[] failures) {
+        List<Throwable> exceptions = null;
+        for (Throwable failure : failures) {
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            if (failure != null) {
+                if (exceptions == null) {
+                    exceptions = new ArrayList<>();
+                }
+                exceptions.add(failure);
+            }
+        }
+        if (exceptions == null) {
+            return null;
+        }
+        return new CompositeException(exceptions.size() + " of " + failures.length + " suppliers failed",
+                exceptions);
+    }
+
+    /**
+     * A combiner of 4 values which may throw an {@link Exception}
+     */
+    @FunctionalInterface
+    public interface Combiner4<A, B, C, D, R> {
+
+        R apply(A a, B b, C c, D d) throws Exception;
+    }
+
+    /**
+     * A combiner of 5 values which may throw an {@link Exception}
+     */
+    @FunctionalInterface
+    public interface Combiner5<A, B, C, D, E, R> {
+
+        R apply(A a, B b, C c, D d, E e) throws Exception;
+    }
+
+    /**
+     * A combiner of 6 values which may throw an {@link Exception}
+     */
+    @FunctionalInterface
+    public interface Combiner6<A, B, C, D, E, F, R> {
+
+        R apply(A a, B b, C c, D d, E e, F f) throws Exception;
+    }
+
+    /**
+     * A combiner of 7 values which may throw an {@link Exception}
+     */
+    @FunctionalInterface
+    public interface Combiner7<A, B, C, D, E, F, G, R> {
+
+        R apply(A a, B b, C c, D d, E e, F f, G g) throws Exception;
+    }
+
+    /**
+     * A combiner of 8 values which may throw an {@link Exception}
+     */
+    @FunctionalInterface
+    public interface Combiner8<A, B, C, D, E, F, G, H, R> {
+
+        R apply(A a, B b, C c, D d, E e, F f, G g, H h) throws Exception;
+    }
+}
@@ -0,0 +1,316 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * <p>The results of many failable operations stored by column instead of as a list of {@link Try}s: a
+ * {@link BitSet} tells which elements succeeded, a dense array indexed by element holds their values and a sparse
+ * map holds the exceptions of the failed ones. A million results thus take one array and a few words per failure,
+ * instead of a million {@link Try.Success} wrappers to allocate and chase.</p>
+ *
+ * <pre>
+ * TryBatch&lt;Order&gt; orders = TryBatch.apply(lines, Order::parse)
+ *         .filter(Order::isValid)
+ *         .recover(e -&gt; Order.EMPTY);
+ * orders.forEachSuccess(repository::save);
+ * </pre>
+ *
+ * <p>Bulk operations run over the whole batch in one pass and return a new batch; a batch is immutable. Use
+ * {@link TryBatch#mapToInt(ToIntFunction)}, {@link TryBatch#mapToLong(ToLongFunction)} or
+ * {@link TryBatch#mapToDouble(ToDoubleFunction)} to get a primitive column, see {@link IntTryBatch}.</p>
+ *
+ * @param <T> the type of the values
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public final class TryBatch<T> {
+
+    private final int size;
+    private final BitSet successes;
+    private final Object[] values;
+    private final SparseFailures failures;
+
+    TryBatch(int size, BitSet successes, Object[] values, SparseFailures failures) {
+        this.size = size;
+        this.successes = successes;
+        this.values = values;
+        this.failures = failures;
+    }
+
+    /**
+     * Applies {@code function} to each of {@code inputs}.
+     *
+     * @param inputs   the inputs of the operations
+     * @param function the {@link FailableFunction} to apply
+     * @param <A>      the type of the inputs
+     * @param <T>      the type of the values
+     * @return a batch holding the outcome of each operation, in the order of {@code inputs}
+     */
+    public static <A, T> TryBatch<T> apply(List<? extends A> inputs, FailableFunction<? super A, ? extends T> function) {
+        int size = inputs.size();
+        BitSet successes = new BitSet(size);
+        Object[] values = new Object[size];
+        Iterator<? extends A> input = inputs.iterator();
+        SparseFailures failures = SparseFailures.NONE.visitSuccesses(size, successes,
+                i -> values[i] = function.apply(input.next()));
+        return new TryBatch<>(size, successes, values, failures);
+    }
+
+    /**
+     * @param results the {@link Try}s to store
+     * @param <T>     the type of the values
+     * @return a batch holding the same outcomes as {@code results}
+     */
+    public static <T> TryBatch<T> fromTrys(List<? extends Try<? extends T>> results) {
+        return apply(results, Try::checkedGet);
+    }
+
+    /**
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of successful elements
+     */
+    public int successCount() {
+        return size - failures.count();
+    }
+
+    /**
+     * @return the number of failed elements
+     */
+    public int failureCount() {
+        return failures.count();
+    }
+
+    /**
+     * @param index the index of the element
+     * @return {@code true} if the element at {@code index} is a success
+     */
+    public boolean isSuccess(int index) {
+        checkIndex(index);
+        return successes.get(index);
+    }
+
+    /**
+     * @param index the index of the element
+     * @return the value of the element at {@code index}
+     * @throws java.util.NoSuchElementException if the element is a failure
+     */
+    @SuppressWarnings("unchecked")
+    public T value(int index) {
+        if (!isSuccess(index)) {
+            throw Try.noSuchElement("Element " + index + " is a failure");
+        }
+        return (T) values[index];
+    }
+
+    /**
+     * @param index the index of the element
+     * @return the exception of the element at {@code index}
+     * @throws java.util.NoSuchElementException if the element is a success
+     */
+    public Exception exception(int index) {
+        if (isSuccess(index)) {
+            throw Try.noSuchElement("Element " + index + " is a success");
+        }
+        return failures.get(index);
+    }
+
+    /**
+     * @param index the index of the element
+     * @return the element at {@code index} as a {@link Try}, which is allocated by this call
+     */
+    public Try<T> get(int index) {
+        return isSuccess(index) ? new Try.Success<>(value(index)) : new Try.Failure<>(failures.get(index));
+    }
+
+    /**
+     * Maps the value of each successful element. An exception thrown by {@code mapper} turns the element into a
+     * failure; failed elements stay as they are.
+     *
+     * @param mapper the function to apply to each value
+     * @param <U>    the type of the result
+     * @return a new batch
+     * @see Try#map(Function)
+     */
+    @SuppressWarnings("unchecked")
+    public <U> TryBatch<U> map(Function<? super T, ? extends U> mapper) {
+        BitSet mapped = new BitSet(size);
+        Object[] results = new Object[size];
+        SparseFailures newFailures = failures.visitSuccesses(size, mapped,
+                i -> results[i] = mapper.apply((T) values[i]));
+        return new TryBatch<>(size, mapped, results, newFailures);
+    }
+
+    /**
+     * Turns the successful elements not satisfying {@code predicate} into failures of
+     * {@link java.util.NoSuchElementException}.
+     *
+     * @param predicate the {@link Predicate} to use
+     * @return a new batch
+     * @see Try#filter(Predicate)
+     */
+    @SuppressWarnings("unchecked")
+    public TryBatch<T> filter(Predicate<? super T> predicate) {
+        BitSet kept = new BitSet(size);
+        Object[] results = new Object[size];
+        SparseFailures newFailures = failures.visitSuccesses(size, kept, i -> {
+            T value = (T) values[i];
+            if (!predicate.test(value)) {
+                throw Try.noSuchElement("Predicate does not hold for " + value);
+            }
+            results[i] = value;
+        });
+        return new TryBatch<>(size, kept, results, newFailures);
+    }
+
+    /**
+     * Replaces each failed element by the value {@code recoverFunc} computes from its exception. An exception
+     * thrown by {@code recoverFunc} becomes the new exception of the element.
+     *
+     * @param recoverFunc the function to apply to each exception
+     * @return a new batch
+     * @see Try#recover(Function)
+     */
+    public TryBatch<T> recover(Function<? super Exception, ? extends T> recoverFunc) {
+        if (failures.count() == 0) {
+            return this;
+        }
+        BitSet recovered = (BitSet) successes.clone();
+        Object[] results = values.clone();
+        SparseFailures newFailures = failures.visitFailures(recovered,
+                (i, exception) -> results[i] = recoverFunc.apply(exception));
+        return new TryBatch<>(size, recovered, results, newFailures);
+    }
+
+    /**
+     * Feeds the value of each successful element, in index order, to {@code action}.
+     *
+     * @param action the {@link Consumer} to use
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachSuccess(Consumer<? super T> action) {
+        for (int i = successes.nextSetBit(0); i >= 0; i = successes.nextSetBit(i + 1)) {
+            action.accept((T) values[i]);
+        }
+    }
+
+    /**
+     * @return a {@link Stream} of the values of the successful elements, in index order
+     */
+    @SuppressWarnings("unchecked")
+    public Stream<T> successes() {
+        return successes.stream().mapToObj(i -> (T) values[i]);
+    }
+
+    /**
+     * @return a {@link Try.Success} of the list of the values if every element succeeded, otherwise a
+     * {@link Try.Failure} of the exception of the first failed element
+     * @see Try#sequence(java.util.Collection)
+     */
+    @SuppressWarnings("unchecked")
+    public Try<List<T>> toTry() {
+        if (failures.count() > 0) {
+            return new Try.Failure<>(failures.exceptionAt(0));
+        }
+        List<T> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add((T) values[i]);
+        }
+        return new Try.Success<>(Collections.unmodifiableList(list));
+    }
+
+    /**
+     * @return the elements as a list of {@link Try}s, allocating one per element
+     */
+    public List<Try<T>> toTryList() {
+        List<Try<T>> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(get(i));
+        }
+        return list;
+    }
+
+    /**
+     * @param mapper the function to apply to each value
+     * @return a new batch whose values are stored as primitive {@code int}s
+     * @see Try#mapToInt(ToIntFunction)
+     */
+    @SuppressWarnings("unchecked")
+    public IntTryBatch mapToInt(ToIntFunction<? super T> mapper) {
+        BitSet mapped = new BitSet(size);
+        int[] results = new int[size];
+        SparseFailures newFailures = failures.visitSuccesses(size, mapped,
+                i -> results[i] = mapper.applyAsInt((T) values[i]));
+        return new IntTryBatch(size, mapped, results, newFailures);
+    }
+
+    /**
+     * @param mapper the function to apply to each value
+     * @return a new batch whose values are stored as primitive {@code long}s
+     * @see Try#mapToLong(ToLongFunction)
+     */
+    @SuppressWarnings("unchecked")
+    public LongTryBatch mapToLong(ToLongFunction<? super T> mapper) {
+        BitSet mapped = new BitSet(size);
+        long[] results = new long[size];
+        SparseFailures newFailures = failures.visitSuccesses(size, mapped,
+                i -> results[i] = mapper.applyAsLong((T) values[i]));
+        return new LongTryBatch(size, mapped, results, newFailures);
+    }
+
+    /**
+     * @param mapper the function to apply to each value
+     * @return a new batch whose values are stored as primitive {@code double}s
+     * @see Try#mapToDouble(ToDoubleFunction)
+     */
+    @SuppressWarnings("unchecked")
+    public DoubleTryBatch mapToDouble(ToDoubleFunction<? super T> mapper) {
+        BitSet mapped = new BitSet(size);
+        double[] results = new double[size];
+        SparseFailures newFailures = failures.visitSuccesses(size, mapped,
+                i -> results[i] = mapper.applyAsDouble((T) values[i]));
+        return new DoubleTryBatch(size, mapped, results, newFailures);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TryBatch{size=" + size + ", failures=" + failures.count() + '}';
+    }
+}
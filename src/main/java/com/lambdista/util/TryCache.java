@@ -0,0 +1,209 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>A concurrent cache of {@link Try} results. A {@link Try.Success} is kept for {@code successTtl} while a
+ * {@link Try.Failure} is kept for {@code failureTtl}, typically much shorter, so that a failing backend is not
+ * hammered by every caller but is retried soon.</p>
+ *
+ * <p>Concurrent misses on the same key are coalesced: only one thread runs the {@link FailableSupplier}, the
+ * others wait for its result. Entries live in a {@link ConcurrentHashMap}, which locks per bin only.</p>
+ *
+ * <p>Eviction is first-in, first-out by load time: every loaded result joins the tail of a
+ * {@link ConcurrentLinkedQueue} and, when more than {@code maximumSize} entries are stored, the entries at its head,
+ * the ones loaded the longest ago, are dropped. Reading an entry does not move it, so a hot key is evicted once it is
+ * the oldest, and reloaded by the next miss. Every miss thus evicts in amortized constant time; the queue slots of
+ * invalidated or reloaded entries are skipped when they reach the head, or swept in bulk once they outnumber
+ * {@code maximumSize}.</p>
+ *
+ * <pre>
+ * TryCache&lt;String, Price&gt; prices = new TryCache&lt;&gt;(Duration.ofMinutes(5), Duration.ofSeconds(5), 10_000);
+ * Try&lt;Price&gt; price = prices.get(sku, () -&gt; pricingService.lookup(sku));
+ * </pre>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public final class TryCache<K, V> {
+
+    private final ConcurrentHashMap<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entry<K, V>> loadOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private final long successTtlNanos;
+    private final long failureTtlNanos;
+    private final int maximumSize;
+    private final LongSupplier nanoTime;
+
+    /**
+     * @param successTtl  how long a {@link Try.Success} is cached
+     * @param failureTtl  how long a {@link Try.Failure} is cached. {@link Duration#ZERO} disables negative caching
+     *                    while still coalescing concurrent loads
+     * @param maximumSize the maximum number of entries
+     */
+    public TryCache(Duration successTtl, Duration failureTtl, int maximumSize) {
+        this(successTtl, failureTtl, maximumSize, System::nanoTime);
+    }
+
+    TryCache(Duration successTtl, Duration failureTtl, int maximumSize, LongSupplier nanoTime) {
+        if (successTtl.isNegative() || failureTtl.isNegative()) {
+            throw new IllegalArgumentException("TTLs must not be negative");
+        }
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        this.successTtlNanos = saturatedNanos(successTtl);
+        this.failureTtlNanos = saturatedNanos(failureTtl);
+        this.maximumSize = maximumSize;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Returns the cached result for {@code key} or, if there is none or it has expired, loads it through
+     * {@code loader}. If another thread is already loading {@code key}, waits for its result instead.
+     *
+     * @param key    the key
+     * @param loader the {@link FailableSupplier} computing the value for {@code key}
+     * @return the cached or freshly loaded result
+     */
+    public Try<V> get(K key, FailableSupplier<V> loader) {
+        Objects.requireNonNull(key);
+        while (true) {
+            Entry<K, V> current = entries.get(key);
+            if (current != null && !current.isExpired(nanoTime.getAsLong())) {
+                return current.result.join();
+            }
+
+            Entry<K, V> loading = new Entry<>(key);
+            boolean owner = current == null
+                    ? entries.putIfAbsent(key, loading) == null
+                    : entries.replace(key, current, loading);
+            if (owner) {
+                return load(key, loader, loading);
+            }
+        }
+    }
+
+    private Try<V> load(K key, FailableSupplier<V> loader, Entry<K, V> loading) {
+        Try<V> result;
+        try {
+            result = Try.apply(loader);
+        } catch (Error e) {
+            // Not caught by Try.apply: release the waiters and forget the entry
+            entries.remove(key, loading);
+            loading.result.completeExceptionally(e);
+            throw e;
+        }
+        long ttl = result.isSuccess() ? successTtlNanos : failureTtlNanos;
+        loading.expiresAt = ttl == Long.MAX_VALUE ? Long.MAX_VALUE : nanoTime.getAsLong() + ttl;
+        loading.result.complete(result);
+        if (ttl == 0) {
+            entries.remove(key, loading);
+        } else {
+            loadOrder.offer(loading);
+            queued.incrementAndGet();
+            evictIfNeeded();
+        }
+        return result;
+    }
+
+    /**
+     * Removes the cached result for {@code key}, if any. A load already in flight is not affected.
+     *
+     * @param key the key
+     */
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Removes every cached result.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * @return the number of entries, including those expired but not yet dropped and those being loaded
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictIfNeeded() {
+        while (entries.size() > maximumSize) {
+            Entry<K, V> oldest = loadOrder.poll();
+            if (oldest == null) {
+                break;
+            }
+            queued.decrementAndGet();
+            entries.remove(oldest.key, oldest);
+        }
+        if (queued.get() > 2 * maximumSize && sweeping.compareAndSet(false, true)) {
+            try {
+                Iterator<Entry<K, V>> iterator = loadOrder.iterator();
+                while (iterator.hasNext()) {
+                    Entry<K, V> entry = iterator.next();
+                    if (entries.get(entry.key) != entry) {
+                        iterator.remove();
+                        queued.decrementAndGet();
+                    }
+                }
+            } finally {
+                sweeping.set(false);
+            }
+        }
+    }
+
+    private static long saturatedNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static final class Entry<K, V> {
+
+        private final K key;
+        private final CompletableFuture<Try<V>> result = new CompletableFuture<>();
+        /**
+         * Written before {@code result} is completed and read after checking it is, so it is safely published
+         */
+        private long expiresAt;
+
+        private Entry(K key) {
+            this.key = key;
+        }
+
+        private boolean isExpired(long now) {
+            return result.isDone() && expiresAt - now <= 0 && expiresAt != Long.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,439 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>A compact binary codec of {@link Try} results, for shipping them between nodes without Java serialization.
+ * Values are written by a pluggable {@link ValueCodec}; exceptions by class name, message and, optionally, the top
+ * {@code maxStackFrames} frames of their stack trace. A decoded {@link Try.Failure} holds a
+ * {@link RemoteFailureException}.</p>
+ *
+ * <p>The format, all integers being big endian:</p>
+ * <pre>
+ * try     := 0x00 value                                    a Success
+ *          | 0x01 string(class) string(message) frames     a Failure
+ * frames  := int32(count) (string(class) string(method) string(file) int32(line))*
+ * string  := int32(-1)                                     null
+ *          | int32(length) UTF-8 bytes
+ * batch   := int32(count) try*
+ * </pre>
+ *
+ * <p>The codec reads and writes through the relative methods of {@link ByteBuffer}, so it works as well with
+ * direct buffers, which channels read and write without an extra copy. Strings are encoded into the buffer char
+ * by char, without intermediate arrays. {@link TryCodec#encodedSize(Try)} gives the exact size of an encoding so
+ * that buffers can be allocated once. Instances are immutable and thread safe as long as the value codec is.</p>
+ *
+ * <pre>
+ * TryCodec&lt;String&gt; codec = new TryCodec&lt;&gt;(TryCodec.ValueCodec.UTF8, 8);
+ * ByteBuffer buffer = codec.encodeAll(results);
+ * channel.write(buffer);
+ * </pre>
+ *
+ * @param <T> the type of the values
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public final class TryCodec<T> {
+
+    private static final byte SUCCESS = 0;
+    private static final byte FAILURE = 1;
+    private static final StackTraceElement[] NO_FRAMES = new StackTraceElement[0];
+
+    private final ValueCodec<T> valueCodec;
+    private final int maxStackFrames;
+
+    /**
+     * Creates a codec which does not encode stack traces.
+     *
+     * @param valueCodec the {@link ValueCodec} of the values
+     */
+    public TryCodec(ValueCodec<T> valueCodec) {
+        this(valueCodec, 0);
+    }
+
+    /**
+     * @param valueCodec     the {@link ValueCodec} of the values
+     * @param maxStackFrames the maximum number of stack frames encoded per exception, 0 for none
+     */
+    public TryCodec(ValueCodec<T> valueCodec, int maxStackFrames) {
+        if (maxStackFrames < 0) {
+            throw new IllegalArgumentException("maxStackFrames must not be negative: " + maxStackFrames);
+        }
+        this.valueCodec = Objects.requireNonNull(valueCodec);
+        this.maxStackFrames = maxStackFrames;
+    }
+
+    /**
+     * @param result the {@link Try} to encode
+     * @return the number of bytes {@link TryCodec#encode(Try, ByteBuffer)} writes for {@code result}
+     */
+    public int encodedSize(Try<? extends T> result) {
+        if (result.isSuccess()) {
+            return 1 + valueCodec.sizeOf(result.get());
+        }
+        Exception exception = result.failed().get();
+        int size = 1 + sizeOf(className(exception)) + sizeOf(exception.getMessage()) + 4;
+        StackTraceElement[] frames = frames(exception);
+        for (int i = 0; i < frames.length; i++) {
+            StackTraceElement frame = frames[i];
+            size += sizeOf(frame.getClassName()) + sizeOf(frame.getMethodName()) + sizeOf(frame.getFileName()) + 4;
+        }
+        return size;
+    }
+
+    /**
+     * @param results the {@link Try}s to encode
+     * @return the number of bytes {@link TryCodec#encodeAll(List, ByteBuffer)} writes for {@code results}
+     */
+    public int encodedSize(List<? extends Try<? extends T>> results) {
+        int size = 4;
+        for (Try<? extends T> result : results) {
+            size += encodedSize(result);
+        }
+        return size;
+    }
+
+    /**
+     * Writes {@code result} at the position of {@code buffer}, advancing it.
+     *
+     * @param result the {@link Try} to encode
+     * @param buffer the {@link ByteBuffer} to write to, with at least {@link TryCodec#encodedSize(Try)} bytes
+     *               remaining
+     * @throws java.nio.BufferOverflowException if {@code buffer} is too small
+     */
+    public void encode(Try<? extends T> result, ByteBuffer buffer) {
+        if (result.isSuccess()) {
+            buffer.put(SUCCESS);
+            valueCodec.write(result.get(), buffer);
+            return;
+        }
+        Exception exception = result.failed().get();
+        buffer.put(FAILURE);
+        putString(className(exception), buffer);
+        putString(exception.getMessage(), buffer);
+        StackTraceElement[] frames = frames(exception);
+        buffer.putInt(frames.length);
+        for (StackTraceElement frame : frames) {
+            putString(frame.getClassName(), buffer);
+            putString(frame.getMethodName(), buffer);
+            putString(frame.getFileName(), buffer);
+            buffer.putInt(frame.getLineNumber());
+        }
+    }
+
+    /**
+     * @param result the {@link Try} to encode
+     * @return a direct {@link ByteBuffer}, ready to be read, holding the encoding of {@code result}
+     */
+    public ByteBuffer encode(Try<? extends T> result) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(encodedSize(result));
+        encode(result, buffer);
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Writes the number of {@code results} and then each of them at the position of {@code buffer}, advancing it.
+     *
+     * @param results the {@link Try}s to encode
+     * @param buffer  the {@link ByteBuffer} to write to, with at least {@link TryCodec#encodedSize(List)} bytes
+     *                remaining
+     * @throws java.nio.BufferOverflowException if {@code buffer} is too small
+     */
+    public void encodeAll(List<? extends Try<? extends T>> results, ByteBuffer buffer) {
+        buffer.putInt(results.size());
+        for (Try<? extends T> result : results) {
+            encode(result, buffer);
+        }
+    }
+
+    /**
+     * @param results the {@link Try}s to encode
+     * @return a direct {@link ByteBuffer}, ready to be read, holding the encoding of {@code results}
+     */
+    public ByteBuffer encodeAll(List<? extends Try<? extends T>> results) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(encodedSize(results));
+        encodeAll(results, buffer);
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Reads a {@link Try} at the position of {@code buffer}, advancing it.
+     *
+     * @param buffer the {@link ByteBuffer} to read from
+     * @return the decoded {@link Try}
+     * @throws java.nio.BufferUnderflowException if {@code buffer} ends before the encoding
+     * @throws IllegalArgumentException          if the encoding is malformed
+     */
+    public Try<T> decode(ByteBuffer buffer) {
+        byte tag = buffer.get();
+        if (tag == SUCCESS) {
+            return new Try.Success<>(valueCodec.read(buffer));
+        }
+        if (tag != FAILURE) {
+            throw new IllegalArgumentException("Unknown tag: " + tag);
+        }
+        String className = getString(buffer);
+        String message = getString(buffer);
+        int count = buffer.getInt();
+        // each frame takes at least 16 bytes: reject counts the buffer cannot hold before allocating
+        if (count < 0 || count > buffer.remaining() / 16) {
+            throw new IllegalArgumentException("Invalid number of stack frames: " + count);
+        }
+        StackTraceElement[] frames = count == 0 ? NO_FRAMES : new StackTraceElement[count];
+        for (int i = 0; i < count; i++) {
+            String declaringClass = getString(buffer);
+            String methodName = getString(buffer);
+            String fileName = getString(buffer);
+            frames[i] = new StackTraceElement(declaringClass, methodName, fileName, buffer.getInt());
+        }
+        return new Try.Failure<>(new RemoteFailureException(className, message, frames));
+    }
+
+    /**
+     * Reads a batch written by {@link TryCodec#encodeAll(List, ByteBuffer)} at the position of {@code buffer},
+     * advancing it.
+     *
+     * @param buffer the {@link ByteBuffer} to read from
+     * @return the decoded {@link Try}s
+     * @throws java.nio.BufferUnderflowException if {@code buffer} ends before the encoding
+     * @throws IllegalArgumentException          if the encoding is malformed
+     */
+    public List<Try<T>> decodeAll(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        // each Try takes at least one byte
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid number of results: " + count);
+        }
+        List<Try<T>> results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            results.add(decode(buffer));
+        }
+        return Collections.unmodifiableList(results);
+    }
+
+    private static String className(Exception exception) {
+        return exception instanceof RemoteFailureException
+                ? ((RemoteFailureException) exception).getRemoteClassName()
+                : exception.getClass().getName();
+    }
+
+    private StackTraceElement[] frames(Exception exception) {
+        if (maxStackFrames == 0) {
+            return NO_FRAMES;
+        }
+        StackTraceElement[] frames = exception.getStackTrace();
+        return frames.length <= maxStackFrames ? frames : Arrays.copyOf(frames, maxStackFrames);
+    }
+
+    /**
+     * @return the size of {@code s} encoded as a string: its length followed by its UTF-8 bytes
+     */
+    static int sizeOf(String s) {
+        return s == null ? 4 : 4 + utf8Length(s);
+    }
+
+    private static int utf8Length(String s) {
+        int length = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < s.length()
+                    && Character.isLowSurrogate(s.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogates are replaced by '?', like String.getBytes does
+                length++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    static void putString(String s, ByteBuffer buffer) {
+        if (s == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        buffer.putInt(utf8Length(s));
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | c >> 6));
+                buffer.put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < s.length()
+                    && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, s.charAt(++i));
+                buffer.put((byte) (0xF0 | codePoint >> 18));
+                buffer.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                buffer.put((byte) (0x80 | codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xE0 | c >> 12));
+                buffer.put((byte) (0x80 | c >> 6 & 0x3F));
+                buffer.put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+
+    static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == -1) {
+            return null;
+        }
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid string length: " + length);
+        }
+        String s;
+        if (buffer.hasArray()) {
+            s = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            s = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return s;
+    }
+
+    /**
+     * Writes and reads the values of a {@link TryCodec}.
+     *
+     * @param <T> the type of the values
+     */
+    public interface ValueCodec<T> {
+
+        /**
+         * Nullable strings, as a length followed by UTF-8 bytes
+         */
+        ValueCodec<String> UTF8 = new ValueCodec<String>() {
+            @Override
+            public int sizeOf(String value) {
+                return TryCodec.sizeOf(value);
+            }
+
+            @Override
+            public void write(String value, ByteBuffer buffer) {
+                putString(value, buffer);
+            }
+
+            @Override
+            public String read(ByteBuffer buffer) {
+                return getString(buffer);
+            }
+        };
+
+        /**
+         * Non null {@link Integer}s, as 4 bytes
+         */
+        ValueCodec<Integer> INT32 = new ValueCodec<Integer>() {
+            @Override
+            public int sizeOf(Integer value) {
+                return 4;
+            }
+
+            @Override
+            public void write(Integer value, ByteBuffer buffer) {
+                buffer.putInt(value);
+            }
+
+            @Override
+            public Integer read(ByteBuffer buffer) {
+                return buffer.getInt();
+            }
+        };
+
+        /**
+         * Non null {@link Long}s, as 8 bytes
+         */
+        ValueCodec<Long> INT64 = new ValueCodec<Long>() {
+            @Override
+            public int sizeOf(Long value) {
+                return 8;
+            }
+
+            @Override
+            public void write(Long value, ByteBuffer buffer) {
+                buffer.putLong(value);
+            }
+
+            @Override
+            public Long read(ByteBuffer buffer) {
+                return buffer.getLong();
+            }
+        };
+
+        /**
+         * Non null {@link Double}s, as 8 bytes
+         */
+        ValueCodec<Double> FLOAT64 = new ValueCodec<Double>() {
+            @Override
+            public int sizeOf(Double value) {
+                return 8;
+            }
+
+            @Override
+            public void write(Double value, ByteBuffer buffer) {
+                buffer.putDouble(value);
+            }
+
+            @Override
+            public Double read(ByteBuffer buffer) {
+                return buffer.getDouble();
+            }
+        };
+
+        /**
+         * @param value the value to encode
+         * @return the exact number of bytes {@link ValueCodec#write(Object, ByteBuffer)} writes for {@code value}
+         */
+        int sizeOf(T value);
+
+        /**
+         * Writes {@code value} at the position of {@code buffer}, advancing it.
+         *
+         * @param value  the value to encode
+         * @param buffer the {@link ByteBuffer} to write to
+         */
+        void write(T value, ByteBuffer buffer);
+
+        /**
+         * Reads a value at the position of {@code buffer}, advancing it.
+         *
+         * @param buffer the {@link ByteBuffer} to read from
+         * @return the decoded value
+         */
+        T read(ByteBuffer buffer);
+    }
+}
@@ -0,0 +1,200 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * Single-pass {@link Collector}s over streams of {@link Try}. They all support parallel streams.
+ *
+ * <pre>
+ * TryCollectors.Partition&lt;Integer&gt; partition = lines.stream()
+ *         .map(line -&gt; Try.apply(() -&gt; Integer.parseInt(line)))
+ *         .collect(TryCollectors.partitioning());
+ * </pre>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public final class TryCollectors {
+
+    private TryCollectors() {
+    }
+
+    /**
+     * @param <T> the type of the values
+     * @return a {@link Collector} splitting the values of the successes from the exceptions of the failures,
+     * each in encounter order
+     */
+    public static <T> Collector<Try<? extends T>, ?, Partition<T>> partitioning() {
+        return Collector.of(
+                Partition::new,
+                Partition::add,
+                Partition::addAll
+        );
+    }
+
+    /**
+     * The fail-fast counterpart of {@link Collectors#toList()}: once a {@link Try.Failure} is met the values
+     * collected so far are dropped and no further value is kept.
+     *
+     * @param <T> the type of the values
+     * @return a {@link Collector} producing a {@link Try.Success} of the values in encounter order if every
+     * element is a {@link Try.Success}, or the first {@link Try.Failure} in encounter order otherwise
+     */
+    public static <T> Collector<Try<? extends T>, ?, Try<List<T>>> toTryList() {
+        return Collector.of(
+                TryList<T>::new,
+                TryList::add,
+                TryList::addAll,
+                TryList::toTry
+        );
+    }
+
+    /**
+     * @return a {@link Collector} counting the successes
+     */
+    public static Collector<Try<?>, ?, Long> countingSuccesses() {
+        return Collectors.summingLong(result -> result.isSuccess() ? 1L : 0L);
+    }
+
+    /**
+     * @return a {@link Collector} counting the failures
+     */
+    public static Collector<Try<?>, ?, Long> countingFailures() {
+        return Collectors.summingLong(result -> result.isFailure() ? 1L : 0L);
+    }
+
+    /**
+     * @param mapper a function extracting the {@code int} to sum from each successful value
+     * @param <T>    the type of the values
+     * @return a {@link Collector} summing the successes only
+     */
+    public static <T> Collector<Try<? extends T>, ?, Integer> summingInt(ToIntFunction<? super T> mapper) {
+        return Collectors.summingInt(result -> result.isSuccess() ? mapper.applyAsInt(result.get()) : 0);
+    }
+
+    /**
+     * @param mapper a function extracting the {@code long} to sum from each successful value
+     * @param <T>    the type of the values
+     * @return a {@link Collector} summing the successes only
+     */
+    public static <T> Collector<Try<? extends T>, ?, Long> summingLong(ToLongFunction<? super T> mapper) {
+        return Collectors.summingLong(result -> result.isSuccess() ? mapper.applyAsLong(result.get()) : 0L);
+    }
+
+    /**
+     * @param mapper a function extracting the {@code double} to sum from each successful value
+     * @param <T>    the type of the values
+     * @return a {@link Collector} summing the successes only
+     */
+    public static <T> Collector<Try<? extends T>, ?, Double> summingDouble(ToDoubleFunction<? super T> mapper) {
+        return Collectors.summingDouble(result -> result.isSuccess() ? mapper.applyAsDouble(result.get()) : 0.0);
+    }
+
+    /**
+     * The result of {@link TryCollectors#partitioning()}.
+     *
+     * @param <T> the type of the values
+     * @author Alessandro Lacava
+     * @since 2026-10-17
+     */
+    public static final class Partition<T> {
+
+        private final List<T> successes = new ArrayList<>();
+        private final List<Exception> failures = new ArrayList<>();
+
+        private Partition() {
+        }
+
+        private void add(Try<? extends T> result) {
+            if (result.isSuccess()) {
+                successes.add(result.get());
+            } else {
+                failures.add(result.failed().get());
+            }
+        }
+
+        private Partition<T> addAll(Partition<T> other) {
+            successes.addAll(other.successes);
+            failures.addAll(other.failures);
+            return this;
+        }
+
+        /**
+         * @return the values of the successes in encounter order
+         */
+        public List<T> successes() {
+            return Collections.unmodifiableList(successes);
+        }
+
+        /**
+         * @return the exceptions of the failures in encounter order
+         */
+        public List<Exception> failures() {
+            return Collections.unmodifiableList(failures);
+        }
+
+        @Override
+        public String toString() {
+            return "Partition{" +
+                    "successes=" + successes +
+                    ", failures=" + failures +
+                    '}';
+        }
+    }
+
+    private static final class TryList<T> {
+
+        private List<T> values = new ArrayList<>();
+        private Exception failure;
+
+        private void add(Try<? extends T> result) {
+            if (failure != null) {
+                return;
+            }
+            if (result.isSuccess()) {
+                values.add(result.get());
+            } else {
+                failure = result.failed().get();
+                values = null;
+            }
+        }
+
+        private TryList<T> addAll(TryList<T> other) {
+            if (failure == null) {
+                if (other.failure != null) {
+                    failure = other.failure;
+                    values = null;
+                } else {
+                    values.addAll(other.values);
+                }
+            }
+            return this;
+        }
+
+        private Try<List<T>> toTry() {
+            return failure == null ? new Try.Success<>(values) : new Try.Failure<>(failure, false);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds the default {@link Executor} used by the asynchronous parts of this API, e.g.
+ * {@link TryFuture#applyAsync(FailableSupplier)}. When the runtime supports virtual threads (Java 21+) it creates
+ * a new virtual thread per task, so that tens of thousands of blocking calls can be in flight at once. Otherwise
+ * it falls back to a cached pool of daemon threads.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public final class TryExecutors {
+
+    private TryExecutors() {
+    }
+
+    /**
+     * @return the shared default {@link Executor}. It only submits tasks, the {@link ExecutorService} behind it
+     * cannot be shut down through it.
+     */
+    public static Executor defaultExecutor() {
+        return Holder.VIEW;
+    }
+
+    /**
+     * @return the shared {@link ScheduledExecutorService} used to wait without holding a thread, e.g. between the
+     * attempts of {@link Try#retry(RetryPolicy, FailableSupplier)}. It runs on a single daemon thread, so the tasks
+     * it runs must be short and non blocking. It is not exposed, since shutting it down would stall every pending
+     * retry and hedged call.
+     */
+    static ScheduledExecutorService defaultScheduler() {
+        return SchedulerHolder.SCHEDULER;
+    }
+
+    /**
+     * @return {@code true} if {@link TryExecutors#defaultExecutor()} runs tasks on virtual threads
+     */
+    public static boolean usesVirtualThreads() {
+        return Holder.VIRTUAL;
+    }
+
+    private static final class SchedulerHolder {
+
+        private static final ScheduledExecutorService SCHEDULER = newScheduler();
+
+        private static ScheduledExecutorService newScheduler() {
+            ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "try-scheduler");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.setRemoveOnCancelPolicy(true);
+            return scheduler;
+        }
+    }
+
+    private static final class Holder {
+
+        private static final ExecutorService VIRTUAL_EXECUTOR = virtualThreadPerTaskExecutor();
+        private static final boolean VIRTUAL = VIRTUAL_EXECUTOR != null;
+        private static final ExecutorService DEFAULT =
+                VIRTUAL ? VIRTUAL_EXECUTOR : Executors.newCachedThreadPool(daemonThreadFactory());
+        private static final Executor VIEW = DEFAULT::execute;
+
+        private static ExecutorService virtualThreadPerTaskExecutor() {
+            try {
+                Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (ExecutorService) factory.invoke(null);
+            } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+                // Either not available (before Java 21) or still a preview feature not enabled
+                return null;
+            }
+        }
+
+        private static ThreadFactory daemonThreadFactory() {
+            AtomicInteger counter = new AtomicInteger();
+            return runnable -> {
+                Thread thread = new Thread(runnable, "try-async-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event committed whenever a {@link Try.Failure} is created. Its stack trace shows the code
+ * path creating the failure.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+@Name(TryFailureEvent.NAME)
+@Label("Try Failure")
+@Category("Try")
+@Description("A Try.Failure has been created")
+@StackTrace
+final class TryFailureEvent extends Event {
+
+    static final String NAME = "com.lambdista.util.TryFailure";
+
+    @Label("Exception Class")
+    String exceptionClass;
+
+    @Label("Message")
+    String message;
+
+    /**
+     * Checked before creating an event, so that no event is allocated while no recording enables it
+     */
+    private static final EventType TYPE = EventType.getEventType(TryFailureEvent.class);
+
+    static void emit(Exception exception) {
+        if (TYPE.isEnabled()) {
+            TryFailureEvent event = new TryFailureEvent();
+            event.exceptionClass = exception.getClass().getName();
+            event.message = exception.getMessage();
+            event.commit();
+        }
+    }
+}
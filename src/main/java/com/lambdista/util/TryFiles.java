@@ -0,0 +1,272 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>Streaming, bounded-memory access to the lines of a file where each line is an independent {@link Try}.
+ * Unlike {@link java.nio.file.Files#readAllLines(Path)} the file is never loaded as a whole: it is read through a
+ * {@link FileChannel} into a fixed-size buffer and lines are decoded one by one, so a line that cannot be decoded
+ * becomes a {@link Try.Failure} without affecting the others.</p>
+ *
+ * <pre>
+ * try (Stream&lt;Try&lt;String&gt;&gt; lines = TryFiles.lines(path, StandardCharsets.UTF_8, MalformedInputPolicy.FAIL_LINE)) {
+ *     lines.forEach(line -&gt; line.forEach(System.out::println));
+ * }
+ * </pre>
+ *
+ * Lines are split on {@code '\n'}, a trailing {@code '\r'} being dropped, at the byte level. Therefore only
+ * charsets encoding these two characters as single bytes, as ASCII does (e.g. UTF-8 or ISO-8859-1), are supported.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public final class TryFiles {
+
+    /**
+     * The size of the read buffer used by {@link TryFiles#lines(Path)}
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The maximum line length, in bytes, used by {@link TryFiles#lines(Path)}
+     */
+    public static final int DEFAULT_MAX_LINE_LENGTH = 1024 * 1024;
+
+    private TryFiles() {
+    }
+
+    /**
+     * What to do with a line containing bytes that are not valid in the charset.
+     */
+    public enum MalformedInputPolicy {
+        /**
+         * The line becomes a {@link Try.Failure} of a {@link CharacterCodingException}
+         */
+        FAIL_LINE(CodingErrorAction.REPORT),
+        /**
+         * The malformed bytes are replaced by the charset replacement, usually {@code '�'}
+         */
+        REPLACE(CodingErrorAction.REPLACE),
+        /**
+         * The malformed bytes are dropped
+         */
+        SKIP(CodingErrorAction.IGNORE);
+
+        private final CodingErrorAction action;
+
+        MalformedInputPolicy(CodingErrorAction action) {
+            this.action = action;
+        }
+    }
+
+    /**
+     * Same as {@link TryFiles#lines(Path, Charset, MalformedInputPolicy)} using UTF-8 and
+     * {@link MalformedInputPolicy#FAIL_LINE}.
+     *
+     * @param path the file to read
+     * @return a lazy stream of the lines, to be closed after use
+     */
+    public static Stream<Try<String>> lines(Path path) {
+        return lines(path, StandardCharsets.UTF_8, MalformedInputPolicy.FAIL_LINE);
+    }
+
+    /**
+     * Same as {@link TryFiles#lines(Path, Charset, MalformedInputPolicy, int, int)} using
+     * {@link TryFiles#DEFAULT_BUFFER_SIZE} and {@link TryFiles#DEFAULT_MAX_LINE_LENGTH}.
+     *
+     * @param path    the file to read
+     * @param charset the charset of the file
+     * @param policy  what to do with malformed input
+     * @return a lazy stream of the lines, to be closed after use
+     */
+    public static Stream<Try<String>> lines(Path path, Charset charset, MalformedInputPolicy policy) {
+        return lines(path, charset, policy, DEFAULT_BUFFER_SIZE, DEFAULT_MAX_LINE_LENGTH);
+    }
+
+    /**
+     * Returns a lazy stream of the lines of {@code path}. The file is opened on the first access to the stream;
+     * if it cannot be opened or read the stream ends with a single {@link Try.Failure} of the
+     * {@link IOException}. A line longer than {@code maxLineLength} bytes becomes a {@link Try.Failure} and its
+     * bytes are discarded up to the next line, so memory use is bounded by {@code bufferSize + maxLineLength}.
+     * The file is closed when the stream is exhausted, when it fails or, in any case, when the stream is closed.
+     *
+     * @param path          the file to read
+     * @param charset       the charset of the file, encoding {@code '\n'} and {@code '\r'} as single ASCII bytes
+     * @param policy        what to do with malformed input
+     * @param bufferSize    the size in bytes of the read buffer
+     * @param maxLineLength the maximum length in bytes of a line
+     * @return a lazy stream of the lines, to be closed after use
+     * @throws IllegalArgumentException if {@code charset} is not supported or a size is not positive
+     */
+    public static Stream<Try<String>> lines(Path path, Charset charset, MalformedInputPolicy policy,
+                                            int bufferSize, int maxLineLength) {
+        if (!Arrays.equals("\r\n".getBytes(charset), new byte[]{'\r', '\n'})) {
+            throw new IllegalArgumentException("Unsupported charset: " + charset);
+        }
+        if (bufferSize <= 0 || maxLineLength <= 0) {
+            throw new IllegalArgumentException("bufferSize and maxLineLength must be positive");
+        }
+        LineIterator iterator = new LineIterator(path, charset, policy, bufferSize, maxLineLength);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+
+    private static final class LineIterator implements Iterator<Try<String>> {
+
+        private final Path path;
+        private final CharsetDecoder decoder;
+        private final ByteBuffer buffer;
+        private final int maxLineLength;
+
+        private FileChannel channel;
+        private boolean opened;
+        private boolean finished;
+        private byte[] line = new byte[256];
+        private int lineLength;
+        private boolean lineTooLong;
+        private Try<String> next;
+
+        private LineIterator(Path path, Charset charset, MalformedInputPolicy policy, int bufferSize,
+                             int maxLineLength) {
+            this.path = path;
+            this.decoder = charset.newDecoder()
+                    .onMalformedInput(policy.action)
+                    .onUnmappableCharacter(policy.action);
+            this.buffer = ByteBuffer.allocateDirect(bufferSize);
+            this.buffer.flip();
+            this.maxLineLength = maxLineLength;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !finished) {
+                next = readLine();
+            }
+            return next != null;
+        }
+
+        @Override
+        public Try<String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Try<String> result = next;
+            next = null;
+            return result;
+        }
+
+        /**
+         * @return the next line or {@code null} at the end of the file
+         */
+        private Try<String> readLine() {
+            try {
+                if (!opened) {
+                    opened = true;
+                    channel = FileChannel.open(path, StandardOpenOption.READ);
+                }
+                while (true) {
+                    while (buffer.hasRemaining()) {
+                        byte b = buffer.get();
+                        if (b == '\n') {
+                            return completeLine();
+                        }
+                        append(b);
+                    }
+                    buffer.clear();
+                    int read = channel.read(buffer);
+                    buffer.flip();
+                    if (read < 0) {
+                        closeQuietly();
+                        return lineLength > 0 || lineTooLong ? completeLine() : null;
+                    }
+                }
+            } catch (IOException e) {
+                closeQuietly();
+                return new Try.Failure<>(e);
+            }
+        }
+
+        private void append(byte b) {
+            if (lineTooLong) {
+                return;
+            }
+            if (lineLength == maxLineLength) {
+                lineTooLong = true;
+                lineLength = 0;
+                return;
+            }
+            if (lineLength == line.length) {
+                line = Arrays.copyOf(line, (int) Math.min((long) line.length * 2, maxLineLength));
+            }
+            line[lineLength++] = b;
+        }
+
+        private Try<String> completeLine() {
+            if (lineTooLong) {
+                lineTooLong = false;
+                return new Try.Failure<>(new IOException("Line longer than " + maxLineLength + " bytes"));
+            }
+            int length = lineLength > 0 && line[lineLength - 1] == '\r' ? lineLength - 1 : lineLength;
+            lineLength = 0;
+            try {
+                return new Try.Success<>(decoder.reset().decode(ByteBuffer.wrap(line, 0, length)).toString());
+            } catch (CharacterCodingException e) {
+                return new Try.Failure<>(e);
+            }
+        }
+
+        private void closeQuietly() {
+            try {
+                close();
+            } catch (UncheckedIOException e) {
+                // Either everything has been read or the read failure is reported instead
+            }
+        }
+
+        private void close() {
+            finished = true;
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } finally {
+                    channel = null;
+                }
+            }
+        }
+    }
+}
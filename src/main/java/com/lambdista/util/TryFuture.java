@@ -0,0 +1,238 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * <p>The asynchronous counterpart of {@link Try}. A {@code TryFuture} represents a computation, running on an
+ * {@link Executor}, that will eventually complete with either a {@link Try.Success} or a {@link Try.Failure}.
+ * Differently from a plain {@link CompletableFuture} it never completes exceptionally: exceptions are always
+ * captured in the resulting {@code Try}.</p>
+ *
+ * <p>Its combinators mirror those of {@code Try} and never block: they are run by the thread completing the
+ * previous stage.</p>
+ *
+ * <pre>
+ * TryFuture&lt;String&gt; page = TryFuture.applyAsync(() -&gt; fetch(url))
+ *         .map(String::trim)
+ *         .recover(e -&gt; errorMessage);
+ *
+ * page.onComplete(result -&gt; result.forEach(System.out::println));
+ * </pre>
+ *
+ * @param <T> the type returned by the computation
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public final class TryFuture<T> {
+
+    private final CompletableFuture<Try<T>> future;
+
+    private TryFuture(CompletableFuture<Try<T>> future) {
+        this.future = future;
+    }
+
+    /**
+     * Runs the {@link FailableSupplier} parameter on the given {@link Executor}.
+     *
+     * @param supplier the {@link FailableSupplier} to use
+     * @param executor the {@link Executor} running {@code supplier}
+     * @param <T>      the type returned by the {@link FailableSupplier}
+     * @return a {@code TryFuture} completing with the outcome of {@code supplier}. If {@code executor} rejects the
+     * task it completes with a {@link Try.Failure} of the {@link RejectedExecutionException}
+     */
+    public static <T> TryFuture<T> applyAsync(FailableSupplier<T> supplier, Executor executor) {
+        try {
+            return new TryFuture<>(CompletableFuture.supplyAsync(() -> Try.apply(supplier), executor));
+        } catch (RejectedExecutionException e) {
+            return completed(new Try.Failure<>(e));
+        }
+    }
+
+    /**
+     * Runs the {@link FailableSupplier} parameter on {@link TryExecutors#defaultExecutor()}, which uses virtual
+     * threads when available.
+     *
+     * @param supplier the {@link FailableSupplier} to use
+     * @param <T>      the type returned by the {@link FailableSupplier}
+     * @return a {@code TryFuture} completing with the outcome of {@code supplier}
+     */
+    public static <T> TryFuture<T> applyAsync(FailableSupplier<T> supplier) {
+        return applyAsync(supplier, TryExecutors.defaultExecutor());
+    }
+
+    /**
+     * @param result the outcome
+     * @param <T>    the type of the computation
+     * @return an already completed {@code TryFuture}
+     */
+    public static <T> TryFuture<T> completed(Try<T> result) {
+        return new TryFuture<>(CompletableFuture.completedFuture(Objects.requireNonNull(result)));
+    }
+
+    /**
+     * @param future a future which never completes exceptionally but with an {@link Error}
+     */
+    static <T> TryFuture<T> of(CompletableFuture<Try<T>> future) {
+        return new TryFuture<>(future);
+    }
+
+    /**
+     * Adapts a {@link CompletableFuture}, capturing its exceptional completion in a {@link Try.Failure}.
+     *
+     * @param future the {@link CompletableFuture} to adapt
+     * @param <T>    the type of the computation
+     * @return a {@code TryFuture} completing when {@code future} does
+     */
+    public static <T> TryFuture<T> fromCompletableFuture(CompletableFuture<? extends T> future) {
+        return new TryFuture<>(future.handle((value, throwable) -> {
+            if (throwable == null) {
+                return new Try.Success<T>(value);
+            }
+            return new Try.Failure<>(toException(throwable));
+        }));
+    }
+
+    /**
+     * @param mapper a function to apply to the value once available
+     * @param <U>    the type of the result
+     * @return a new {@code TryFuture}
+     * @see Try#map(Function)
+     */
+    public <U> TryFuture<U> map(Function<? super T, ? extends U> mapper) {
+        return new TryFuture<>(future.thenApply(result -> result.map(mapper)));
+    }
+
+    /**
+     * @param mapper a function to apply to the value once available, starting another asynchronous computation
+     * @param <U>    the type of the result
+     * @return a new {@code TryFuture}
+     * @see Try#flatMap(Function)
+     */
+    public <U> TryFuture<U> flatMap(Function<? super T, ? extends TryFuture<U>> mapper) {
+        return new TryFuture<>(future.thenCompose(result -> {
+            try {
+                return result.isSuccess()
+                        ? mapper.apply(result.get()).toCompletableFuture()
+                        : TryFuture.<U>failed(result).future;
+            } catch (Exception e) {
+                return TryFuture.<U>failed(e).future;
+            }
+        }));
+    }
+
+    /**
+     * @param predicate the {@link Predicate} to use
+     * @return a new {@code TryFuture}
+     * @see Try#filter(Predicate)
+     */
+    public TryFuture<T> filter(Predicate<? super T> predicate) {
+        return new TryFuture<>(future.thenApply(result -> result.filter(predicate)));
+    }
+
+    /**
+     * @param recoverFunc the function to apply if the computation failed
+     * @return a new {@code TryFuture}
+     * @see Try#recover(Function)
+     */
+    public TryFuture<T> recover(Function<? super Exception, ? extends T> recoverFunc) {
+        return new TryFuture<>(future.thenApply(result -> result.recover(recoverFunc)));
+    }
+
+    /**
+     * @param recoverFunc the function to apply if the computation failed, starting another asynchronous
+     *                    computation
+     * @return a new {@code TryFuture}
+     * @see Try#recoverWith(Function)
+     */
+    public TryFuture<T> recoverWith(Function<? super Exception, ? extends TryFuture<T>> recoverFunc) {
+        return new TryFuture<>(future.thenCompose(result -> {
+            try {
+                return result.isSuccess() ? future : recoverFunc.apply(result.failed().get()).toCompletableFuture();
+            } catch (Exception e) {
+                return TryFuture.<T>failed(e).future;
+            }
+        }));
+    }
+
+    /**
+     * Registers an action to run with the outcome once available.
+     *
+     * @param action the action to run
+     */
+    public void onComplete(Consumer<? super Try<T>> action) {
+        future.thenAccept(action);
+    }
+
+    /**
+     * @return {@code true} if the computation has completed
+     */
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    /**
+     * Blocks until the computation completes.
+     *
+     * @return the outcome of the computation
+     */
+    public Try<T> join() {
+        return future.join();
+    }
+
+    /**
+     * @return a view of {@code this} as a {@link CompletableFuture} which, like {@code this}, never completes
+     * exceptionally
+     */
+    public CompletableFuture<Try<T>> toCompletableFuture() {
+        return future;
+    }
+
+    private static <U> TryFuture<U> failed(Exception exception) {
+        return completed(new Try.Failure<>(exception));
+    }
+
+    private static <U> TryFuture<U> failed(Try<?> failure) {
+        return failed(failure.failed().get());
+    }
+
+    static Exception toException(Throwable throwable) {
+        Throwable cause = throwable;
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof Exception) {
+            return (Exception) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new RuntimeException(cause);
+    }
+
+    @Override
+    public String toString() {
+        return future.isDone() ? "TryFuture{" + future.join() + '}' : "TryFuture{<pending>}";
+    }
+}
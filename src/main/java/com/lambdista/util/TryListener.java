@@ -0,0 +1,50 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+/**
+ * Receives the outcomes of {@link Try#apply(FailableSupplier)}, {@link Try#instrumented(String, FailableSupplier)}
+ * and of the {@code recover/recoverWith} of a {@link Try.Failure}, as well as those of their {@link IntTry},
+ * {@link LongTry} and {@link DoubleTry} counterparts, once installed through
+ * {@link Try#setListener(TryListener)}. Implementations are called on the hot path so they must be thread-safe and
+ * cheap; see {@link TryMetrics} for a ready-made one.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public interface TryListener {
+
+    /**
+     * @param name          the name of the call site, {@link Try#APPLY} for a plain {@code Try.apply}
+     * @param durationNanos the time the supplier took
+     */
+    void onSuccess(String name, long durationNanos);
+
+    /**
+     * @param name          the name of the call site, {@link Try#APPLY} for a plain {@code Try.apply}
+     * @param exception     the exception the supplier failed with
+     * @param durationNanos the time the supplier took
+     */
+    void onFailure(String name, Exception exception, long durationNanos);
+
+    /**
+     * Called when {@code recover} or {@code recoverWith} handles {@code exception}. It does nothing by default.
+     *
+     * @param exception the exception being recovered from
+     */
+    default void onRecover(Exception exception) {
+    }
+}
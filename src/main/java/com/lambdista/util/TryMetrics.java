@@ -0,0 +1,152 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link TryListener} keeping, for each call site name, the number of successes and failures, the number of
+ * failures per exception class and a {@link LatencyHistogram} of the supplier durations. Counters are
+ * {@link LongAdder}s so that concurrent call sites do not contend.
+ *
+ * <pre>
+ * TryMetrics metrics = new TryMetrics();
+ * Try.setListener(metrics);
+ *
+ * Try&lt;Price&gt; price = Try.instrumented("pricing", () -&gt; pricingService.lookup(sku));
+ *
+ * long failures = metrics.stats("pricing").failureCount();
+ * </pre>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public final class TryMetrics implements TryListener {
+
+    private final ConcurrentHashMap<String, Stats> stats = new ConcurrentHashMap<>();
+    private final LongAdder recoveries = new LongAdder();
+
+    @Override
+    public void onSuccess(String name, long durationNanos) {
+        Stats site = site(name);
+        site.successes.increment();
+        site.latency.record(durationNanos);
+    }
+
+    @Override
+    public void onFailure(String name, Exception exception, long durationNanos) {
+        Stats site = site(name);
+        site.failures.increment();
+        site.failuresByType.computeIfAbsent(exception.getClass(), type -> new LongAdder()).increment();
+        site.latency.record(durationNanos);
+    }
+
+    @Override
+    public void onRecover(Exception exception) {
+        recoveries.increment();
+    }
+
+    /**
+     * @param name the call site name
+     * @return the statistics of the call site or, if none was recorded yet, empty statistics which are not
+     * registered under {@code name}
+     */
+    public Stats stats(String name) {
+        Stats site = stats.get(name);
+        return site != null ? site : new Stats();
+    }
+
+    private Stats site(String name) {
+        Stats site = stats.get(name);
+        return site != null ? site : stats.computeIfAbsent(name, key -> new Stats());
+    }
+
+    /**
+     * @return the statistics of every call site recorded so far, by name
+     */
+    public Map<String, Stats> allStats() {
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * @return the number of failures handled by {@code recover/recoverWith}
+     */
+    public long recoveryCount() {
+        return recoveries.sum();
+    }
+
+    /**
+     * The statistics of a single call site.
+     *
+     * @author Alessandro Lacava
+     * @since 2026-10-17
+     */
+    public static final class Stats {
+
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final ConcurrentHashMap<Class<? extends Exception>, LongAdder> failuresByType =
+                new ConcurrentHashMap<>();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private Stats() {
+        }
+
+        /**
+         * @return the number of successes
+         */
+        public long successCount() {
+            return successes.sum();
+        }
+
+        /**
+         * @return the number of failures
+         */
+        public long failureCount() {
+            return failures.sum();
+        }
+
+        /**
+         * @return a snapshot of the number of failures per exception class
+         */
+        public Map<Class<? extends Exception>, Long> failureCountsByType() {
+            Map<Class<? extends Exception>, Long> snapshot = new HashMap<>();
+            failuresByType.forEach((type, count) -> snapshot.put(type, count.sum()));
+            return snapshot;
+        }
+
+        /**
+         * @return the histogram of the supplier durations in nanoseconds
+         */
+        public LatencyHistogram latency() {
+            return latency;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{" +
+                    "successes=" + successCount() +
+                    ", failures=" + failureCount() +
+                    ", failuresByType=" + failureCountsByType() +
+                    ", latency=" + latency +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event committed when {@code recover} or {@code recoverWith} runs its handler on a
+ * {@link Try.Failure}. Its duration is the time the handler took.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+@Name(TryRecoverEvent.NAME)
+@Label("Try Recover")
+@Category("Try")
+@Description("A recover or recoverWith handler has run on a Try.Failure")
+@StackTrace
+final class TryRecoverEvent extends Event {
+
+    static final String NAME = "com.lambdista.util.TryRecover";
+
+    @Label("Exception Class")
+    String exceptionClass;
+
+    @Label("Message")
+    String message;
+
+    @Label("Method")
+    String method;
+
+    /**
+     * Checked before creating an event, so that no event is allocated while no recording enables it
+     */
+    private static final EventType TYPE = EventType.getEventType(TryRecoverEvent.class);
+
+    static TryRecoverEvent start() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        TryRecoverEvent event = new TryRecoverEvent();
+        event.begin();
+        return event;
+    }
+
+    void end(Exception exception, String method) {
+        end();
+        if (shouldCommit()) {
+            this.exceptionClass = exception.getClass().getName();
+            this.message = exception.getMessage();
+            this.method = method;
+            commit();
+        }
+    }
+}
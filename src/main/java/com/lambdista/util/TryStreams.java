@@ -0,0 +1,117 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Bridges between {@link Stream}s and {@link Try}.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public final class TryStreams {
+
+    private TryStreams() {
+    }
+
+    /**
+     * Maps each element of {@code stream} with {@code mapper}, keeping only the values of the successes. The
+     * returned stream is backed by a {@link Spliterator} wrapping the one of {@code stream}, so that it splits
+     * the same way when parallel and, unlike {@code stream.flatMap(e -> mapper.apply(e).stream())}, it does not
+     * create a stream per element.
+     *
+     * @param stream the source stream
+     * @param mapper the function to apply to each element. An exception it throws counts as a failure.
+     * @param <T>    the type of the elements
+     * @param <R>    the type of the values
+     * @return a stream of the values of the successes, parallel if {@code stream} is
+     */
+    public static <T, R> Stream<R> flatMapTry(Stream<? extends T> stream,
+                                              Function<? super T, ? extends Try<? extends R>> mapper) {
+        return StreamSupport.stream(new SuccessSpliterator<T, R>(stream.spliterator(), mapper), stream.isParallel())
+                .onClose(stream::close);
+    }
+
+    private static final class SuccessSpliterator<T, R> implements Spliterator<R>, Consumer<T> {
+
+        private final Spliterator<? extends T> source;
+        private final Function<? super T, ? extends Try<? extends R>> mapper;
+        private Try<? extends R> current;
+
+        private SuccessSpliterator(Spliterator<? extends T> source,
+                                   Function<? super T, ? extends Try<? extends R>> mapper) {
+            this.source = source;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(T element) {
+            try {
+                current = mapper.apply(element);
+            } catch (Exception e) {
+                current = null;
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super R> action) {
+            while (source.tryAdvance(this)) {
+                Try<? extends R> result = current;
+                current = null;
+                if (result != null && result.isSuccess()) {
+                    action.accept(result.get());
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super R> action) {
+            source.forEachRemaining(element -> {
+                Try<? extends R> result;
+                try {
+                    result = mapper.apply(element);
+                } catch (Exception e) {
+                    return;
+                }
+                result.forEach(action);
+            });
+        }
+
+        @Override
+        public Spliterator<R> trySplit() {
+            Spliterator<? extends T> prefix = source.trySplit();
+            return prefix == null ? null : new SuccessSpliterator<>(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            // Failures are dropped so the size is no longer known; the values are neither distinct nor sorted
+            return source.characteristics() & (ORDERED | IMMUTABLE | CONCURRENT);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URLConnection;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>Fetches the content of many URLs concurrently, returning a {@link Try} per URL so that a failing endpoint
+ * does not affect the others.</p>
+ *
+ * <p>At most {@code concurrency} requests are in flight at once: as many workers are started on the
+ * {@link Executor}, by default {@link TryExecutors#defaultExecutor()} (virtual threads when available), each
+ * taking the next URL to fetch. Each request has its own connect and read timeout. Bodies are always read to the
+ * end and closed, error responses included, so the JDK keeps the HTTP connections alive and reuses them for the
+ * following requests to the same host.</p>
+ *
+ * <pre>
+ * UrlFetcher fetcher = new UrlFetcher(64, Duration.ofSeconds(5));
+ * Map&lt;URI, Try&lt;String&gt;&gt; pages = fetcher.fetchAll(uris);
+ * </pre>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public final class UrlFetcher {
+
+    private final int concurrency;
+    private final int timeoutMillis;
+    private final Executor executor;
+
+    /**
+     * @param concurrency the maximum number of requests in flight
+     * @param timeout     the connect and read timeout of each request
+     */
+    public UrlFetcher(int concurrency, Duration timeout) {
+        this(concurrency, timeout, TryExecutors.defaultExecutor());
+    }
+
+    /**
+     * @param concurrency the maximum number of requests in flight
+     * @param timeout     the connect and read timeout of each request
+     * @param executor    the {@link Executor} running the requests
+     */
+    public UrlFetcher(int concurrency, Duration timeout, Executor executor) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency must be positive: " + concurrency);
+        }
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout must be positive: " + timeout);
+        }
+        this.concurrency = concurrency;
+        this.timeoutMillis = (int) Math.min(Integer.MAX_VALUE, timeout.toMillis());
+        this.executor = executor;
+    }
+
+    /**
+     * Fetches a single URL on the calling thread.
+     *
+     * @param uri the URL to fetch
+     * @return the body decoded with the charset of the response, UTF-8 by default, or a {@link Try.Failure} if
+     * the request fails, times out or the response status is 400 or more
+     */
+    public Try<String> fetch(URI uri) {
+        return Try.apply(() -> read(uri));
+    }
+
+    /**
+     * Fetches every URL, at most {@code concurrency} at a time, and waits for all of them. The URLs are keyed by
+     * {@link URI} rather than {@link java.net.URL}, whose {@code equals} and {@code hashCode} resolve the host.
+     *
+     * @param uris the URLs to fetch. Duplicates are fetched once.
+     * @return the result of each URL, in iteration order of {@code uris}. If the calling thread is interrupted
+     * or the executor rejects the workers, the URLs not fetched yet, including those still being fetched by the
+     * running workers, map to a {@link Try.Failure}.
+     */
+    public Map<URI, Try<String>> fetchAll(Collection<URI> uris) {
+        List<URI> distinct = new ArrayList<>(new LinkedHashSet<>(uris));
+        int size = distinct.size();
+        AtomicReferenceArray<Try<String>> results = new AtomicReferenceArray<>(size);
+        AtomicInteger next = new AtomicInteger();
+        int workers = Math.min(concurrency, size);
+        CountDownLatch done = new CountDownLatch(workers);
+
+        Exception abort = null;
+        for (int w = 0; w < workers; w++) {
+            try {
+                executor.execute(() -> {
+                    try {
+                        for (int i = next.getAndIncrement(); i < size; i = next.getAndIncrement()) {
+                            results.set(i, fetch(distinct.get(i)));
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                abort = e;
+                done.countDown();
+            }
+        }
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort = e;
+            // Let the running workers finish their current URL without starting new ones
+            next.set(size);
+        }
+
+        // After an interrupt the workers may still be writing: each slot is read once, so the map only holds the
+        // results completed by now and is never changed afterwards
+        Map<URI, Try<String>> byUri = new LinkedHashMap<>(size * 4 / 3 + 1);
+        for (int i = 0; i < size; i++) {
+            Try<String> result = results.get(i);
+            if (result == null) {
+                result = new Try.Failure<>(abort != null ? abort : new RejectedExecutionException("Not fetched"));
+            }
+            byUri.put(distinct.get(i), result);
+        }
+        return byUri;
+    }
+
+    private String read(URI uri) throws IOException {
+        URLConnection connection = uri.toURL().openConnection();
+        connection.setConnectTimeout(timeoutMillis);
+        connection.setReadTimeout(timeoutMillis);
+        if (connection instanceof HttpURLConnection) {
+            HttpURLConnection http = (HttpURLConnection) connection;
+            int status = http.getResponseCode();
+            if (status >= 400) {
+                // Reading the error body lets the connection be reused
+                InputStream error = http.getErrorStream();
+                if (error != null) {
+                    readFully(error);
+                }
+                throw new IOException("HTTP " + status + " " + http.getResponseMessage() + " from " + uri);
+            }
+        }
+        return new String(readFully(connection.getInputStream()), charsetOf(connection.getContentType()));
+    }
+
+    private static byte[] readFully(InputStream stream) throws IOException {
+        try (InputStream in = stream) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    static Charset charsetOf(String contentType) {
+        if (contentType != null) {
+            for (String parameter : contentType.split(";")) {
+                String trimmed = parameter.trim();
+                if (trimmed.regionMatches(true, 0, "charset=", 0, 8)) {
+                    String name = trimmed.substring(8).replace("\"", "");
+                    return Try.apply(() -> Charset.forName(name)).getOrElse(StandardCharsets.UTF_8);
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+}
@@ -0,0 +1,146 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for {@link com.lambdista.util.Bulkhead}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class BulkheadTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    public void testFixedLimitRejectsCallsOverIt() throws Exception {
+        Bulkhead bulkhead = new Bulkhead(Bulkhead.Config.fixed(2));
+        CountDownLatch entered = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<Try<String>>> running = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                running.add(executor.submit(() -> bulkhead.apply(() -> {
+                    entered.countDown();
+                    release.await();
+                    return "done";
+                })));
+            }
+            entered.await();
+            assertEquals(2, bulkhead.getInFlight());
+            Try<String> rejected = bulkhead.apply(() -> "rejected");
+            assertTrue(rejected.failed().get() instanceof CallNotPermittedException);
+            assertSame(rejected, bulkhead.apply(() -> "rejected again"));
+            release.countDown();
+            for (Future<Try<String>> result : running) {
+                assertEquals("done", result.get().get());
+            }
+            assertEquals(0, bulkhead.getInFlight());
+            assertEquals("admitted", bulkhead.apply(() -> "admitted").get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testPermitIsReleasedOnFailure() {
+        Bulkhead bulkhead = new Bulkhead(Bulkhead.Config.fixed(1));
+        assertTrue(bulkhead.apply(() -> {
+            throw new IOException("boom");
+        }).isFailure());
+        assertEquals(0, bulkhead.getInFlight());
+        assertEquals("ok", bulkhead.apply(() -> "ok").get());
+    }
+
+    @Test
+    public void testAimdLimitBacksOffOnFailures() {
+        Bulkhead bulkhead = new Bulkhead(Bulkhead.Config.aimd(10, 2, 20).withBackoffRatio(0.5), now::get);
+        FailableSupplier<String> failing = () -> {
+            throw new IOException("down");
+        };
+        bulkhead.apply(failing);
+        assertEquals(5, bulkhead.getLimit());
+        bulkhead.apply(failing);
+        bulkhead.apply(failing);
+        bulkhead.apply(failing);
+        assertEquals(2, bulkhead.getLimit());
+    }
+
+    @Test
+    public void testAimdLimitBacksOffOnSlowCalls() {
+        Bulkhead bulkhead = new Bulkhead(Bulkhead.Config.aimd(10, 2, 20).withBackoffRatio(0.5)
+                .withLatencyThreshold(Duration.ofMillis(100)), now::get);
+        bulkhead.apply(() -> now.addAndGet(Duration.ofMillis(200).toNanos()));
+        assertEquals(5, bulkhead.getLimit());
+    }
+
+    @Test
+    public void testAimdLimitGrowsOnlyWhenUsed() {
+        Bulkhead bulkhead = new Bulkhead(Bulkhead.Config.aimd(4, 1, 5), now::get);
+        bulkhead.apply(() -> "idle");
+        assertEquals(4, bulkhead.getLimit());
+
+        AtomicInteger nested = new AtomicInteger();
+        for (int i = 0; i < 20; i++) {
+            bulkhead.apply(() -> bulkhead.apply(() -> nested.incrementAndGet()).get());
+        }
+        assertEquals(20, nested.get());
+        assertEquals("2 calls in flight must not grow the limit above 4", 4, bulkhead.getLimit());
+    }
+
+    @Test
+    public void testAimdLimitGrowsByAboutOnePerLimitSuccessfulCalls() {
+        Bulkhead bulkhead = new Bulkhead(Bulkhead.Config.aimd(4, 1, 100), now::get);
+        List<Integer> limits = new ArrayList<>();
+        // 4 calls in flight for each inner call, so the limit keeps growing up to 8
+        bulkhead.apply(() -> bulkhead.apply(() -> bulkhead.apply(() -> {
+            for (int i = 0; i < 5; i++) {
+                bulkhead.apply(() -> "inner");
+                limits.add(bulkhead.getLimit());
+            }
+            return "outer";
+        }).get()).get());
+        assertEquals("4 successes must raise a limit of 4 by less than one, the 5th past 5",
+                Arrays.asList(4, 4, 4, 4, 5), limits);
+    }
+
+    @Test
+    public void testIgnoredExceptionsDoNotShrinkTheLimit() {
+        Bulkhead bulkhead = new Bulkhead(Bulkhead.Config.aimd(10, 2, 20)
+                .recordFailureIf(e -> !(e instanceof NumberFormatException)), now::get);
+        bulkhead.apply(() -> Integer.parseInt("x"));
+        assertEquals(10, bulkhead.getLimit());
+    }
+}
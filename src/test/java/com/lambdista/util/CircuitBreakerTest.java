@@ -0,0 +1,242 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for {@link com.lambdista.util.CircuitBreaker}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final FailableSupplier<String> failing = () -> {
+        calls.incrementAndGet();
+        throw new IOException("down");
+    };
+
+    private final FailableSupplier<String> succeeding = () -> {
+        calls.incrementAndGet();
+        return "up";
+    };
+
+    private CircuitBreaker breaker(CircuitBreaker.Config config) {
+        return new CircuitBreaker(config.withOpenDuration(Duration.ofSeconds(10)).withHalfOpenCalls(2), now::get);
+    }
+
+    @Test
+    public void testOpensAboveFailureRateThreshold() {
+        CircuitBreaker breaker = breaker(CircuitBreaker.Config.countBased(4).withFailureRateThreshold(0.5));
+        breaker.apply(succeeding);
+        breaker.apply(succeeding);
+        breaker.apply(failing);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        breaker.apply(failing);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        Try<String> rejected = breaker.apply(succeeding);
+        assertTrue(rejected.failed().get() instanceof CallNotPermittedException);
+        assertSame(rejected, breaker.apply(succeeding));
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    public void testCountWindowForgetsOldOutcomes() {
+        CircuitBreaker breaker = breaker(CircuitBreaker.Config.countBased(4).withFailureRateThreshold(0.75));
+        breaker.apply(failing);
+        breaker.apply(failing);
+        for (int i = 0; i < 10; i++) {
+            breaker.apply(succeeding);
+        }
+        breaker.apply(failing);
+        breaker.apply(failing);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        breaker.apply(failing);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void testOpensAboveSlowCallRateThreshold() {
+        CircuitBreaker breaker = breaker(CircuitBreaker.Config.countBased(2)
+                .withSlowCallRateThreshold(1.0, Duration.ofMillis(100)));
+        FailableSupplier<String> slow = () -> {
+            now.addAndGet(Duration.ofMillis(150).toNanos());
+            return "slow";
+        };
+        breaker.apply(slow);
+        breaker.apply(succeeding);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        breaker.apply(slow);
+        breaker.apply(slow);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void testTimeWindowForgetsOldSeconds() {
+        CircuitBreaker breaker = breaker(CircuitBreaker.Config.timeBased(2).withMinimumCalls(3));
+        breaker.apply(failing);
+        breaker.apply(failing);
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        breaker.apply(failing);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        breaker.apply(succeeding);
+        breaker.apply(failing);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void testTimeWindowCountsThePastSeconds() {
+        CircuitBreaker breaker = breaker(CircuitBreaker.Config.timeBased(3).withMinimumCalls(4));
+        breaker.apply(failing);
+        breaker.apply(failing);
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        breaker.apply(failing);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        breaker.apply(failing);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void testHalfOpenClosesAfterSuccessfulProbes() {
+        CircuitBreaker breaker = breaker(CircuitBreaker.Config.countBased(2));
+        breaker.apply(failing);
+        breaker.apply(failing);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertEquals("up", breaker.apply(succeeding).get());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertEquals("up", breaker.apply(succeeding).get());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void testHalfOpenProbeThrowingAnErrorIsRecorded() {
+        CircuitBreaker breaker = breaker(CircuitBreaker.Config.countBased(2));
+        breaker.apply(failing);
+        breaker.apply(failing);
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        for (int i = 0; i < 2; i++) {
+            try {
+                breaker.apply(() -> {
+                    throw new AssertionError("fatal");
+                });
+                throw new IllegalStateException("the Error must be rethrown");
+            } catch (AssertionError e) {
+                assertEquals("fatal", e.getMessage());
+            }
+        }
+        assertEquals("the probes must have been recorded as failures", CircuitBreaker.State.OPEN, breaker.getState());
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertEquals("up", breaker.apply(succeeding).get());
+        assertEquals("up", breaker.apply(succeeding).get());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void testThrowingFailurePredicateRecordsAFailure() {
+        CircuitBreaker breaker = breaker(CircuitBreaker.Config.countBased(2).recordFailureIf(e -> {
+            throw new IllegalStateException("broken predicate");
+        }));
+        for (int i = 0; i < 2; i++) {
+            try {
+                breaker.apply(failing);
+                throw new AssertionError("the predicate's exception must be rethrown");
+            } catch (IllegalStateException e) {
+                assertEquals("broken predicate", e.getMessage());
+            }
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void testHalfOpenReopensAfterFailedProbes() {
+        CircuitBreaker breaker = breaker(CircuitBreaker.Config.countBased(2));
+        breaker.apply(failing);
+        breaker.apply(failing);
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        breaker.apply(succeeding);
+        breaker.apply(failing);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertTrue(breaker.apply(succeeding).failed().get() instanceof CallNotPermittedException);
+    }
+
+    @Test
+    public void testHalfOpenLetsOnlyTheProbesThrough() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker(CircuitBreaker.Config.countBased(2)
+                .withOpenDuration(Duration.ZERO).withHalfOpenCalls(3));
+        breaker.apply(failing);
+        breaker.apply(failing);
+        calls.set(0);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Try<String>>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                results.add(executor.submit(() -> breaker.apply(() -> {
+                    calls.incrementAndGet();
+                    release.await();
+                    return "probe";
+                })));
+            }
+            while (results.stream().filter(Future::isDone).count() < 61) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+            int successes = 0;
+            for (Future<Try<String>> result : results) {
+                successes += result.get().isSuccess() ? 1 : 0;
+            }
+            assertEquals(3, successes);
+            assertEquals(3, calls.get());
+            assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testIgnoredExceptionsCountAsSuccesses() {
+        CircuitBreaker breaker = breaker(CircuitBreaker.Config.countBased(2)
+                .recordFailureIf(e -> !(e instanceof IOException)));
+        breaker.apply(failing);
+        breaker.apply(failing);
+        breaker.apply(failing);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(3, calls.get());
+    }
+}
@@ -0,0 +1,181 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for the {@link com.lambdista.util.DoubleTry} API in case of both success and failure
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class DoubleTryTest {
+
+    @Test
+    public void testIsSuccess() {
+        DoubleTry result = DoubleTry.apply(this::success);
+        assertTrue("result must be a success", result.isSuccess());
+    }
+
+    @Test
+    public void testIsFailure() {
+        DoubleTry result = DoubleTry.apply(this::failure);
+        assertTrue("result must be a failure", result.isFailure());
+    }
+
+    @Test
+    public void testGetAsDoubleAgainstASuccess() {
+        DoubleTry result = DoubleTry.apply(this::success);
+        assertEquals("result must be 42.5", result.getAsDouble(), 42.5, 0.0);
+    }
+
+    @Test(expected = GetOfFailureException.class)
+    public void testGetAsDoubleAgainstAFailure() {
+        DoubleTry.apply(this::failure).getAsDouble();
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testCheckedGetAsDoubleAgainstAFailure() throws Exception {
+        DoubleTry.apply(this::failure).checkedGetAsDouble();
+    }
+
+    @Test
+    public void testMapAgainstASuccess() {
+        DoubleTry result = DoubleTry.apply(this::success).map(d -> d * 2);
+        assertEquals("result must be Success(85.0)", result, new DoubleTry.Success(85.0));
+    }
+
+    @Test
+    public void testMapAgainstAFailure() {
+        DoubleTry result = DoubleTry.apply(this::failure).map(d -> d * 2);
+        assertTrue("result must be a failure", result.isFailure());
+    }
+
+    @Test
+    public void testMapThrowing() {
+        DoubleTry result = DoubleTry.apply(this::success).map(d -> {
+            throw new ArithmeticException("Not a number");
+        });
+        assertTrue("result must be a failure", result.isFailure());
+    }
+
+    @Test
+    public void testFlatMapAgainstASuccess() {
+        DoubleTry x = DoubleTry.apply(this::success);
+        DoubleTry y = DoubleTry.apply(() -> 1.0);
+        DoubleTry z = DoubleTry.apply(() -> 2.0);
+        DoubleTry result = x.flatMap(a -> y.flatMap(b -> z.map(c -> a + b + c)));
+        assertEquals("result must be Success(45.5)", result, new DoubleTry.Success(45.5));
+    }
+
+    @Test
+    public void testFlatMapAgainstAFailure() {
+        DoubleTry x = DoubleTry.apply(this::success);
+        DoubleTry y = DoubleTry.apply(this::failure);
+        DoubleTry result = x.flatMap(a -> y.map(b -> a + b));
+        assertTrue("result must be a failure", result.isFailure());
+    }
+
+    @Test
+    public void testNonMatchingFilter() throws Exception {
+        DoubleTry result = DoubleTry.apply(this::success).filter(d -> d != 42.5);
+        assertTrue("result must be a failure", result.isFailure());
+        try {
+            result.checkedGetAsDouble();
+        } catch (NoSuchElementException e) {
+            return;
+        }
+        throw new AssertionError("checkedGetAsDouble must throw a NoSuchElementException");
+    }
+
+    @Test
+    public void testRecoverAgainstAFailure() {
+        DoubleTry result = DoubleTry.apply(this::failure).recover(e -> e instanceof NumberFormatException ? 85.0 : 0.0);
+        assertEquals("result must be Success(85.0)", result, new DoubleTry.Success(85.0));
+    }
+
+    @Test
+    public void testRecoverWithAgainstAFailure() {
+        DoubleTry result = DoubleTry.apply(this::failure).recoverWith(e -> new DoubleTry.Success(85.0));
+        assertEquals("result must be Success(85.0)", result, new DoubleTry.Success(85.0));
+    }
+
+    @Test
+    public void testRecoverAgainstASuccess() {
+        DoubleTry result = DoubleTry.apply(this::success).recover(e -> 0.0);
+        assertEquals("result must be Success(42.5)", result, new DoubleTry.Success(42.5));
+    }
+
+    @Test
+    public void testToOptional() {
+        assertEquals("toOptional must be OptionalDouble.of(42.5)",
+                DoubleTry.apply(this::success).toOptional(), OptionalDouble.of(42.5));
+        assertEquals("toOptional must be empty", DoubleTry.apply(this::failure).toOptional(), OptionalDouble.empty());
+    }
+
+    @Test
+    public void testGetOrElse() {
+        assertEquals("getOrElse must be 42.5", DoubleTry.apply(this::success).getOrElse(85.0), 42.5, 0.0);
+        assertEquals("getOrElse must be 85.0", DoubleTry.apply(this::failure).getOrElse(85.0), 85.0, 0.0);
+    }
+
+    @Test
+    public void testMapToObjAndBoxed() {
+        assertEquals("mapToObj must be Success(\"42.5\")",
+                DoubleTry.apply(this::success).mapToObj(Double::toString), new Try.Success<>("42.5"));
+        assertEquals("boxed must be Success(42.5)", DoubleTry.apply(this::success).boxed(), new Try.Success<>(42.5));
+        assertTrue("boxed failure must be a failure", DoubleTry.apply(this::failure).boxed().isFailure());
+    }
+
+    @Test
+    public void testCrossPrimitiveMapping() {
+        DoubleTry result = DoubleTry.apply(this::success);
+        assertEquals("mapToInt must be Success(42)", result.mapToInt(d -> (int) d), new IntTry.Success(42));
+        assertEquals("mapToLong must be Success(43L)", result.mapToLong(Math::round), new LongTry.Success(43L));
+        assertTrue("mapToInt of a failure must be a failure",
+                DoubleTry.apply(this::failure).mapToInt(d -> (int) d).isFailure());
+    }
+
+    @Test
+    public void testListenerIsNotified() {
+        TryMetrics metrics = new TryMetrics();
+        Try.setListener(metrics);
+        try {
+            DoubleTry.apply(this::success);
+            DoubleTry.apply(this::failure).recover(e -> 0.0);
+        } finally {
+            Try.setListener(null);
+        }
+        assertEquals("the success must be reported", metrics.stats(Try.APPLY).successCount(), 1);
+        assertEquals("the failure must be reported", metrics.stats(Try.APPLY).failureCount(), 1);
+        assertEquals("the recovery must be reported", metrics.recoveryCount(), 1);
+    }
+
+    private double success() {
+        return 42.5;
+    }
+
+    private double failure() throws NumberFormatException {
+        throw new NumberFormatException("Number not valid");
+    }
+}
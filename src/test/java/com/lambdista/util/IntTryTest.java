@@ -0,0 +1,188 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for the {@link com.lambdista.util.IntTry} API in case of both success and failure
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class IntTryTest {
+
+    @Test
+    public void testIsSuccess() {
+        IntTry result = IntTry.apply(this::success);
+        assertTrue("result must be a success", result.isSuccess());
+    }
+
+    @Test
+    public void testIsFailure() {
+        IntTry result = IntTry.apply(this::failure);
+        assertTrue("result must be a failure", result.isFailure());
+    }
+
+    @Test
+    public void testGetAsIntAgainstASuccess() {
+        IntTry result = IntTry.apply(this::success);
+        assertEquals("result must be 42", result.getAsInt(), 42);
+    }
+
+    @Test(expected = GetOfFailureException.class)
+    public void testGetAsIntAgainstAFailure() {
+        IntTry.apply(this::failure).getAsInt();
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testCheckedGetAsIntAgainstAFailure() throws Exception {
+        IntTry.apply(this::failure).checkedGetAsInt();
+    }
+
+    @Test
+    public void testMapAgainstASuccess() {
+        IntTry result = IntTry.apply(this::success).map(i -> i * 2);
+        assertEquals("result must be Success(84)", result, new IntTry.Success(84));
+    }
+
+    @Test
+    public void testMapAgainstAFailure() {
+        IntTry result = IntTry.apply(this::failure).map(i -> i * 2);
+        assertTrue("result must be a failure", result.isFailure());
+    }
+
+    @Test
+    public void testMapThrowing() {
+        IntTry result = IntTry.apply(this::success).map(i -> i / 0);
+        assertTrue("result must be a failure", result.isFailure());
+    }
+
+    @Test
+    public void testFlatMapAgainstASuccess() {
+        IntTry x = IntTry.apply(this::success);
+        IntTry y = IntTry.apply(() -> 1);
+        IntTry z = IntTry.apply(() -> 2);
+        IntTry result = x.flatMap(a -> y.flatMap(b -> z.map(c -> a + b + c)));
+        assertEquals("result must be Success(45)", result, new IntTry.Success(45));
+    }
+
+    @Test
+    public void testFlatMapAgainstAFailure() {
+        IntTry x = IntTry.apply(this::success);
+        IntTry y = IntTry.apply(this::failure);
+        IntTry result = x.flatMap(a -> y.map(b -> a + b));
+        assertTrue("result must be a failure", result.isFailure());
+    }
+
+    @Test
+    public void testNonMatchingFilter() throws Exception {
+        IntTry result = IntTry.apply(this::success).filter(i -> i != 42);
+        assertTrue("result must be a failure", result.isFailure());
+        try {
+            result.checkedGetAsInt();
+        } catch (NoSuchElementException e) {
+            return;
+        }
+        throw new AssertionError("checkedGetAsInt must throw a NoSuchElementException");
+    }
+
+    @Test
+    public void testRecoverAgainstAFailure() {
+        IntTry result = IntTry.apply(this::failure).recover(e -> e instanceof NumberFormatException ? 84 : 0);
+        assertEquals("result must be Success(84)", result, new IntTry.Success(84));
+    }
+
+    @Test
+    public void testRecoverWithAgainstAFailure() {
+        IntTry result = IntTry.apply(this::failure).recoverWith(e -> new IntTry.Success(84));
+        assertEquals("result must be Success(84)", result, new IntTry.Success(84));
+    }
+
+    @Test
+    public void testRecoverAgainstASuccess() {
+        IntTry result = IntTry.apply(this::success).recover(e -> 0);
+        assertEquals("result must be Success(42)", result, new IntTry.Success(42));
+    }
+
+    @Test
+    public void testToOptional() {
+        assertEquals("toOptional must be OptionalInt.of(42)", IntTry.apply(this::success).toOptional(), OptionalInt.of(42));
+        assertEquals("toOptional must be empty", IntTry.apply(this::failure).toOptional(), OptionalInt.empty());
+    }
+
+    @Test
+    public void testGetOrElse() {
+        assertEquals("getOrElse must be 42", IntTry.apply(this::success).getOrElse(84), 42);
+        assertEquals("getOrElse must be 84", IntTry.apply(this::failure).getOrElse(84), 84);
+    }
+
+    @Test
+    public void testMapToObjAndBoxed() {
+        assertEquals("mapToObj must be Success(\"42\")",
+                IntTry.apply(this::success).mapToObj(Integer::toString), new Try.Success<>("42"));
+        assertEquals("boxed must be Success(42)", IntTry.apply(this::success).boxed(), new Try.Success<>(42));
+        assertTrue("boxed failure must be a failure", IntTry.apply(this::failure).boxed().isFailure());
+    }
+
+    @Test
+    public void testBridgesFromTry() {
+        Try<String> input = Try.apply(() -> "42");
+        assertEquals("mapToInt must be Success(42)", input.mapToInt(Integer::parseInt), new IntTry.Success(42));
+        assertEquals("mapToLong must be Success(42L)", input.mapToLong(Long::parseLong), new LongTry.Success(42L));
+        assertEquals("mapToDouble must be Success(42.0)",
+                input.mapToDouble(Double::parseDouble), new DoubleTry.Success(42.0));
+
+        Try<String> failed = Try.apply(() -> "x").filter(s -> false);
+        assertTrue("mapToInt of a failure must be a failure", failed.mapToInt(Integer::parseInt).isFailure());
+    }
+
+    @Test
+    public void testCrossPrimitiveMapping() {
+        IntTry result = IntTry.apply(this::success);
+        assertEquals("mapToLong must be Success(42L)", result.mapToLong(i -> i), new LongTry.Success(42L));
+        assertEquals("mapToDouble must be Success(21.0)", result.mapToDouble(i -> i / 2.0), new DoubleTry.Success(21.0));
+    }
+
+    @Test
+    public void testListenerIsNotified() {
+        TryMetrics metrics = new TryMetrics();
+        Try.setListener(metrics);
+        try {
+            IntTry.apply(this::success);
+            IntTry.apply(this::failure).recover(e -> 0);
+        } finally {
+            Try.setListener(null);
+        }
+        assertEquals("the success must be reported", metrics.stats(Try.APPLY).successCount(), 1);
+        assertEquals("the failure must be reported", metrics.stats(Try.APPLY).failureCount(), 1);
+        assertEquals("the recovery must be reported", metrics.recoveryCount(), 1);
+    }
+
+    private int success() {
+        return 42;
+    }
+
+    private int failure() throws NumberFormatException {
+        throw new NumberFormatException("Number not valid");
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for the JDK Flight Recorder events emitted by {@link com.lambdista.util.Try}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class JfrEventsTest {
+
+    @Test
+    public void testFailureAndRecoverEventsAreRecorded() throws Exception {
+        Path file = Files.createTempFile("try-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(TryFailureEvent.NAME);
+            recording.enable(TryRecoverEvent.NAME);
+            recording.start();
+
+            Try.apply(this::failure).recover(e -> 0);
+            Try.apply(this::failure).recoverWith(e -> new Try.Success<>(0));
+
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            List<RecordedEvent> failures = events.stream()
+                    .filter(event -> event.getEventType().getName().equals(TryFailureEvent.NAME))
+                    .collect(Collectors.toList());
+            List<RecordedEvent> recoveries = events.stream()
+                    .filter(event -> event.getEventType().getName().equals(TryRecoverEvent.NAME))
+                    .collect(Collectors.toList());
+
+            assertEquals("there must be 2 failure events", failures.size(), 2);
+            assertEquals("the exception class must be recorded",
+                    failures.get(0).getString("exceptionClass"), NumberFormatException.class.getName());
+            assertEquals("the message must be recorded", failures.get(0).getString("message"), "Number not valid");
+            assertEquals("there must be 2 recover events", recoveries.size(), 2);
+            assertTrue("the recover methods must be recorded",
+                    recoveries.stream().anyMatch(event -> "recoverWith".equals(event.getString("method"))));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testConvertedFailureIsRecordedOnce() throws Exception {
+        Path file = Files.createTempFile("try-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(TryFailureEvent.NAME);
+            recording.start();
+
+            LongTry result = IntTry.apply(this::failure).mapToObj(i -> i).mapToLong(i -> i);
+
+            recording.stop();
+            recording.dump(file);
+
+            long failures = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(TryFailureEvent.NAME))
+                    .count();
+            assertTrue("result must be a failure", result.isFailure());
+            assertEquals("there must be a single failure event", failures, 1L);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testNothingIsRecordedWhenDisabled() {
+        // Without a recording the events are disabled and creating failures must just work
+        assertTrue("result must be Success(0)", Try.apply(this::failure).recover(e -> 0).isSuccess());
+    }
+
+    private int failure() throws NumberFormatException {
+        throw new NumberFormatException("Number not valid");
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for the {@link com.lambdista.util.LazyTry} API
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class LazyTryTest {
+
+    @Test
+    public void testNothingRunsBeforeEvaluate() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyTry<Integer> result = LazyTry.apply(calls::incrementAndGet).map(i -> i + 1);
+        assertEquals("the supplier must not have been called", calls.get(), 0);
+        assertEquals("result must be Success(2)", result.evaluate(), new Try.Success<>(2));
+        assertEquals("the supplier must have been called once", calls.get(), 1);
+    }
+
+    @Test
+    public void testMapAndFlatMapAgainstASuccess() {
+        LazyTry<String> result = LazyTry.apply(this::success)
+                .map(i -> i + 1)
+                .flatMap(i -> LazyTry.apply(() -> i + ", " + anotherSuccess()));
+        assertEquals("result must be Success(\"43, Hello World!\")", result.evaluate(), new Try.Success<>("43, Hello World!"));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testMapAgainstAFailure() throws Exception {
+        LazyTry.apply(this::failure).map(i -> i + 1).evaluate().checkedGet();
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testThrowingStageProducesAFailure() throws Exception {
+        LazyTry.apply(this::success).map(i -> i / 0).map(i -> i + 1).evaluate().checkedGet();
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testNonMatchingFilter() throws Exception {
+        LazyTry.apply(this::success).filter(i -> i != 42).evaluate().checkedGet();
+    }
+
+    @Test
+    public void testRecoverAgainstAFailure() {
+        LazyTry<Integer> result = LazyTry.apply(this::failure)
+                .map(i -> i + 1)
+                .recover(e -> e instanceof NumberFormatException ? 84 : 0)
+                .map(i -> i + 1);
+        assertEquals("result must be Success(85)", result.evaluate(), new Try.Success<>(85));
+    }
+
+    @Test
+    public void testRecoverWithAgainstAFailure() {
+        LazyTry<Integer> result = LazyTry.apply(this::failure).recoverWith(e -> LazyTry.success(84));
+        assertEquals("result must be Success(84)", result.evaluate(), new Try.Success<>(84));
+    }
+
+    @Test
+    public void testRecoverAgainstASuccess() {
+        LazyTry<Integer> result = LazyTry.apply(this::success).recover(e -> 0);
+        assertEquals("result must be Success(42)", result.evaluate(), new Try.Success<>(42));
+    }
+
+    @Test
+    public void testFromTry() {
+        assertEquals("result must be Success(42)", LazyTry.fromTry(Try.apply(this::success)).evaluate(),
+                new Try.Success<>(42));
+        assertTrue("result must be a failure", LazyTry.fromTry(Try.apply(this::failure)).evaluate().isFailure());
+    }
+
+    @Test
+    public void testLongMapChainIsStackSafe() {
+        LazyTry<Integer> result = LazyTry.success(0);
+        for (int i = 0; i < 1_000_000; i++) {
+            result = result.map(n -> n + 1);
+        }
+        assertEquals("result must be Success(1000000)", result.evaluate(), new Try.Success<>(1_000_000));
+    }
+
+    @Test
+    public void testRecursiveFlatMapIsStackSafe() {
+        assertEquals("result must be Success(1000000)", countTo(0, 1_000_000).evaluate(), new Try.Success<>(1_000_000));
+    }
+
+    @Test
+    public void testTailRecM() {
+        LazyTry<Long> result = LazyTry.tailRecM(0L,
+                n -> LazyTry.success(n < 3_000_000L ? LazyTry.Step.<Long, Long>more(n + 1) : LazyTry.Step.<Long, Long>done(n)));
+        assertEquals("result must be Success(3000000)", result.evaluate(), new Try.Success<>(3_000_000L));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testTailRecMStopsAtTheFirstFailure() throws Exception {
+        LazyTry.<Integer, Integer>tailRecM(0, n -> n == 10
+                ? LazyTry.failure(new IllegalStateException("page " + n))
+                : LazyTry.success(LazyTry.Step.more(n + 1))).evaluate().checkedGet();
+    }
+
+    private LazyTry<Integer> countTo(int n, int max) {
+        return n == max ? LazyTry.success(n) : LazyTry.success(n + 1).flatMap(next -> countTo(next, max));
+    }
+
+    private int success() {
+        return 42;
+    }
+
+    private String anotherSuccess() {
+        return "Hello World!";
+    }
+
+    private int failure() throws NumberFormatException {
+        throw new NumberFormatException("Number not valid");
+    }
+}
@@ -0,0 +1,179 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for the {@link com.lambdista.util.LongTry} API in case of both success and failure
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class LongTryTest {
+
+    @Test
+    public void testIsSuccess() {
+        LongTry result = LongTry.apply(this::success);
+        assertTrue("result must be a success", result.isSuccess());
+    }
+
+    @Test
+    public void testIsFailure() {
+        LongTry result = LongTry.apply(this::failure);
+        assertTrue("result must be a failure", result.isFailure());
+    }
+
+    @Test
+    public void testGetAsLongAgainstASuccess() {
+        LongTry result = LongTry.apply(this::success);
+        assertEquals("result must be 42", result.getAsLong(), 42L);
+    }
+
+    @Test(expected = GetOfFailureException.class)
+    public void testGetAsLongAgainstAFailure() {
+        LongTry.apply(this::failure).getAsLong();
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testCheckedGetAsLongAgainstAFailure() throws Exception {
+        LongTry.apply(this::failure).checkedGetAsLong();
+    }
+
+    @Test
+    public void testMapAgainstASuccess() {
+        LongTry result = LongTry.apply(this::success).map(l -> l * 2);
+        assertEquals("result must be Success(84L)", result, new LongTry.Success(84L));
+    }
+
+    @Test
+    public void testMapAgainstAFailure() {
+        LongTry result = LongTry.apply(this::failure).map(l -> l * 2);
+        assertTrue("result must be a failure", result.isFailure());
+    }
+
+    @Test
+    public void testMapThrowing() {
+        LongTry result = LongTry.apply(this::success).map(l -> l / 0);
+        assertTrue("result must be a failure", result.isFailure());
+    }
+
+    @Test
+    public void testFlatMapAgainstASuccess() {
+        LongTry x = LongTry.apply(this::success);
+        LongTry y = LongTry.apply(() -> 1L);
+        LongTry z = LongTry.apply(() -> 2L);
+        LongTry result = x.flatMap(a -> y.flatMap(b -> z.map(c -> a + b + c)));
+        assertEquals("result must be Success(45L)", result, new LongTry.Success(45L));
+    }
+
+    @Test
+    public void testFlatMapAgainstAFailure() {
+        LongTry x = LongTry.apply(this::success);
+        LongTry y = LongTry.apply(this::failure);
+        LongTry result = x.flatMap(a -> y.map(b -> a + b));
+        assertTrue("result must be a failure", result.isFailure());
+    }
+
+    @Test
+    public void testNonMatchingFilter() throws Exception {
+        LongTry result = LongTry.apply(this::success).filter(l -> l != 42L);
+        assertTrue("result must be a failure", result.isFailure());
+        try {
+            result.checkedGetAsLong();
+        } catch (NoSuchElementException e) {
+            return;
+        }
+        throw new AssertionError("checkedGetAsLong must throw a NoSuchElementException");
+    }
+
+    @Test
+    public void testRecoverAgainstAFailure() {
+        LongTry result = LongTry.apply(this::failure).recover(e -> e instanceof NumberFormatException ? 84L : 0L);
+        assertEquals("result must be Success(84L)", result, new LongTry.Success(84L));
+    }
+
+    @Test
+    public void testRecoverWithAgainstAFailure() {
+        LongTry result = LongTry.apply(this::failure).recoverWith(e -> new LongTry.Success(84L));
+        assertEquals("result must be Success(84L)", result, new LongTry.Success(84L));
+    }
+
+    @Test
+    public void testRecoverAgainstASuccess() {
+        LongTry result = LongTry.apply(this::success).recover(e -> 0L);
+        assertEquals("result must be Success(42L)", result, new LongTry.Success(42L));
+    }
+
+    @Test
+    public void testToOptional() {
+        assertEquals("toOptional must be OptionalLong.of(42)",
+                LongTry.apply(this::success).toOptional(), OptionalLong.of(42L));
+        assertEquals("toOptional must be empty", LongTry.apply(this::failure).toOptional(), OptionalLong.empty());
+    }
+
+    @Test
+    public void testGetOrElse() {
+        assertEquals("getOrElse must be 42", LongTry.apply(this::success).getOrElse(84L), 42L);
+        assertEquals("getOrElse must be 84", LongTry.apply(this::failure).getOrElse(84L), 84L);
+    }
+
+    @Test
+    public void testMapToObjAndBoxed() {
+        assertEquals("mapToObj must be Success(\"42\")",
+                LongTry.apply(this::success).mapToObj(Long::toString), new Try.Success<>("42"));
+        assertEquals("boxed must be Success(42L)", LongTry.apply(this::success).boxed(), new Try.Success<>(42L));
+        assertTrue("boxed failure must be a failure", LongTry.apply(this::failure).boxed().isFailure());
+    }
+
+    @Test
+    public void testCrossPrimitiveMapping() {
+        LongTry result = LongTry.apply(this::success);
+        assertEquals("mapToInt must be Success(42)", result.mapToInt(l -> (int) l), new IntTry.Success(42));
+        assertEquals("mapToDouble must be Success(21.0)", result.mapToDouble(l -> l / 2.0), new DoubleTry.Success(21.0));
+        assertTrue("mapToInt of a failure must be a failure",
+                LongTry.apply(this::failure).mapToInt(l -> (int) l).isFailure());
+    }
+
+    @Test
+    public void testListenerIsNotified() {
+        TryMetrics metrics = new TryMetrics();
+        Try.setListener(metrics);
+        try {
+            LongTry.apply(this::success);
+            LongTry.apply(this::failure).recover(e -> 0L);
+        } finally {
+            Try.setListener(null);
+        }
+        assertEquals("the success must be reported", metrics.stats(Try.APPLY).successCount(), 1);
+        assertEquals("the failure must be reported", metrics.stats(Try.APPLY).failureCount(), 1);
+        assertEquals("the recovery must be reported", metrics.recoveryCount(), 1);
+    }
+
+    private long success() {
+        return 42L;
+    }
+
+    private long failure() throws NumberFormatException {
+        throw new NumberFormatException("Number not valid");
+    }
+}
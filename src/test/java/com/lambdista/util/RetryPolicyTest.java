@@ -0,0 +1,134 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for {@link com.lambdista.util.RetryPolicy} and {@link com.lambdista.util.RetryBudget}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class RetryPolicyTest {
+
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    private FailableSupplier<String> failingTimes(int failures, Exception exception) {
+        return () -> {
+            if (attempts.incrementAndGet() <= failures) {
+                throw exception;
+            }
+            return "ok";
+        };
+    }
+
+    @Test
+    public void testSucceedsAfterRetries() {
+        RetryPolicy policy = RetryPolicy.maxAttempts(5).withBackoff(Duration.ofMillis(1), Duration.ofMillis(5));
+        Try<String> result = Try.retry(policy, failingTimes(3, new IOException("boom"))).join();
+        assertEquals("ok", result.get());
+        assertEquals(4, attempts.get());
+    }
+
+    @Test
+    public void testGivesUpAfterMaxAttempts() {
+        RetryPolicy policy = RetryPolicy.maxAttempts(3);
+        Try<String> result = Try.retry(policy, failingTimes(10, new IOException("boom"))).join();
+        assertTrue(result.failed().get() instanceof IOException);
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void testDoesNotRetryUnlistedExceptions() {
+        RetryPolicy policy = RetryPolicy.maxAttempts(3).retryOn(IOException.class);
+        Try<String> result = Try.retry(policy, failingTimes(10, new IllegalStateException("boom"))).join();
+        assertTrue(result.failed().get() instanceof IllegalStateException);
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void testGivesUpWhenBudgetIsExhausted() {
+        RetryBudget budget = new RetryBudget(0.001, 2);
+        RetryPolicy policy = RetryPolicy.maxAttempts(10).withBudget(budget);
+        Try<String> result = Try.retry(policy, failingTimes(10, new IOException("boom"))).join();
+        assertTrue(result.isFailure());
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void testCompletesWhenTheRetryPredicateThrows() {
+        IllegalStateException broken = new IllegalStateException("broken predicate");
+        RetryPolicy policy = RetryPolicy.maxAttempts(3).retryIf(e -> {
+            throw broken;
+        });
+        Try<String> result = Try.retry(policy, failingTimes(10, new IOException("boom"))).join();
+        assertEquals(broken, result.failed().get());
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void testCompletesExceptionallyWhenAnAttemptThrowsAnError() {
+        AssertionError error = new AssertionError("fatal");
+        TryFuture<String> future = Try.retry(RetryPolicy.maxAttempts(3), () -> {
+            throw error;
+        }, TryExecutors.defaultExecutor(), TryExecutors.defaultScheduler());
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            assertEquals(error, e.getCause());
+            return;
+        }
+        throw new AssertionError("join must throw the Error");
+    }
+
+    @Test
+    public void testBudgetRefillsOverTime() {
+        AtomicLong now = new AtomicLong();
+        RetryBudget budget = new RetryBudget(10, 2, now::get);
+        assertTrue(budget.tryAcquire());
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+        assertEquals(Duration.ofMillis(100), budget.timeUntilAvailable());
+        now.addAndGet(Duration.ofMillis(100).toNanos());
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+    }
+
+    @Test
+    public void testDelayIsExponentialWithFullJitter() {
+        RetryPolicy policy = RetryPolicy.maxAttempts(10).withBackoff(Duration.ofMillis(100), Duration.ofSeconds(1));
+        long millis = Duration.ofMillis(1).toNanos();
+        assertEquals(100 * millis, policy.delayNanos(1, 0.9999999999) + 1, 1000);
+        assertEquals(200 * millis, policy.delayNanos(2, 0.9999999999) + 1, 1000);
+        assertEquals(400 * millis, policy.delayNanos(3, 0.9999999999) + 1, 1000);
+        assertEquals(800 * millis, policy.delayNanos(4, 0.9999999999) + 1, 1000);
+        assertEquals(1000 * millis, policy.delayNanos(5, 0.9999999999) + 1, 1000);
+        assertEquals(1000 * millis, policy.delayNanos(100, 0.9999999999) + 1, 1000);
+        assertEquals(0, policy.delayNanos(3, 0));
+        assertEquals(100 * millis, policy.delayNanos(2, 0.5));
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for {@link com.lambdista.util.TryAll}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class TryAllTest {
+
+    private static FailableSupplier<Integer> parse(String s) {
+        return () -> Integer.parseInt(s);
+    }
+
+    @Test
+    public void testCombinesAllSuccesses() {
+        Try<Integer> sum = TryAll.sequential().apply(parse("1"), parse("2"), parse("3"), (a, b, c) -> a + b + c);
+        assertEquals(Integer.valueOf(6), sum.get());
+    }
+
+    @Test
+    public void testCombinesEightSuppliers() {
+        Try<String> result = TryAll.sequential().apply(() -> "a", () -> "b", () -> "c", () -> "d", () -> "e",
+                () -> "f", () -> "g", () -> "h", (a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h);
+        assertEquals("abcdefgh", result.get());
+    }
+
+    @Test
+    public void testReportsEveryFailure() {
+        IOException first = new IOException("first");
+        IllegalStateException second = new IllegalStateException("second");
+        FailableSupplier<Integer> failFirst = () -> {
+            throw first;
+        };
+        FailableSupplier<Integer> failSecond = () -> {
+            throw second;
+        };
+        Try<Integer> result = TryAll.sequential().apply(parse("1"), failFirst, parse("3"), failSecond,
+                (a, b, c, d) -> a + b + c + d);
+        Exception exception = result.failed().get();
+        assertTrue(exception instanceof CompositeException);
+        assertArrayEquals(new Throwable[]{first, second}, exception.getSuppressed());
+        assertEquals("2 of 4 suppliers failed", exception.getMessage());
+    }
+
+    @Test
+    public void testCombinerFailureIsReturned() {
+        ArithmeticException failure = new ArithmeticException("boom");
+        Try<Integer> result = TryAll.sequential().apply(parse("1"), parse("2"), (a, b) -> {
+            throw failure;
+        });
+        assertSame(failure, result.failed().get());
+    }
+
+    @Test
+    public void testListForm() {
+        List<FailableSupplier<Integer>> suppliers = Arrays.asList(parse("1"), parse("x"), parse("3"), parse("y"));
+        Try<List<Integer>> result = TryAll.parallel().apply(suppliers);
+        assertEquals(2, ((CompositeException) result.failed().get()).getExceptions().size());
+        assertEquals(Arrays.asList(1, 2, 3), TryAll.parallel().apply(Arrays.asList(parse("1"), parse("2"),
+                parse("3"))).get());
+    }
+
+    @Test
+    public void testParallelRunsSuppliersConcurrently() {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            CountDownLatch started = new CountDownLatch(4);
+            FailableSupplier<Boolean> meet = () -> {
+                started.countDown();
+                return started.await(5, TimeUnit.SECONDS);
+            };
+            Try<Boolean> result = TryAll.parallel(executor).apply(meet, meet, meet, meet,
+                    (a, b, c, d) -> a && b && c && d);
+            assertTrue(result.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
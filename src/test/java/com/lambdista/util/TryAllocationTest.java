@@ -0,0 +1,139 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Allocation budgets of the hot paths of {@link com.lambdista.util.Try}. Each operation is warmed up and then run
+ * many times while the bytes allocated by the current thread are measured with
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}; the average per call must stay within the
+ * budget declared for the operation. Budgets are upper bounds: the JIT may well eliminate allocations, but a change
+ * adding some, e.g. creating an exception eagerly, fails the build.
+ *
+ * <p>An object with one reference field takes 16 bytes with compressed oops and 24 bytes without, hence the
+ * budget of a call creating one {@code Try}.</p>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class TryAllocationTest {
+
+    private static final int ONE_TRY = 24;
+    private static final int NOTHING = 0;
+
+    private static final int WARM_UP = 20_000;
+    private static final int MEASURED = 200_000;
+
+    private static com.sun.management.ThreadMXBean threadMXBean;
+
+    private static final Integer VALUE = 42;
+    private static final Try<Integer> SUCCESS = new Try.Success<>(VALUE);
+    private static final Try<Integer> FAILURE = new Try.Failure<>(new IllegalStateException("failure"));
+    private static final Exception EXCEPTION = new IllegalStateException("failure");
+    private static final Function<Integer, Integer> IDENTITY = i -> i;
+    private static final Function<Integer, Try<Integer>> TO_SUCCESS = i -> SUCCESS;
+    private static final Predicate<Integer> ALWAYS = i -> true;
+
+    /**
+     * Keeps the results reachable so that they escape and are really allocated
+     */
+    private static volatile Object sink;
+
+    @BeforeClass
+    public static void checkSupport() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue("allocation measurement is not supported by this JVM",
+                bean instanceof com.sun.management.ThreadMXBean);
+        threadMXBean = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    private static void assertBudget(String operation, int budgetBytes, Runnable call) {
+        for (int i = 0; i < WARM_UP; i++) {
+            call.run();
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED; i++) {
+            call.run();
+        }
+        long after = threadMXBean.getThreadAllocatedBytes(threadId);
+        double perCall = (double) (after - before) / MEASURED;
+        // the tolerance absorbs the few bytes the measurement itself allocates
+        assertTrue(operation + " allocates " + perCall + " bytes per call, budget is " + budgetBytes,
+                perCall <= budgetBytes + 0.5);
+    }
+
+    @Test
+    public void testApplyOfSuccess() {
+        assertBudget("Try.apply", ONE_TRY, () -> sink = Try.apply(() -> VALUE));
+    }
+
+    @Test
+    public void testSuccessMap() {
+        assertBudget("Success.map", ONE_TRY, () -> sink = SUCCESS.map(IDENTITY));
+    }
+
+    @Test
+    public void testSuccessFlatMap() {
+        assertBudget("Success.flatMap", NOTHING, () -> sink = SUCCESS.flatMap(TO_SUCCESS));
+    }
+
+    @Test
+    public void testSuccessFilter() {
+        assertBudget("Success.filter", NOTHING, () -> sink = SUCCESS.filter(ALWAYS));
+    }
+
+    @Test
+    public void testSuccessGetOrElse() {
+        assertBudget("Success.getOrElse", NOTHING, () -> sink = SUCCESS.getOrElse(0));
+    }
+
+    @Test
+    public void testFailureMap() {
+        assertBudget("Failure.map", NOTHING, () -> sink = FAILURE.map(IDENTITY));
+    }
+
+    @Test
+    public void testFailureFlatMap() {
+        assertBudget("Failure.flatMap", NOTHING, () -> sink = FAILURE.flatMap(TO_SUCCESS));
+    }
+
+    @Test
+    public void testFailureGetOrElse() {
+        assertBudget("Failure.getOrElse", NOTHING, () -> sink = FAILURE.getOrElse(0));
+    }
+
+    @Test
+    public void testFailureRecover() {
+        assertBudget("Failure.recover", ONE_TRY, () -> sink = FAILURE.recover(e -> VALUE));
+    }
+
+    @Test
+    public void testFailureConstructor() {
+        assertBudget("new Failure", ONE_TRY, () -> sink = new Try.Failure<>(EXCEPTION));
+    }
+}
@@ -0,0 +1,252 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for {@link com.lambdista.util.TryBatch} and its numeric specializations
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class TryBatchTest {
+
+    private final List<String> inputs = Arrays.asList("1", "x", "3", "4", "y", "6");
+
+    @Test
+    public void testApply() {
+        TryBatch<Integer> batch = TryBatch.apply(inputs, Integer::parseInt);
+        assertEquals(6, batch.size());
+        assertEquals(4, batch.successCount());
+        assertEquals(2, batch.failureCount());
+        assertTrue(batch.isSuccess(0));
+        assertFalse(batch.isSuccess(1));
+        assertEquals(Integer.valueOf(3), batch.value(2));
+        assertTrue(batch.exception(4) instanceof NumberFormatException);
+        assertEquals(new Try.Success<>(4), batch.get(3));
+        assertTrue(batch.get(1).isFailure());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testValueOfFailure() {
+        TryBatch.apply(inputs, Integer::parseInt).value(1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIndexOutOfBounds() {
+        TryBatch.apply(inputs, Integer::parseInt).isSuccess(6);
+    }
+
+    @Test
+    public void testMapKeepsFailuresAndAddsNewOnes() {
+        TryBatch<Integer> batch = TryBatch.apply(inputs, Integer::parseInt).map(i -> 12 / (i - 3));
+        assertEquals(Arrays.asList(-6, 12, 4), batch.successes().collect(Collectors.toList()));
+        assertTrue(batch.exception(1) instanceof NumberFormatException);
+        assertTrue(batch.exception(2) instanceof ArithmeticException);
+        assertTrue(batch.exception(4) instanceof NumberFormatException);
+        assertEquals(3, batch.failureCount());
+    }
+
+    @Test
+    public void testFilter() {
+        TryBatch<Integer> batch = TryBatch.apply(inputs, Integer::parseInt).filter(i -> i % 2 == 0);
+        assertEquals(Arrays.asList(4, 6), batch.successes().collect(Collectors.toList()));
+        assertTrue(batch.exception(0) instanceof NoSuchElementException);
+        assertTrue(batch.exception(1) instanceof NumberFormatException);
+    }
+
+    @Test
+    public void testRecover() {
+        TryBatch<Integer> batch = TryBatch.apply(inputs, Integer::parseInt).recover(e -> 0);
+        assertEquals(0, batch.failureCount());
+        assertEquals(new Try.Success<>(Arrays.asList(1, 0, 3, 4, 0, 6)), batch.toTry());
+
+        TryBatch<Integer> partial = TryBatch.apply(inputs, Integer::parseInt).recover(e -> {
+            if (e.getMessage().contains("y")) {
+                throw new IllegalStateException("unrecoverable");
+            }
+            return 0;
+        });
+        assertEquals(1, partial.failureCount());
+        assertTrue(partial.exception(4) instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testForEachSuccess() {
+        List<Integer> seen = new ArrayList<>();
+        TryBatch.apply(inputs, Integer::parseInt).forEachSuccess(seen::add);
+        assertEquals(Arrays.asList(1, 3, 4, 6), seen);
+    }
+
+    @Test
+    public void testToTryFailsWithTheFirstException() {
+        Try<List<Integer>> result = TryBatch.apply(inputs, Integer::parseInt).toTry();
+        assertTrue(result.failed().get().getMessage().contains("x"));
+    }
+
+    @Test
+    public void testFromTrysAndToTryList() {
+        IOException failure = new IOException("boom");
+        List<Try<String>> trys = Arrays.asList(new Try.Success<>("a"), new Try.Failure<>(failure),
+                new Try.Success<>("c"));
+        TryBatch<String> batch = TryBatch.fromTrys(trys);
+        assertSame(failure, batch.exception(1));
+        List<Try<String>> back = batch.toTryList();
+        assertEquals(trys.get(0), back.get(0));
+        assertSame(failure, back.get(1).failed().get());
+        assertEquals(trys.get(2), back.get(2));
+    }
+
+    @Test
+    public void testIntColumn() {
+        IntTryBatch batch = IntTryBatch.apply(inputs, Integer::parseInt)
+                .map(i -> i * 10)
+                .filter(i -> i != 30);
+        assertEquals(3, batch.successCount());
+        assertEquals(40, batch.getAsInt(3));
+        assertEquals(10 + 40 + 60, batch.sum());
+        assertArrayEquals(new int[]{10, 40, 60}, batch.successes().toArray());
+        assertTrue(batch.get(2).isFailure());
+        assertArrayEquals(new int[]{10, -1, -1, 40, -1, 60}, batch.recover(e -> -1).toTry().get());
+        assertEquals(Arrays.asList(10, 40, 60), batch.boxed().successes().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testLongAndDoubleColumns() {
+        TryBatch<Integer> batch = TryBatch.apply(inputs, Integer::parseInt);
+        LongTryBatch longs = batch.mapToLong(i -> i * 1_000_000_000L);
+        assertEquals(14_000_000_000L, longs.sum());
+        assertEquals(2, longs.failureCount());
+
+        DoubleTryBatch doubles = batch.mapToDouble(i -> i / 2.0);
+        assertEquals(7.0, doubles.sum(), 0.0);
+        assertArrayEquals(new double[]{0.5, 1.5, 2.0, 3.0}, doubles.successes().toArray(), 0.0);
+        assertTrue(doubles.exception(1) instanceof NumberFormatException);
+    }
+
+    @Test
+    public void testIntFilterRecoverToTryAndBoxed() {
+        IntTryBatch batch = IntTryBatch.apply(inputs, Integer::parseInt);
+
+        IntTryBatch even = batch.filter(i -> i % 2 == 0);
+        assertArrayEquals(new int[]{4, 6}, even.successes().toArray());
+        assertTrue(even.exception(0) instanceof NoSuchElementException);
+        assertTrue(even.exception(1) instanceof NumberFormatException);
+        IntTryBatch broken = batch.filter(i -> 12 / (i - 3) > 0);
+        assertTrue(broken.exception(2) instanceof ArithmeticException);
+
+        IntTryBatch partial = batch.recover(e -> {
+            if (e.getMessage().contains("y")) {
+                throw new IllegalStateException("unrecoverable");
+            }
+            return 0;
+        });
+        assertEquals(0, partial.getAsInt(1));
+        assertTrue(partial.exception(4) instanceof IllegalStateException);
+        IntTryBatch clean = IntTryBatch.apply(Arrays.asList("1", "2"), Integer::parseInt);
+        assertSame("a batch without failures has nothing to recover", clean, clean.recover(e -> 0));
+
+        assertTrue(batch.toTry().failed().get().getMessage().contains("x"));
+        assertArrayEquals(new int[]{1, 0, 3, 4, 0, 6}, batch.recover(e -> 0).toTry().get());
+
+        TryBatch<Integer> boxed = batch.boxed();
+        assertEquals(Arrays.asList(1, 3, 4, 6), boxed.successes().collect(Collectors.toList()));
+        assertSame(batch.exception(1), boxed.exception(1));
+    }
+
+    @Test
+    public void testLongFilterRecoverToTryAndBoxed() {
+        LongTryBatch batch = LongTryBatch.apply(inputs, Long::parseLong);
+
+        LongTryBatch even = batch.filter(l -> l % 2 == 0);
+        assertArrayEquals(new long[]{4, 6}, even.successes().toArray());
+        assertTrue(even.exception(0) instanceof NoSuchElementException);
+        assertTrue(even.exception(1) instanceof NumberFormatException);
+
+        LongTryBatch partial = batch.recover(e -> {
+            if (e.getMessage().contains("y")) {
+                throw new IllegalStateException("unrecoverable");
+            }
+            return -1L;
+        });
+        assertEquals(-1L, partial.getAsLong(1));
+        assertTrue(partial.exception(4) instanceof IllegalStateException);
+
+        assertTrue(batch.toTry().failed().get().getMessage().contains("x"));
+        assertArrayEquals(new long[]{1, -1, 3, 4, -1, 6}, batch.recover(e -> -1L).toTry().get());
+
+        TryBatch<Long> boxed = batch.boxed();
+        assertEquals(Arrays.asList(1L, 3L, 4L, 6L), boxed.successes().collect(Collectors.toList()));
+        assertSame(batch.exception(4), boxed.exception(4));
+    }
+
+    @Test
+    public void testDoubleFilterRecoverToTryAndBoxed() {
+        DoubleTryBatch batch = DoubleTryBatch.apply(inputs, Double::parseDouble);
+
+        DoubleTryBatch large = batch.filter(d -> d > 3.5);
+        assertArrayEquals(new double[]{4, 6}, large.successes().toArray(), 0.0);
+        assertTrue(large.exception(2) instanceof NoSuchElementException);
+        assertTrue(large.exception(4) instanceof NumberFormatException);
+
+        DoubleTryBatch partial = batch.recover(e -> {
+            if (e.getMessage().contains("y")) {
+                throw new IllegalStateException("unrecoverable");
+            }
+            return Double.NaN;
+        });
+        assertTrue(Double.isNaN(partial.getAsDouble(1)));
+        assertTrue(partial.exception(4) instanceof IllegalStateException);
+
+        assertTrue(batch.toTry().failed().get().getMessage().contains("x"));
+        assertArrayEquals(new double[]{1, 0, 3, 4, 0, 6}, batch.recover(e -> 0.0).toTry().get(), 0.0);
+
+        TryBatch<Double> boxed = batch.boxed();
+        assertEquals(Arrays.asList(1.0, 3.0, 4.0, 6.0), boxed.successes().collect(Collectors.toList()));
+        assertSame(batch.exception(1), boxed.exception(1));
+    }
+
+    @Test
+    public void testLargeBatch() {
+        List<Integer> numbers = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            numbers.add(i);
+        }
+        IntTryBatch batch = IntTryBatch.apply(numbers, i -> {
+            if (i % 1000 == 0) {
+                throw new IllegalArgumentException("multiple of 1000");
+            }
+            return i;
+        });
+        assertEquals(100, batch.failureCount());
+        assertTrue(batch.exception(5000) instanceof IllegalArgumentException);
+        assertEquals(5001, batch.getAsInt(5001));
+    }
+}
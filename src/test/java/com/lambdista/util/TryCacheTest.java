@@ -0,0 +1,165 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for {@link com.lambdista.util.TryCache}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class TryCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private TryCache<String, Integer> cache(int maximumSize) {
+        return new TryCache<>(Duration.ofSeconds(60), Duration.ofSeconds(5), maximumSize, now::get);
+    }
+
+    @Test
+    public void testSuccessIsCachedForItsTtl() {
+        TryCache<String, Integer> cache = cache(10);
+        assertEquals("result must be Success(42)", cache.get("a", this::success), new Try.Success<>(42));
+        assertEquals("result must be Success(42)", cache.get("a", this::success), new Try.Success<>(42));
+        assertEquals("the loader must run once", loads.get(), 1);
+
+        now.addAndGet(Duration.ofSeconds(61).toNanos());
+        cache.get("a", this::success);
+        assertEquals("the loader must run again after the TTL", loads.get(), 2);
+    }
+
+    @Test
+    public void testFailureIsCachedForTheNegativeTtl() {
+        TryCache<String, Integer> cache = cache(10);
+        assertTrue("result must be a failure", cache.get("a", this::failure).isFailure());
+        assertTrue("result must be a failure", cache.get("a", this::failure).isFailure());
+        assertEquals("the loader must run once", loads.get(), 1);
+
+        now.addAndGet(Duration.ofSeconds(6).toNanos());
+        assertEquals("result must be Success(42)", cache.get("a", this::success), new Try.Success<>(42));
+        assertEquals("the loader must run again after the negative TTL", loads.get(), 2);
+    }
+
+    @Test
+    public void testZeroNegativeTtlDoesNotCacheFailures() {
+        TryCache<String, Integer> cache = new TryCache<>(Duration.ofSeconds(60), Duration.ZERO, 10, now::get);
+        cache.get("a", this::failure);
+        cache.get("a", this::failure);
+        assertEquals("the loader must run twice", loads.get(), 2);
+        assertEquals("no entry must be left", cache.size(), 0);
+    }
+
+    @Test
+    public void testInvalidate() {
+        TryCache<String, Integer> cache = cache(10);
+        cache.get("a", this::success);
+        cache.invalidate("a");
+        cache.get("a", this::success);
+        assertEquals("the loader must run twice", loads.get(), 2);
+    }
+
+    @Test
+    public void testSizeIsBounded() {
+        TryCache<Integer, Integer> cache = new TryCache<>(Duration.ofSeconds(60), Duration.ofSeconds(5), 100, now::get);
+        for (int i = 0; i < 1000; i++) {
+            int n = i;
+            cache.get(i, () -> n);
+        }
+        assertTrue("size must stay close to the maximum", cache.size() <= 101);
+    }
+
+    @Test
+    public void testOldestLoadIsEvictedFirst() {
+        TryCache<String, Integer> cache = cache(2);
+        cache.get("a", this::success);
+        cache.get("b", this::success);
+        cache.get("a", this::success);
+        cache.get("c", this::success);
+        assertEquals("size must be the maximum", cache.size(), 2);
+        assertEquals("no hit must reload", loads.get(), 3);
+
+        cache.get("b", this::success);
+        cache.get("c", this::success);
+        assertEquals("the latest loads must still be cached", loads.get(), 3);
+        cache.get("a", this::success);
+        assertEquals("the oldest load must have been evicted", loads.get(), 4);
+    }
+
+    @Test
+    public void testInvalidatedEntriesDoNotCauseEvictions() {
+        TryCache<String, Integer> cache = cache(2);
+        for (int i = 0; i < 10; i++) {
+            cache.get("a", this::success);
+            cache.invalidate("a");
+        }
+        cache.get("b", this::success);
+        cache.get("c", this::success);
+        cache.get("b", this::success);
+        cache.get("c", this::success);
+        assertEquals("the live entries must not be evicted", loads.get(), 12);
+    }
+
+    @Test
+    public void testConcurrentMissesAreCoalesced() throws Exception {
+        TryCache<String, Integer> cache = cache(10);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Try<Integer>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> cache.get("a", () -> {
+                    loads.incrementAndGet();
+                    release.await();
+                    return 42;
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<Try<Integer>> result : results) {
+                assertEquals("result must be Success(42)", result.get(), new Try.Success<>(42));
+            }
+            assertEquals("the loader must run once", loads.get(), 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int success() {
+        loads.incrementAndGet();
+        return 42;
+    }
+
+    private int failure() throws NumberFormatException {
+        loads.incrementAndGet();
+        throw new NumberFormatException("Number not valid");
+    }
+}
@@ -0,0 +1,181 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for {@link com.lambdista.util.TryCodec}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class TryCodecTest {
+
+    private final TryCodec<String> codec = new TryCodec<>(TryCodec.ValueCodec.UTF8, 3);
+
+    private static RemoteFailureException remote(Try<?> result) {
+        return (RemoteFailureException) result.failed().get();
+    }
+
+    @Test
+    public void testSuccessRoundTrip() {
+        for (String value : Arrays.asList("plain", "àèìòù", "emoji 😀", "")) {
+            Try<String> decoded = codec.decode(codec.encode(new Try.Success<>(value)));
+            assertEquals(new Try.Success<>(value), decoded);
+        }
+        Try<String> decodedNull = codec.decode(codec.encode(new Try.Success<>(null)));
+        assertTrue(decodedNull.isSuccess());
+        assertNull(decodedNull.get());
+    }
+
+    @Test
+    public void testEncodedSizeIsExact() {
+        Try<String> success = new Try.Success<>("café 😀");
+        ByteBuffer buffer = codec.encode(success);
+        assertEquals(codec.encodedSize(success), buffer.remaining());
+        assertEquals(1 + 4 + "café 😀".getBytes(java.nio.charset.StandardCharsets.UTF_8).length,
+                buffer.remaining());
+
+        Try<String> failure = new Try.Failure<>(new IllegalStateException("méssage"));
+        assertEquals(codec.encodedSize(failure), codec.encode(failure).remaining());
+    }
+
+    @Test
+    public void testFailureRoundTripWithTruncatedStack() {
+        IllegalStateException exception = new IllegalStateException("broken");
+        ByteBuffer buffer = ByteBuffer.allocate(codec.encodedSize(new Try.Failure<>(exception)));
+        codec.encode(new Try.Failure<>(exception), buffer);
+        buffer.flip();
+
+        RemoteFailureException decoded = remote(codec.decode(buffer));
+        assertEquals(IllegalStateException.class.getName(), decoded.getRemoteClassName());
+        assertEquals("broken", decoded.getMessage());
+        assertEquals("java.lang.IllegalStateException: broken", decoded.toString());
+        assertEquals(3, decoded.getStackTrace().length);
+        for (int i = 0; i < 3; i++) {
+            StackTraceElement expected = exception.getStackTrace()[i];
+            StackTraceElement actual = decoded.getStackTrace()[i];
+            assertEquals(expected.getClassName(), actual.getClassName());
+            assertEquals(expected.getMethodName(), actual.getMethodName());
+            assertEquals(expected.getFileName(), actual.getFileName());
+            assertEquals(expected.getLineNumber(), actual.getLineNumber());
+        }
+        assertEquals(0, buffer.remaining());
+    }
+
+    @Test
+    public void testFailureWithoutStackAndMessage() {
+        TryCodec<String> noStack = new TryCodec<>(TryCodec.ValueCodec.UTF8);
+        RemoteFailureException decoded = remote(noStack.decode(noStack.encode(new Try.Failure<>(new IOException()))));
+        assertNull(decoded.getMessage());
+        assertEquals(0, decoded.getStackTrace().length);
+        assertEquals("java.io.IOException", decoded.toString());
+    }
+
+    @Test
+    public void testRemoteFailuresKeepTheOriginalClassName() {
+        Try<String> decoded = codec.decode(codec.encode(new Try.Failure<>(new ArithmeticException("/ by zero"))));
+        Try<String> relayed = codec.decode(codec.encode(decoded));
+        assertEquals(ArithmeticException.class.getName(), remote(relayed).getRemoteClassName());
+    }
+
+    @Test
+    public void testBatchRoundTrip() {
+        TryCodec<Integer> ints = new TryCodec<>(TryCodec.ValueCodec.INT32);
+        List<Try<Integer>> results = Arrays.asList(new Try.Success<>(1), new Try.Failure<>(new IOException("x")),
+                new Try.Success<>(3));
+        List<Try<Integer>> decoded = ints.decodeAll(ints.encodeAll(results));
+        assertEquals(3, decoded.size());
+        assertEquals(new Try.Success<>(1), decoded.get(0));
+        assertEquals("x", decoded.get(1).failed().get().getMessage());
+        assertEquals(new Try.Success<>(3), decoded.get(2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownTagIsRejected() {
+        codec.decode(ByteBuffer.wrap(new byte[]{7}));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOversizedLengthIsRejected() {
+        ByteBuffer buffer = ByteBuffer.allocate(9);
+        buffer.put((byte) 0).putInt(Integer.MAX_VALUE).putInt(0).flip();
+        codec.decode(buffer);
+    }
+
+    @Test
+    public void testRoundTripOverALocalSocketPair() throws IOException {
+        TryCodec<Long> longs = new TryCodec<>(TryCodec.ValueCodec.INT64, 5);
+        List<Try<Long>> results = new ArrayList<>();
+        for (long i = 0; i < 1000; i++) {
+            results.add(i % 7 == 0 ? new Try.Failure<>(new IOException("failed " + i)) : new Try.Success<>(i * i));
+        }
+
+        try (ServerSocketChannel server = ServerSocketChannel.open()) {
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            try (SocketChannel client = SocketChannel.open(server.getLocalAddress());
+                 SocketChannel accepted = server.accept()) {
+                ByteBuffer payload = longs.encodeAll(results);
+                ByteBuffer frame = ByteBuffer.allocateDirect(4).putInt(payload.remaining());
+                frame.flip();
+                while (frame.hasRemaining() || payload.hasRemaining()) {
+                    client.write(new ByteBuffer[]{frame, payload});
+                }
+
+                ByteBuffer length = ByteBuffer.allocateDirect(4);
+                readFully(accepted, length);
+                ByteBuffer received = ByteBuffer.allocateDirect(length.getInt());
+                readFully(accepted, received);
+
+                List<Try<Long>> decoded = longs.decodeAll(received);
+                assertEquals(results.size(), decoded.size());
+                for (int i = 0; i < results.size(); i++) {
+                    if (results.get(i).isSuccess()) {
+                        assertEquals(results.get(i), decoded.get(i));
+                    } else {
+                        assertEquals("failed " + i, decoded.get(i).failed().get().getMessage());
+                        assertTrue(decoded.get(i).failed().get().getStackTrace().length <= 5);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void readFully(SocketChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Unexpected end of stream");
+            }
+        }
+        buffer.flip();
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for {@link com.lambdista.util.TryCollectors}, {@link com.lambdista.util.TryStreams} and
+ * {@link Try#stream()}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class TryCollectorsTest {
+
+    private final List<String> input = Arrays.asList("1", "x", "2", "y", "3");
+
+    @Test
+    public void testPartitioning() {
+        TryCollectors.Partition<Integer> partition = input.stream()
+                .map(this::parse)
+                .collect(TryCollectors.partitioning());
+        assertEquals("successes must be [1, 2, 3]", partition.successes(), Arrays.asList(1, 2, 3));
+        assertEquals("there must be 2 failures", partition.failures().size(), 2);
+        assertTrue("failures must be NumberFormatExceptions",
+                partition.failures().get(0) instanceof NumberFormatException);
+    }
+
+    @Test
+    public void testParallelPartitioningKeepsTheOrder() {
+        TryCollectors.Partition<Integer> partition = IntStream.range(0, 100_000).parallel()
+                .mapToObj(i -> i % 10 == 0 ? Try.<Integer>apply(this::failure) : new Try.Success<>(i))
+                .collect(TryCollectors.partitioning());
+        assertEquals("there must be 90000 successes", partition.successes().size(), 90_000);
+        assertEquals("there must be 10000 failures", partition.failures().size(), 10_000);
+        assertEquals("successes must keep the encounter order", (int) partition.successes().get(9), 11);
+    }
+
+    @Test
+    public void testToTryList() {
+        assertEquals("result must be Success([1, 2, 3])",
+                Stream.of("1", "2", "3").map(this::parse).collect(TryCollectors.toTryList()),
+                new Try.Success<>(Arrays.asList(1, 2, 3)));
+        assertTrue("result must be a failure",
+                input.parallelStream().map(this::parse).collect(TryCollectors.toTryList()).isFailure());
+    }
+
+    @Test
+    public void testCountingAndSumming() {
+        assertEquals("there must be 3 successes",
+                (long) input.stream().map(this::parse).collect(TryCollectors.countingSuccesses()), 3L);
+        assertEquals("there must be 2 failures",
+                (long) input.stream().map(this::parse).collect(TryCollectors.countingFailures()), 2L);
+        assertEquals("the int sum must be 6",
+                (int) input.stream().map(this::parse).collect(TryCollectors.summingInt(i -> i)), 6);
+        assertEquals("the long sum must be 6",
+                (long) input.stream().map(this::parse).collect(TryCollectors.summingLong(i -> i)), 6L);
+        assertEquals("the double sum must be 3",
+                input.stream().map(this::parse).collect(TryCollectors.summingDouble(i -> i / 2.0)), 3.0, 0.0);
+    }
+
+    @Test
+    public void testStream() {
+        assertEquals("stream of a success must hold the value",
+                parse("42").stream().collect(Collectors.toList()), Arrays.asList(42));
+        assertEquals("stream of a failure must be empty", parse("x").stream().count(), 0L);
+    }
+
+    @Test
+    public void testFlatMapTry() {
+        assertEquals("result must be [1, 2, 3]",
+                TryStreams.flatMapTry(input.stream(), this::parse).collect(Collectors.toList()), Arrays.asList(1, 2, 3));
+    }
+
+    @Test
+    public void testParallelFlatMapTry() {
+        Stream<Integer> source = IntStream.range(0, 100_000).boxed().parallel();
+        Stream<Integer> result = TryStreams.flatMapTry(source,
+                i -> i % 2 == 0 ? new Try.Success<>(i) : Try.<Integer>apply(this::failure));
+        assertTrue("result must be parallel", result.isParallel());
+        List<Integer> values = result.collect(Collectors.toList());
+        assertEquals("there must be 50000 values", values.size(), 50_000);
+        assertEquals("values must keep the encounter order", (int) values.get(49_999), 99_998);
+    }
+
+    @Test
+    public void testFlatMapTryTreatsAThrowingMapperAsAFailure() {
+        List<Integer> values = TryStreams.flatMapTry(Stream.of(1, 0, 2), i -> new Try.Success<>(2 / i))
+                .collect(Collectors.toList());
+        assertEquals("result must be [2, 1]", values, Arrays.asList(2, 1));
+    }
+
+    private Try<Integer> parse(String s) {
+        return Try.apply(() -> Integer.parseInt(s));
+    }
+
+    private int failure() throws NumberFormatException {
+        throw new NumberFormatException("Number not valid");
+    }
+}
@@ -0,0 +1,150 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for {@link com.lambdista.util.TryFiles}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class TryFilesTest {
+
+    private Path file;
+
+    @Before
+    public void createFile() throws IOException {
+        file = Files.createTempFile("try-files", ".txt");
+    }
+
+    @After
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testLines() throws IOException {
+        Files.write(file, "Line 1\nLine 2\r\n\nLine 4".getBytes(StandardCharsets.UTF_8));
+        assertEquals("the lines must be read", read(TryFiles.lines(file)),
+                Arrays.asList(success("Line 1"), success("Line 2"), success(""), success("Line 4")));
+    }
+
+    @Test
+    public void testLinesSpanningTheBuffer() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            content.append("Line ").append(i).append('\n');
+        }
+        Files.write(file, content.toString().getBytes(StandardCharsets.UTF_8));
+        try (Stream<Try<String>> lines = TryFiles.lines(file, StandardCharsets.UTF_8,
+                TryFiles.MalformedInputPolicy.FAIL_LINE, 7, 100)) {
+            List<String> values = lines.map(Try::get).collect(Collectors.toList());
+            assertEquals("there must be 1000 lines", values.size(), 1000);
+            assertEquals("the last line must be read", values.get(999), "Line 999");
+        }
+    }
+
+    @Test
+    public void testMalformedLineDoesNotAffectTheOthers() throws IOException {
+        byte[] content = {'o', 'k', '\n', 'b', (byte) 0xC3, (byte) 0x28, 'd', '\n', 'o', 'k', '\n'};
+        Files.write(file, content);
+        List<Try<String>> lines = read(TryFiles.lines(file));
+        assertEquals("there must be 3 lines", lines.size(), 3);
+        assertTrue("the malformed line must be a failure",
+                lines.get(1).failed().get() instanceof CharacterCodingException);
+        assertEquals("the other lines must be read", lines.get(2), success("ok"));
+
+        List<Try<String>> replaced = read(TryFiles.lines(file, StandardCharsets.UTF_8,
+                TryFiles.MalformedInputPolicy.REPLACE));
+        assertEquals("the malformed bytes must be replaced", replaced.get(1), success("b�(d"));
+
+        List<Try<String>> skipped = read(TryFiles.lines(file, StandardCharsets.UTF_8,
+                TryFiles.MalformedInputPolicy.SKIP));
+        assertEquals("the malformed bytes must be dropped", skipped.get(1), success("b(d"));
+    }
+
+    @Test
+    public void testTooLongLine() throws IOException {
+        Files.write(file, "short\nway too long\nshort".getBytes(StandardCharsets.UTF_8));
+        List<Try<String>> lines = read(TryFiles.lines(file, StandardCharsets.UTF_8,
+                TryFiles.MalformedInputPolicy.FAIL_LINE, 4, 5));
+        assertEquals("there must be 3 lines", lines.size(), 3);
+        assertTrue("the long line must be a failure", lines.get(1).isFailure());
+        assertEquals("the next line must be read", lines.get(2), success("short"));
+    }
+
+    @Test
+    public void testMissingFile() throws IOException {
+        Files.delete(file);
+        List<Try<String>> lines = read(TryFiles.lines(file));
+        assertEquals("there must be a single element", lines.size(), 1);
+        assertTrue("it must be a NoSuchFileException failure", lines.get(0).failed().get() instanceof NoSuchFileException);
+    }
+
+    @Test
+    public void testStreamIsLazy() throws IOException {
+        Files.write(file, "Line 1\nLine 2".getBytes(StandardCharsets.UTF_8));
+        try (Stream<Try<String>> lines = TryFiles.lines(file)) {
+            Files.delete(file);
+            // The file is opened on first access, so it is already gone
+            assertTrue("the stream must fail", lines.findFirst().get().isFailure());
+        }
+    }
+
+    @Test
+    public void testPartialConsumptionThenClose() throws IOException {
+        Files.write(file, "Line 1\nLine 2\nLine 3".getBytes(StandardCharsets.UTF_8));
+        Stream<Try<String>> lines = TryFiles.lines(file);
+        Iterator<Try<String>> iterator = lines.iterator();
+        assertEquals("the first line must be read", iterator.next(), success("Line 1"));
+        lines.close();
+        Files.delete(file);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedCharset() {
+        TryFiles.lines(file, StandardCharsets.UTF_16, TryFiles.MalformedInputPolicy.FAIL_LINE);
+    }
+
+    private static List<Try<String>> read(Stream<Try<String>> lines) {
+        try (Stream<Try<String>> stream = lines) {
+            return stream.collect(Collectors.toList());
+        }
+    }
+
+    private static Try<String> success(String value) {
+        return new Try.Success<>(value);
+    }
+}
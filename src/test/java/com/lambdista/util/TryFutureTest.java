@@ -0,0 +1,158 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for the {@link com.lambdista.util.TryFuture} API
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class TryFutureTest {
+
+    private static final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterClass
+    public static void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testApplyAsyncAgainstASuccess() {
+        TryFuture<Integer> result = TryFuture.applyAsync(this::success, executor);
+        assertEquals("result must be Success(42)", result.join(), new Try.Success<>(42));
+    }
+
+    @Test
+    public void testApplyAsyncAgainstAFailure() {
+        TryFuture<Integer> result = Try.applyAsync(this::failure, executor);
+        assertTrue("result must be a failure", result.join().isFailure());
+        assertFalse("the underlying future must not complete exceptionally",
+                result.toCompletableFuture().isCompletedExceptionally());
+    }
+
+    @Test
+    public void testApplyAsyncOnTheDefaultExecutor() {
+        assertEquals("result must be Success(42)", TryFuture.applyAsync(this::success).join(), new Try.Success<>(42));
+    }
+
+    @Test
+    public void testRejectedExecution() {
+        ExecutorService closed = Executors.newSingleThreadExecutor();
+        closed.shutdown();
+        Try<Integer> result = TryFuture.applyAsync(this::success, closed).join();
+        assertTrue("result must be a RejectedExecutionException failure",
+                result.failed().get() instanceof RejectedExecutionException);
+    }
+
+    @Test
+    public void testMapDoesNotBlock() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        TryFuture<Integer> result = TryFuture.applyAsync(() -> {
+            latch.await();
+            return 42;
+        }, executor).map(i -> i + 1);
+        assertFalse("result must still be pending", result.isDone());
+        latch.countDown();
+        assertEquals("result must be Success(43)", result.join(), new Try.Success<>(43));
+    }
+
+    @Test
+    public void testFlatMap() {
+        TryFuture<String> result = TryFuture.applyAsync(this::success, executor)
+                .flatMap(i -> TryFuture.applyAsync(() -> i + ", " + anotherSuccess(), executor));
+        assertEquals("result must be Success(\"42, Hello World!\")", result.join(), new Try.Success<>("42, Hello World!"));
+    }
+
+    @Test
+    public void testThrowingFlatMapProducesAFailure() {
+        TryFuture<Integer> result = TryFuture.applyAsync(this::success, executor)
+                .flatMap(i -> {
+                    throw new IllegalStateException("boom");
+                });
+        assertTrue("result must be an IllegalStateException failure",
+                result.join().failed().get() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testFilter() {
+        assertTrue("result must be a failure",
+                TryFuture.applyAsync(this::success, executor).filter(i -> i != 42).join().isFailure());
+    }
+
+    @Test
+    public void testRecover() {
+        TryFuture<Integer> result = TryFuture.applyAsync(this::failure, executor)
+                .recover(e -> e instanceof NumberFormatException ? 84 : 0);
+        assertEquals("result must be Success(84)", result.join(), new Try.Success<>(84));
+    }
+
+    @Test
+    public void testRecoverWith() {
+        TryFuture<Integer> result = TryFuture.applyAsync(this::failure, executor)
+                .recoverWith(e -> TryFuture.applyAsync(() -> 84, executor));
+        assertEquals("result must be Success(84)", result.join(), new Try.Success<>(84));
+        assertEquals("result must be Success(42)",
+                TryFuture.applyAsync(this::success, executor).recoverWith(e -> null).join(), new Try.Success<>(42));
+    }
+
+    @Test
+    public void testFromCompletableFuture() {
+        CompletableFuture<Integer> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new NumberFormatException("Number not valid"));
+        assertTrue("result must be a NumberFormatException failure",
+                TryFuture.fromCompletableFuture(failed).join().failed().get() instanceof NumberFormatException);
+        assertEquals("result must be Success(42)",
+                TryFuture.fromCompletableFuture(CompletableFuture.completedFuture(42)).join(), new Try.Success<>(42));
+    }
+
+    @Test
+    public void testOnComplete() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        TryFuture.applyAsync(this::success, executor).onComplete(result -> {
+            if (result.isSuccess()) {
+                latch.countDown();
+            }
+        });
+        assertTrue("onComplete must be called with the result", latch.await(5, TimeUnit.SECONDS));
+    }
+
+    private int success() {
+        return 42;
+    }
+
+    private String anotherSuccess() {
+        return "Hello World!";
+    }
+
+    private int failure() throws NumberFormatException {
+        throw new NumberFormatException("Number not valid");
+    }
+}
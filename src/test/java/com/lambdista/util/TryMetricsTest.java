@@ -0,0 +1,146 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for {@link com.lambdista.util.TryMetrics} and the {@link com.lambdista.util.TryListener} hooks of
+ * {@link com.lambdista.util.Try}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class TryMetricsTest {
+
+    private TryMetrics metrics;
+
+    @Before
+    public void install() {
+        metrics = new TryMetrics();
+        Try.setListener(metrics);
+    }
+
+    @After
+    public void uninstall() {
+        Try.setListener(null);
+    }
+
+    @Test
+    public void testInstrumentedCountsSuccessesAndFailures() {
+        Try.instrumented("parse", this::success);
+        Try.instrumented("parse", this::success);
+        Try.instrumented("parse", this::failure);
+
+        TryMetrics.Stats stats = metrics.stats("parse");
+        assertEquals("there must be 2 successes", stats.successCount(), 2);
+        assertEquals("there must be 1 failure", stats.failureCount(), 1);
+        assertEquals("the failure must be counted by type",
+                (long) stats.failureCountsByType().get(NumberFormatException.class), 1L);
+        assertEquals("every call must be timed", stats.latency().count(), 3);
+    }
+
+    @Test
+    public void testApplyReportsUnderTheApplyName() {
+        Try.apply(this::success).map(i -> i + 1);
+        assertEquals("apply must be reported once", metrics.stats(Try.APPLY).successCount(), 1);
+    }
+
+    @Test
+    public void testRecoverIsReported() {
+        Try.apply(this::failure).recover(e -> 0);
+        Try.apply(this::failure).recoverWith(e -> new Try.Success<>(0));
+        Try.apply(this::success).recover(e -> 0);
+        assertEquals("there must be 2 recoveries", metrics.recoveryCount(), 2);
+    }
+
+    @Test
+    public void testNothingIsReportedWithoutAListener() {
+        Try.setListener(null);
+        Try.instrumented("parse", this::success);
+        assertNull("there must be no listener", Try.getListener());
+        assertTrue("nothing must be recorded", metrics.allStats().isEmpty());
+    }
+
+    @Test
+    public void testStatsOfAnUnknownNameAreEmptyAndNotRegistered() {
+        TryMetrics.Stats stats = metrics.stats("unknown");
+        assertEquals("there must be no successes", stats.successCount(), 0);
+        assertEquals("there must be no failures", stats.failureCount(), 0);
+        assertTrue("the name must not be registered", metrics.allStats().isEmpty());
+    }
+
+    @Test
+    public void testLatencyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000);
+        }
+        assertEquals("there must be 1000 values", histogram.count(), 1000);
+        long p50 = histogram.valueAtPercentile(50);
+        assertTrue("p50 must be about 500000: " + p50, p50 >= 500_000 && p50 <= 500_000 * 33 / 32);
+        long max = histogram.max();
+        assertTrue("max must be about 1000000: " + max, max >= 1_000_000 && max <= 1_000_000 * 33 / 32);
+        assertEquals("small values must be exact", LatencyHistogram.highestEquivalentValue(LatencyHistogram.indexOf(7)), 7);
+        assertEquals("Long.MAX_VALUE must be recordable",
+                LatencyHistogram.highestEquivalentValue(LatencyHistogram.indexOf(Long.MAX_VALUE)), Long.MAX_VALUE);
+    }
+
+    @Test
+    public void testLatencyHistogramUnderContention() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 100_000; i++) {
+                    histogram.record(1000);
+                }
+            });
+            threads[t].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals("no value must be lost", histogram.count(), 800_000);
+        assertEquals("p99 must be the recorded value", histogram.valueAtPercentile(99),
+                LatencyHistogram.highestEquivalentValue(LatencyHistogram.indexOf(1000)));
+        histogram.reset();
+        assertEquals("reset must clear every stripe", histogram.count(), 0);
+    }
+
+    private int success() {
+        return 42;
+    }
+
+    private int failure() throws NumberFormatException {
+        throw new NumberFormatException("Number not valid");
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for the {@code parse*} methods of {@link com.lambdista.util.Try}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class TryParseTest {
+
+    @Test
+    public void testParseInt() {
+        assertEquals("result must be 42", Try.parseInt("42").getAsInt(), 42);
+        assertEquals("result must be -42", Try.parseInt("-42").getAsInt(), -42);
+        assertEquals("result must be 42", Try.parseInt("+42").getAsInt(), 42);
+        assertEquals("result must be Integer.MAX_VALUE", Try.parseInt("2147483647").getAsInt(), Integer.MAX_VALUE);
+        assertEquals("result must be Integer.MIN_VALUE", Try.parseInt("-2147483648").getAsInt(), Integer.MIN_VALUE);
+    }
+
+    @Test
+    public void testParseIntAgainstMalformedInput() {
+        String[] malformed = {"", "-", "+", "4x2", " 42", "2147483648", "-2147483649", "99999999999999999999"};
+        for (String input : malformed) {
+            assertTrue("'" + input + "' must be a failure", Try.parseInt(input).isFailure());
+        }
+    }
+
+    @Test
+    public void testParseIntFailureIsCachedAndStackless() throws Exception {
+        IntTry first = Try.parseInt("x");
+        assertSame("the failure must be cached", first, Try.parseInt("y"));
+        Exception exception = first.boxed().failed().get();
+        assertTrue("the exception must be a NumberFormatException", exception instanceof NumberFormatException);
+        assertEquals("the exception must not carry a stack trace", exception.getStackTrace().length, 0);
+    }
+
+    @Test
+    public void testParseIntRange() {
+        String line = "id=123;count=-7";
+        assertEquals("result must be 123", Try.parseInt(line, 3, 3).getAsInt(), 123);
+        assertEquals("result must be -7", Try.parseInt(line, 13, 2).getAsInt(), -7);
+        assertTrue("result must be a failure", Try.parseInt(line, 0, 3).isFailure());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testParseIntOutOfRange() {
+        Try.parseInt("42", 1, 2);
+    }
+
+    @Test
+    public void testParseLong() {
+        assertEquals("result must be Long.MAX_VALUE",
+                Try.parseLong("9223372036854775807").getAsLong(), Long.MAX_VALUE);
+        assertEquals("result must be Long.MIN_VALUE",
+                Try.parseLong("-9223372036854775808").getAsLong(), Long.MIN_VALUE);
+        assertTrue("overflow must be a failure", Try.parseLong("9223372036854775808").isFailure());
+        assertTrue("malformed input must be a failure", Try.parseLong("12a").isFailure());
+        assertEquals("result must be 12", Try.parseLong(new StringBuilder("x12x"), 1, 2).getAsLong(), 12L);
+    }
+
+    @Test
+    public void testParseDouble() {
+        String[] valid = {"0", "-0", "1.5", "-2.25", ".5", "1.", "1e10", "1.5E-3", "+3.14159", "123456789012345678901",
+                "0.1", "4.9e-324", "1.7976931348623157e308", "12345.678901234567890", "1e-400", "1e400"};
+        for (String input : valid) {
+            assertEquals("'" + input + "' must be parsed as Double.parseDouble does",
+                    Try.parseDouble(input).getAsDouble(), Double.parseDouble(input), 0.0);
+        }
+        assertTrue("NaN must be parsed", Double.isNaN(Try.parseDouble("NaN").getAsDouble()));
+        assertEquals("-Infinity must be parsed",
+                Try.parseDouble("-Infinity").getAsDouble(), Double.NEGATIVE_INFINITY, 0.0);
+    }
+
+    @Test
+    public void testParseDoubleAgainstMalformedInput() {
+        String[] malformed = {"", "-", ".", "e5", "1e", "1.2.3", "1,5", "0x1p3", "1d", " 1", "Inf"};
+        for (String input : malformed) {
+            assertTrue("'" + input + "' must be a failure", Try.parseDouble(input).isFailure());
+        }
+    }
+
+    @Test
+    public void testParseBoolean() {
+        assertEquals("result must be Success(true)", Try.parseBoolean("TRUE"), new Try.Success<>(true));
+        assertEquals("result must be Success(false)", Try.parseBoolean("false"), new Try.Success<>(false));
+        assertTrue("result must be a failure", Try.parseBoolean("yes").isFailure());
+    }
+
+    @Test
+    public void testParseUUID() {
+        UUID uuid = UUID.randomUUID();
+        assertEquals("result must be the UUID", Try.parseUUID(uuid.toString()), new Try.Success<>(uuid));
+        assertEquals("result must be the UUID", Try.parseUUID(uuid.toString().toUpperCase()), new Try.Success<>(uuid));
+        assertTrue("result must be a failure", Try.parseUUID("not-a-uuid").isFailure());
+        assertTrue("result must be a failure", Try.parseUUID(uuid.toString().replace('-', '_')).isFailure());
+        assertTrue("result must be a failure", Try.parseUUID(uuid.toString().substring(1) + "g").isFailure());
+    }
+
+    @Test
+    public void testParseLocalDate() throws Exception {
+        assertEquals("result must be 2024-02-29", Try.parseLocalDate("2024-02-29"), new Try.Success<>(LocalDate.of(2024, 2, 29)));
+        assertEquals("result must be 1999-12-31", Try.parseLocalDate("date:1999-12-31", 5, 10),
+                new Try.Success<>(LocalDate.of(1999, 12, 31)));
+        String[] malformed = {"2023-02-29", "2024-13-01", "2024-00-10", "2024-01-32", "2024/01/01", "24-01-01"};
+        for (String input : malformed) {
+            assertTrue("'" + input + "' must be a failure", Try.parseLocalDate(input).isFailure());
+        }
+        assertTrue("the exception must be a DateTimeParseException",
+                Try.parseLocalDate("x").failed().get() instanceof DateTimeParseException);
+    }
+}
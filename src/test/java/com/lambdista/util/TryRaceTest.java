@@ -0,0 +1,170 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for {@link com.lambdista.util.Try#firstSuccess(java.util.Collection, java.util.concurrent.Executor)} and
+ * {@link com.lambdista.util.Try#hedged(java.util.Collection, Duration, java.util.concurrent.Executor)}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class TryRaceTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch interrupted = new CountDownLatch(1);
+    private final CountDownLatch hangingStarted = new CountDownLatch(1);
+    private final AtomicInteger started = new AtomicInteger();
+
+    /**
+     * An attempt which never completes unless interrupted
+     */
+    private final FailableSupplier<String> hanging = () -> {
+        started.incrementAndGet();
+        hangingStarted.countDown();
+        try {
+            new CountDownLatch(1).await();
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+            throw e;
+        }
+        return "never";
+    };
+
+    private FailableSupplier<String> succeeding(String value) {
+        return () -> {
+            started.incrementAndGet();
+            return value;
+        };
+    }
+
+    /**
+     * An attempt which succeeds once {@link #hanging} is running, so that it is interrupted rather than cancelled
+     * before starting
+     */
+    private FailableSupplier<String> succeedingAfterHanging(String value) {
+        return () -> {
+            started.incrementAndGet();
+            hangingStarted.await();
+            return value;
+        };
+    }
+
+    private FailableSupplier<String> failing(Exception exception) {
+        return () -> {
+            started.incrementAndGet();
+            throw exception;
+        };
+    }
+
+    @After
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testFirstSuccessWinsAndLosersAreInterrupted() throws InterruptedException {
+        Try<String> result = Try.firstSuccess(Arrays.asList(hanging, failing(new IOException()), succeedingAfterHanging("fast")),
+                executor).join();
+        assertEquals("fast", result.get());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testFirstSuccessReportsEveryFailureInOrder() {
+        IOException first = new IOException("first");
+        IllegalStateException second = new IllegalStateException("second");
+        Try<String> result = Try.firstSuccess(Arrays.asList(failing(first), failing(second)), executor).join();
+        CompositeException exception = (CompositeException) result.failed().get();
+        assertArrayEquals(new Throwable[]{first, second}, exception.getSuppressed());
+    }
+
+    @Test
+    public void testFirstSuccessOfNoAttemptsFails() {
+        List<FailableSupplier<String>> none = Collections.emptyList();
+        assertTrue(Try.firstSuccess(none, executor).join().isFailure());
+    }
+
+    @Test
+    public void testHedgeIsLaunchedAfterTheDelay() throws InterruptedException {
+        Try<String> result = Try.hedged(Arrays.asList(hanging, succeedingAfterHanging("backup")), Duration.ofMillis(10),
+                executor).join();
+        assertEquals("backup", result.get());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testNoHedgeWhenThePrimaryIsFastEnough() {
+        Try<String> result = Try.hedged(Arrays.asList(succeeding("primary"), succeeding("backup")),
+                Duration.ofHours(1), executor).join();
+        assertEquals("primary", result.get());
+        assertEquals(1, started.get());
+    }
+
+    @Test
+    public void testHedgeIsLaunchedAsSoonAsThePrimaryFails() {
+        Try<String> result = Try.hedged(Arrays.asList(failing(new IOException()), succeeding("backup")),
+                Duration.ofHours(1), executor).join();
+        assertEquals("backup", result.get());
+        assertEquals(2, started.get());
+    }
+
+    @Test
+    public void testAttemptThrowingAnErrorCountsAsFailed() {
+        FailableSupplier<String> fatal = () -> {
+            throw new AssertionError("fatal");
+        };
+        Try<String> result = Try.hedged(Arrays.asList(fatal, succeeding("backup")), Duration.ofHours(1),
+                executor).join();
+        assertEquals("backup", result.get());
+    }
+
+    @Test
+    public void testErrorIsRethrownWhenEveryAttemptFails() {
+        AssertionError error = new AssertionError("fatal");
+        FailableSupplier<String> fatal = () -> {
+            throw error;
+        };
+        TryFuture<String> race = Try.firstSuccess(Arrays.asList(failing(new IOException()), fatal), executor);
+        try {
+            race.join();
+        } catch (CompletionException e) {
+            assertSame(error, e.getCause());
+            return;
+        }
+        throw new AssertionError("join must throw the Error");
+    }
+}
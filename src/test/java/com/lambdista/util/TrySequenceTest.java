@@ -0,0 +1,114 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for the {@code sequence/traverse} methods of {@link com.lambdista.util.Try}, both sequential and
+ * parallel
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class TrySequenceTest {
+
+    @Test
+    public void testSequenceAgainstSuccesses() {
+        List<Try<Integer>> tries = Arrays.asList(new Try.Success<>(1), new Try.Success<>(2), new Try.Success<>(3));
+        assertEquals("result must be Success([1, 2, 3])", Try.sequence(tries), new Try.Success<>(Arrays.asList(1, 2, 3)));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testSequenceAgainstAFailure() throws Exception {
+        List<Try<Integer>> tries = Arrays.asList(new Try.Success<>(1), Try.apply(this::failure), new Try.Success<>(3));
+        Try.sequence(tries).checkedGet();
+    }
+
+    @Test
+    public void testSequenceOfAnEmptyCollection() {
+        assertEquals("result must be Success([])", Try.sequence(Collections.<Try<Integer>>emptyList()),
+                new Try.Success<>(Collections.emptyList()));
+    }
+
+    @Test
+    public void testTraverseStopsAtTheFirstFailure() {
+        AtomicInteger calls = new AtomicInteger();
+        Try<List<Integer>> result = Try.traverse(Arrays.asList("1", "x", "3"), s -> {
+            calls.incrementAndGet();
+            return Try.apply(() -> Integer.parseInt(s));
+        });
+        assertTrue("result must be a failure", result.isFailure());
+        assertEquals("the element after the failure must not be mapped", calls.get(), 2);
+    }
+
+    @Test
+    public void testParallelTraverseKeepsTheOrder() {
+        List<Integer> input = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+        Try<List<Integer>> result = Try.parallelTraverse(input, i -> new Try.Success<>(i * 2));
+        List<Integer> expected = input.stream().map(i -> i * 2).collect(Collectors.toList());
+        assertEquals("result must hold the doubled input in order", result, new Try.Success<>(expected));
+    }
+
+    @Test
+    public void testParallelTraverseAgainstAFailure() {
+        List<Integer> input = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+        AtomicInteger calls = new AtomicInteger();
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            Try<List<Integer>> result = Try.parallelTraverse(input, i -> {
+                calls.incrementAndGet();
+                return i == 10 ? Try.apply(this::failure) : new Try.Success<>(i);
+            }, pool);
+            assertTrue("result must be a NumberFormatException failure",
+                    result.failed().get() instanceof NumberFormatException);
+            assertTrue("the remaining work must be cancelled", calls.get() < input.size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelSequence() {
+        List<FailableSupplier<Integer>> suppliers = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            int n = i;
+            suppliers.add(() -> n);
+        }
+        Try<List<Integer>> result = Try.parallelSequence(suppliers);
+        assertEquals("result must hold 1000 values", result.get().size(), 1000);
+        assertEquals("the last value must be 999", (int) result.get().get(999), 999);
+
+        suppliers.add(this::failure);
+        assertTrue("result must be a failure", Try.parallelSequence(suppliers).isFailure());
+    }
+
+    private int failure() throws NumberFormatException {
+        throw new NumberFormatException("Number not valid");
+    }
+}
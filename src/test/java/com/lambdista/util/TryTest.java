@@ -23,6 +23,7 @@ import java.util.Optional;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * Unit test for the {@code Try-Success-Failure} API. It covers each and every method of
@@ -373,6 +374,47 @@ public class TryTest {
         assertEquals("out must be Success(0)", out, new Try.Success<>(0));
     }
 
+    @Test
+    public void testGetAgainstAFailureWrapsTheCause() {
+        Try<Integer> result = Try.apply(
+                this::failure
+        );
+        try {
+            result.get();
+        } catch (GetOfFailureException e) {
+            assertTrue("the cause must be the NumberFormatException", e.getCause() instanceof NumberFormatException);
+            return;
+        }
+        fail("get on a Failure must throw a GetOfFailureException");
+    }
+
+    @Test
+    public void testStacklessNonMatchingFilter() throws Exception {
+        boolean previous = Try.stacklessFailures;
+        Try.stacklessFailures = true;
+        try {
+            Exception exception = Try.apply(this::success).filter(i -> i != 42).failed().get();
+            assertTrue("exception must be a NoSuchElementException", exception instanceof NoSuchElementException);
+            assertEquals("exception must not carry a stack trace", exception.getStackTrace().length, 0);
+        } finally {
+            Try.stacklessFailures = previous;
+        }
+    }
+
+    @Test
+    public void testStacklessFailedAgainstASuccess() throws Exception {
+        boolean previous = Try.stacklessFailures;
+        Try.stacklessFailures = true;
+        try {
+            Exception exception = Try.apply(this::success).failed().failed().get();
+            assertTrue("exception must be an UnsupportedOperationException",
+                    exception instanceof UnsupportedOperationException);
+            assertEquals("exception must not carry a stack trace", exception.getStackTrace().length, 0);
+        } finally {
+            Try.stacklessFailures = previous;
+        }
+    }
+
     private int success() {
         return 42;
     }
@@ -0,0 +1,128 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for {@link com.lambdista.util.Try#applyWithin(Duration, FailableSupplier)} and
+ * {@link com.lambdista.util.LazyTry#evaluate(Deadline)}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class TryTimeoutTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger stages = new AtomicInteger();
+
+    @Test
+    public void testApplyWithinReturnsTheOutcomeInTime() {
+        assertEquals("done", Try.applyWithin(Duration.ofSeconds(5), () -> "done").get());
+        IOException failure = new IOException("boom");
+        assertSame(failure, Try.applyWithin(Duration.ofSeconds(5), () -> {
+            throw failure;
+        }).failed().get());
+    }
+
+    @Test
+    public void testApplyWithinInterruptsOnExpiry() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Try<String> result = Try.applyWithin(Duration.ofMillis(20), () -> {
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return "never";
+        });
+        assertTrue(result.failed().get() instanceof TimeoutException);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testDeadlineRemaining() {
+        Deadline deadline = Deadline.after(Duration.ofMillis(100), now::get);
+        assertEquals(Duration.ofMillis(100), deadline.remaining());
+        assertFalse(deadline.isExpired());
+        now.addAndGet(Duration.ofMillis(100).toNanos());
+        assertEquals(Duration.ZERO, deadline.remaining());
+        assertTrue(deadline.isExpired());
+        assertFalse(Deadline.after(Duration.ofDays(365 * 1000)).isExpired());
+    }
+
+    @Test
+    public void testStagesAfterTheDeadlineAreSkipped() {
+        Deadline deadline = Deadline.after(Duration.ofMillis(100), now::get);
+        Try<Integer> result = LazyTry.apply(() -> stages.incrementAndGet())
+                .map(i -> {
+                    now.addAndGet(Duration.ofMillis(150).toNanos());
+                    return stages.incrementAndGet();
+                })
+                .map(i -> stages.incrementAndGet())
+                .flatMap(i -> LazyTry.success(stages.incrementAndGet()))
+                .evaluate(deadline);
+        assertTrue(result.failed().get() instanceof TimeoutException);
+        assertEquals(2, stages.get());
+    }
+
+    @Test
+    public void testRecoverAfterTheDeadlineServesTheFallback() {
+        Deadline deadline = Deadline.after(Duration.ofMillis(100), now::get);
+        Try<Integer> result = LazyTry.apply(() -> stages.incrementAndGet())
+                .map(i -> {
+                    now.addAndGet(Duration.ofMillis(150).toNanos());
+                    return stages.incrementAndGet();
+                })
+                .map(i -> stages.incrementAndGet())
+                .recover(e -> e instanceof TimeoutException ? -1 : -2)
+                .evaluate(deadline);
+        assertEquals(Integer.valueOf(-1), result.get());
+        assertEquals(2, stages.get());
+    }
+
+    @Test
+    public void testAllStagesRunWithinTheDeadline() {
+        Deadline deadline = Deadline.after(Duration.ofMillis(100), now::get);
+        Try<Integer> result = LazyTry.apply(() -> 1)
+                .map(i -> i + 1)
+                .flatMap(i -> LazyTry.success(i * 10))
+                .evaluate(deadline);
+        assertEquals(Integer.valueOf(20), result.get());
+    }
+
+    @Test
+    public void testExpiredDeadlineSkipsTheSupplier() {
+        Deadline deadline = Deadline.after(Duration.ZERO, now::get);
+        Try<Integer> result = LazyTry.apply(() -> stages.incrementAndGet()).evaluate(deadline);
+        assertTrue(result.failed().get() instanceof TimeoutException);
+        assertEquals(0, stages.get());
+    }
+}
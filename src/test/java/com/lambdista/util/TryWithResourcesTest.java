@@ -0,0 +1,123 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for {@link com.lambdista.util.Try#withResources(FailableSupplier, FailableFunction)} and its overloads
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class TryWithResourcesTest {
+
+    private final List<String> closed = new ArrayList<>();
+
+    private final class Resource implements AutoCloseable {
+
+        private final String name;
+        private final Exception closeException;
+
+        Resource(String name) {
+            this(name, null);
+        }
+
+        Resource(String name, Exception closeException) {
+            this.name = name;
+            this.closeException = closeException;
+        }
+
+        @Override
+        public void close() throws Exception {
+            closed.add(name);
+            if (closeException != null) {
+                throw closeException;
+            }
+        }
+    }
+
+    @Test
+    public void testClosesAfterSuccess() {
+        Try<String> result = Try.withResources(() -> new Resource("a"), r -> r.name.toUpperCase());
+        assertEquals("A", result.get());
+        assertEquals(1, closed.size());
+    }
+
+    @Test
+    public void testClosesAfterFailureOfTheBody() {
+        IOException failure = new IOException("body");
+        Try<String> result = Try.withResources(() -> new Resource("a"), r -> {
+            throw failure;
+        });
+        assertSame(failure, result.failed().get());
+        assertEquals(1, closed.size());
+    }
+
+    @Test
+    public void testCloseExceptionIsSuppressedByTheFailureOfTheBody() {
+        IOException failure = new IOException("body");
+        IOException closeFailure = new IOException("close");
+        Try<String> result = Try.withResources(() -> new Resource("a", closeFailure), r -> {
+            throw failure;
+        });
+        assertSame(failure, result.failed().get());
+        assertArrayEquals(new Throwable[]{closeFailure}, failure.getSuppressed());
+    }
+
+    @Test
+    public void testCloseExceptionAloneIsTheFailure() {
+        IOException closeFailure = new IOException("close");
+        Try<String> result = Try.withResources(() -> new Resource("a", closeFailure), r -> r.name);
+        assertSame(closeFailure, result.failed().get());
+    }
+
+    @Test
+    public void testResourcesAreClosedInReverseOrder() {
+        Try<String> result = Try.withResources(() -> new Resource("a"), () -> new Resource("b"),
+                () -> new Resource("c"), (a, b, c) -> a.name + b.name + c.name);
+        assertEquals("abc", result.get());
+        assertEquals(Arrays.asList("c", "b", "a"), closed);
+    }
+
+    @Test
+    public void testAcquiredResourcesAreClosedWhenAcquiringTheNextFails() {
+        IOException failure = new IOException("acquire");
+        Try<String> result = Try.withResources(() -> new Resource("a"), () -> {
+            throw failure;
+        }, (Resource a, Resource b) -> "unreachable");
+        assertSame(failure, result.failed().get());
+        assertEquals(Collections.singletonList("a"), closed);
+    }
+
+    @Test
+    public void testNullResourceIsNotClosed() {
+        Try<Boolean> result = Try.withResources(() -> (Resource) null, r -> r == null);
+        assertTrue(result.get());
+        assertTrue(closed.isEmpty());
+    }
+}
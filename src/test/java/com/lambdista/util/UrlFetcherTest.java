@@ -0,0 +1,171 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for {@link com.lambdista.util.UrlFetcher} against a local in-process HTTP server
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class UrlFetcherTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @Before
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/page/", exchange -> {
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                // before responding: a worker starts its next URL as soon as it has read the response
+                inFlight.decrementAndGet();
+            }
+            respond(exchange, 200, "page " + exchange.getRequestURI().getPath().substring(6));
+        });
+        server.createContext("/error", exchange -> respond(exchange, 500, "boom"));
+        server.createContext("/latin1", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "text/plain; charset=ISO-8859-1");
+            byte[] body = "café".getBytes(StandardCharsets.ISO_8859_1);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(2000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "too late");
+        });
+        server.start();
+    }
+
+    @After
+    public void stopServer() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testFetch() {
+        UrlFetcher fetcher = new UrlFetcher(4, Duration.ofSeconds(5));
+        assertEquals("result must be Success(\"page 1\")", fetcher.fetch(uri("/page/1")), new Try.Success<>("page 1"));
+        assertEquals("the charset of the response must be used", fetcher.fetch(uri("/latin1")),
+                new Try.Success<>("café"));
+    }
+
+    @Test
+    public void testErrorStatusIsAFailure() {
+        Try<String> result = new UrlFetcher(4, Duration.ofSeconds(5)).fetch(uri("/error"));
+        assertTrue("result must be an IOException failure", result.failed().get() instanceof IOException);
+        assertTrue("the status must be reported", result.failed().get().getMessage().contains("500"));
+    }
+
+    @Test
+    public void testTimeout() {
+        Try<String> result = new UrlFetcher(4, Duration.ofMillis(200)).fetch(uri("/slow"));
+        assertTrue("result must be a SocketTimeoutException failure",
+                result.failed().get() instanceof SocketTimeoutException);
+    }
+
+    @Test
+    public void testFetchAllKeepsTheOrderAndRespectsTheConcurrencyLimit() {
+        List<URI> uris = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            uris.add(uri("/page/" + i));
+        }
+        uris.add(uri("/error"));
+        uris.add(uri("/page/0"));
+
+        Map<URI, Try<String>> results = new UrlFetcher(5, Duration.ofSeconds(5)).fetchAll(uris);
+
+        assertEquals("duplicates must be fetched once", results.size(), 41);
+        assertEquals("the order must be kept", new ArrayList<>(results.keySet()).subList(0, 2),
+                Arrays.asList(uri("/page/0"), uri("/page/1")));
+        assertEquals("result must be Success(\"page 39\")", results.get(uri("/page/39")), new Try.Success<>("page 39"));
+        assertTrue("the failing URL must be a failure", results.get(uri("/error")).isFailure());
+        assertTrue("at most 5 requests must be in flight: " + maxInFlight.get(), maxInFlight.get() <= 5);
+    }
+
+    @Test
+    public void testFetchAllWhenInterrupted() {
+        List<URI> uris = Arrays.asList(uri("/slow?1"), uri("/slow?2"), uri("/slow?3"));
+        Thread.currentThread().interrupt();
+        Map<URI, Try<String>> results = new UrlFetcher(2, Duration.ofSeconds(5)).fetchAll(uris);
+
+        assertTrue("the interrupt status must be restored", Thread.interrupted());
+        assertEquals("every URL must have a result", results.size(), 3);
+        for (Try<String> result : results.values()) {
+            assertTrue("the URLs not fetched yet must fail with the interrupt",
+                    result.failed().get() instanceof InterruptedException);
+        }
+    }
+
+    @Test
+    public void testFetchAllOfNothing() {
+        assertTrue("the result must be empty",
+                new UrlFetcher(5, Duration.ofSeconds(5)).fetchAll(new ArrayList<>()).isEmpty());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + path);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
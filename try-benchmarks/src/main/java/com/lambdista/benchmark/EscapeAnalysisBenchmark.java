@@ -0,0 +1,129 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.benchmark;
+
+import com.lambdista.util.Try;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the sealed {@code Try} of the multi-release jar with the non-sealed Java 8 one on the same short-lived
+ * success-path chains. {@link Sealed} runs on the versioned classes, while {@link NonSealed} forks with
+ * {@code -Djdk.util.jar.enableMultiRelease=false} so that the JVM loads the base classes of the same jar; both check
+ * at setup that they got the hierarchy they are named after. The values stay within the {@link Integer} cache so
+ * that, if escape analysis removes the intermediate {@code Success} objects and the capturing lambdas,
+ * {@code gc.alloc.rate.norm} drops to about 0 B/op. Needs a Java 17+ runtime and a {@code try} jar installed with
+ * {@code -DmultiRelease}.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public abstract class EscapeAnalysisBenchmark {
+
+    private int seed = 1;
+
+    @Benchmark
+    public int baseline() {
+        int value = seed;
+        return ((value + 1) * 2) - 3;
+    }
+
+    @Benchmark
+    public int mapChain() {
+        int value = seed;
+        return Try.apply(() -> value)
+                .map(i -> i + 1)
+                .map(i -> i * 2)
+                .map(i -> i - 3)
+                .getOrElse(0);
+    }
+
+    @Benchmark
+    public int flatMapChain() {
+        int value = seed;
+        return Try.apply(() -> value)
+                .flatMap(i -> new Try.Success<>(i + 1))
+                .filter(i -> i > 0)
+                .getOrElse(0);
+    }
+
+    /**
+     * Dispatches on the two subclasses with {@code instanceof}, the form a Java 8 source level allows for a switch
+     * over the hierarchy.
+     */
+    @Benchmark
+    public int typeDispatch() {
+        Try<Integer> result = Try.apply(() -> seed);
+        if (result instanceof Try.Success) {
+            return result.get();
+        } else if (result instanceof Try.Failure) {
+            return -1;
+        }
+        throw new IllegalStateException("Unexpected Try subclass " + result.getClass());
+    }
+
+    static void checkHierarchy(boolean expectedSealed) {
+        boolean sealed;
+        try {
+            sealed = (Boolean) Class.class.getMethod("isSealed").invoke(Try.class);
+        } catch (ReflectiveOperationException e) {
+            sealed = false;
+        }
+        if (sealed != expectedSealed) {
+            throw new IllegalStateException("Try is " + (sealed ? "" : "not ") + "sealed in this fork; " +
+                    "run on Java 17+ against a try jar installed with -DmultiRelease");
+        }
+    }
+
+    /**
+     * The chains against the sealed {@code Try} of {@code META-INF/versions/17}
+     */
+    @Fork(1)
+    public static class Sealed extends EscapeAnalysisBenchmark {
+
+        @Setup
+        public void setUp() {
+            checkHierarchy(true);
+        }
+    }
+
+    /**
+     * The chains against the non-sealed base {@code Try}
+     */
+    @Fork(value = 1, jvmArgsAppend = "-Djdk.util.jar.enableMultiRelease=false")
+    public static class NonSealed extends EscapeAnalysisBenchmark {
+
+        @Setup
+        public void setUp() {
+            checkHierarchy(false);
+        }
+    }
+}
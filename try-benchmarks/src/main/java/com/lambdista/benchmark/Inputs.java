@@ -0,0 +1,42 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.benchmark;
+
+import java.util.Random;
+
+/**
+ * Generates the numeric inputs shared by the benchmarks. A fraction of them, given by {@code failureRatio},
+ * is not a valid integer so that both the success and the failure paths get exercised.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+final class Inputs {
+
+    static final int SIZE = 1024;
+
+    private Inputs() {
+    }
+
+    static String[] numbers(double failureRatio) {
+        Random random = new Random(42);
+        String[] inputs = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            inputs[i] = random.nextDouble() < failureRatio ? "x" + i : Integer.toString(random.nextInt(1000));
+        }
+        return inputs;
+    }
+}
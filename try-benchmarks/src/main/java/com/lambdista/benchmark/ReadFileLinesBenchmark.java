@@ -0,0 +1,89 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.benchmark;
+
+import com.lambdista.example.ReadFileLines;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link ReadFileLines#readFileWithTry(String)} against {@link ReadFileLines#readFileWithoutTry(String)}
+ * on both an existing and a missing file.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReadFileLinesBenchmark {
+
+    @Param({"10", "1000"})
+    public int lines;
+
+    @Param({"true", "false"})
+    public boolean exists;
+
+    private Path file;
+    private String fileName;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        file = Files.createTempFile("try-benchmark", ".txt");
+        List<String> content = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            content.add("Line " + i);
+        }
+        Files.write(file, content);
+        fileName = exists ? file.toString() : file.toString() + ".missing";
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public List<String> readFileWithoutTry() {
+        return ReadFileLines.readFileWithoutTry(fileName);
+    }
+
+    @Benchmark
+    public List<String> readFileWithTry() {
+        return ReadFileLines.readFileWithTry(fileName);
+    }
+}
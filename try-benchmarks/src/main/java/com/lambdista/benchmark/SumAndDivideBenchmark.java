@@ -0,0 +1,93 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.benchmark;
+
+import com.lambdista.util.Try;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the sum of {@link com.lambdista.example.SumAndDivide}. The example methods print their result so
+ * their bodies are reproduced here returning the sum instead.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SumAndDivideBenchmark {
+
+    @Param({"0.0", "0.1", "0.5"})
+    public double failureRatio;
+
+    private String[] inputs;
+    private int index;
+
+    @Setup
+    public void setup() {
+        inputs = Inputs.numbers(failureRatio);
+    }
+
+    private String next() {
+        index = (index + 1) & (Inputs.SIZE - 1);
+        return inputs[index];
+    }
+
+    @Benchmark
+    public int sumWithoutTry() {
+        String first = next();
+        String second = next();
+        String third = next();
+
+        int x, y, z;
+        try {
+            x = Integer.parseInt(first);
+            y = Integer.parseInt(second);
+            z = Integer.parseInt(third);
+            return x + y + z;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public int sumWithTry() {
+        String first = next();
+        String second = next();
+        String third = next();
+
+        Try<Integer> x = Try.apply(() -> Integer.parseInt(first));
+        Try<Integer> y = Try.apply(() -> Integer.parseInt(second));
+        Try<Integer> z = Try.apply(() -> Integer.parseInt(third));
+
+        return x.flatMap(a -> y.flatMap(b -> z.map(c -> a + b + c))).getOrElse(-1);
+    }
+}
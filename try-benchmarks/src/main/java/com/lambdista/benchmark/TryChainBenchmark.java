@@ -0,0 +1,159 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.benchmark;
+
+import com.lambdista.util.LazyTry;
+import com.lambdista.util.Try;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares chains of {@code Try} combinators of a given {@code depth} against the equivalent try-catch code.
+ * Each operation parses one input, {@code failureRatio} of which are malformed, and then applies
+ * {@code depth} stages to the result.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TryChainBenchmark {
+
+    @Param({"1", "4", "16"})
+    public int depth;
+
+    @Param({"0.0", "0.1", "0.5"})
+    public double failureRatio;
+
+    private String[] inputs;
+    private int index;
+
+    @Setup
+    public void setup() {
+        inputs = Inputs.numbers(failureRatio);
+    }
+
+    private String next() {
+        index = (index + 1) & (Inputs.SIZE - 1);
+        return inputs[index];
+    }
+
+    @Benchmark
+    public int applyBaseline() {
+        try {
+            return Integer.parseInt(next());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    @Benchmark
+    public int applyTry() {
+        String input = next();
+        return Try.apply(() -> Integer.parseInt(input)).getOrElse(0);
+    }
+
+    @Benchmark
+    public int chainBaseline() {
+        try {
+            int value = Integer.parseInt(next());
+            for (int i = 0; i < depth; i++) {
+                value = value + 1;
+                if (value < 0) {
+                    return 0;
+                }
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    @Benchmark
+    public int mapTry() {
+        String input = next();
+        Try<Integer> result = Try.apply(() -> Integer.parseInt(input));
+        for (int i = 0; i < depth; i++) {
+            result = result.map(value -> value + 1);
+        }
+        return result.getOrElse(0);
+    }
+
+    @Benchmark
+    public int mapLazyTry() {
+        String input = next();
+        LazyTry<Integer> result = LazyTry.apply(() -> Integer.parseInt(input));
+        for (int i = 0; i < depth; i++) {
+            result = result.map(value -> value + 1);
+        }
+        return result.evaluate().getOrElse(0);
+    }
+
+    @Benchmark
+    public int flatMapTry() {
+        String input = next();
+        Try<Integer> result = Try.apply(() -> Integer.parseInt(input));
+        for (int i = 0; i < depth; i++) {
+            result = result.flatMap(value -> Try.apply(() -> value + 1));
+        }
+        return result.getOrElse(0);
+    }
+
+    @Benchmark
+    public int filterTry() {
+        String input = next();
+        Try<Integer> result = Try.apply(() -> Integer.parseInt(input));
+        for (int i = 0; i < depth; i++) {
+            result = result.filter(value -> value >= 0);
+        }
+        return result.getOrElse(0);
+    }
+
+    @Benchmark
+    public int recoverTry() {
+        String input = next();
+        Try<Integer> result = Try.apply(() -> Integer.parseInt(input));
+        for (int i = 0; i < depth; i++) {
+            result = result.map(value -> value + 1);
+        }
+        return result.recover(e -> 0).get();
+    }
+
+    @Benchmark
+    public int recoverWithTry() {
+        String input = next();
+        Try<Integer> result = Try.apply(() -> Integer.parseInt(input));
+        for (int i = 0; i < depth; i++) {
+            result = result.map(value -> value + 1);
+        }
+        return result.recoverWith(e -> new Try.Success<>(0)).get();
+    }
+}
@@ -0,0 +1,302 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>A {@link Flow.Processor} applying a {@link FailableFunction} to each element of a {@link Flow.Publisher},
+ * publishing a {@link Try} per element: a {@link Try.Failure} does not end the stream, it is just another
+ * element. Up to {@code parallelism} elements are mapped concurrently on an {@link Executor}, yet they are
+ * published in the order they were received.</p>
+ *
+ * <pre>
+ * TryProcessor&lt;String, Order&gt; parse = new TryProcessor&lt;&gt;(Order::parse, 8, executor);
+ * events.subscribe(parse);
+ * parse.subscribe(orderSubscriber);
+ * </pre>
+ *
+ * <p>Backpressure is honoured both ways: at most {@code parallelism} elements are requested from upstream
+ * beyond those already delivered downstream, so memory stays bounded whatever the source, and no more elements
+ * are delivered downstream than requested. An upstream {@code onError} is delivered as soon as the elements
+ * already mapped and requested have been delivered, discarding the others, while {@code onComplete} waits for all
+ * of them. An {@link Error} thrown by {@code mapper} cancels the upstream subscription and is delivered the same
+ * way as an upstream {@code onError}. A single subscriber is supported.</p>
+ *
+ * <p>{@link Flow} was added in Java 9, so this class ships in the separate {@code try-flow} artifact, compiled for
+ * Java 9, while the {@code try} artifact it depends on stays compatible with Java 8.</p>
+ *
+ * @param <T> the type of the elements received
+ * @param <U> the type of the mapped values
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public final class TryProcessor<T, U> implements Flow.Processor<T, Try<U>> {
+
+    private static final Flow.Subscription CANCELLED = new Flow.Subscription() {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    };
+
+    private final FailableFunction<? super T, ? extends U> mapper;
+    private final int parallelism;
+    private final Executor executor;
+
+    private final ConcurrentLinkedQueue<Slot<U>> slots = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+    private final AtomicReference<Flow.Subscriber<? super Try<U>>> downstream = new AtomicReference<>();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+    private volatile boolean subscribed;
+    private volatile boolean cancelled;
+    private volatile boolean done;
+    private volatile Throwable badRequest;
+
+    // only accessed by the thread draining
+    private boolean terminated;
+
+    /**
+     * @param mapper      the {@link FailableFunction} applied to each element
+     * @param parallelism the maximum number of elements mapped concurrently
+     * @param executor    the {@link Executor} running {@code mapper}
+     */
+    public TryProcessor(FailableFunction<? super T, ? extends U> mapper, int parallelism, Executor executor) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        this.mapper = Objects.requireNonNull(mapper);
+        this.parallelism = parallelism;
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * @param mapper      the {@link FailableFunction} applied to each element
+     * @param parallelism the maximum number of elements mapped concurrently on
+     *                    {@link TryExecutors#defaultExecutor()}
+     */
+    public TryProcessor(FailableFunction<? super T, ? extends U> mapper, int parallelism) {
+        this(mapper, parallelism, TryExecutors.defaultExecutor());
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Try<U>> subscriber) {
+        Objects.requireNonNull(subscriber);
+        if (!downstream.compareAndSet(null, subscriber)) {
+            subscriber.onSubscribe(CANCELLED);
+            subscriber.onError(new IllegalStateException("TryProcessor supports a single subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                TryProcessor.this.request(n);
+            }
+
+            @Override
+            public void cancel() {
+                TryProcessor.this.cancel();
+            }
+        });
+        subscribed = true;
+        start();
+        drain();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription);
+        if (!upstream.compareAndSet(null, subscription)) {
+            // already subscribed, or cancelled before being subscribed
+            subscription.cancel();
+            return;
+        }
+        start();
+    }
+
+    @Override
+    public void onNext(T item) {
+        Objects.requireNonNull(item);
+        if (done || cancelled) {
+            return;
+        }
+        Slot<U> slot = new Slot<>();
+        slots.offer(slot);
+        try {
+            executor.execute(() -> {
+                try {
+                    slot.result = Try.apply(() -> mapper.apply(item));
+                } catch (Throwable t) {
+                    // the slot stays empty, so the error is delivered in its place
+                    cancelUpstream();
+                    signalError(t);
+                    return;
+                }
+                drain();
+            });
+        } catch (RejectedExecutionException e) {
+            slot.result = new Try.Failure<>(e);
+            drain();
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable);
+        signalError(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+        drain();
+    }
+
+    /**
+     * The first error wins, whether it comes from upstream or from {@code mapper}, even after {@code onComplete}
+     */
+    private void signalError(Throwable throwable) {
+        error.compareAndSet(null, throwable);
+        done = true;
+        drain();
+    }
+
+    /**
+     * Starts requesting from upstream once both the upstream subscription and the downstream subscriber exist.
+     */
+    private void start() {
+        Flow.Subscription subscription = upstream.get();
+        if (subscription != null && subscription != CANCELLED && subscribed && started.compareAndSet(false, true)) {
+            subscription.request(parallelism);
+        }
+    }
+
+    private void request(long n) {
+        if (n <= 0) {
+            badRequest = new IllegalArgumentException("Rule 3.9: request must be positive: " + n);
+        } else {
+            requested.accumulateAndGet(n, (current, added) -> {
+                long sum = current + added;
+                return sum < 0 ? Long.MAX_VALUE : sum;
+            });
+        }
+        drain();
+    }
+
+    private void cancel() {
+        cancelled = true;
+        cancelUpstream();
+        drain();
+    }
+
+    private void cancelUpstream() {
+        Flow.Subscription subscription = upstream.getAndSet(CANCELLED);
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    /**
+     * Delivers the mapped elements, in order, as far as the demand allows, then the terminal signal. Whatever the
+     * thread calling it, only one thread at a time runs the loop, so signals to the subscriber are serialized.
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            Flow.Subscriber<? super Try<U>> subscriber = subscribed ? downstream.get() : null;
+            if (subscriber != null && !terminated) {
+                drainTo(subscriber);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void drainTo(Flow.Subscriber<? super Try<U>> subscriber) {
+        long demand = requested.get();
+        long emitted = 0;
+        while (true) {
+            if (cancelled) {
+                terminated = true;
+                slots.clear();
+                return;
+            }
+            Throwable invalidRequest = badRequest;
+            if (invalidRequest != null) {
+                terminate();
+                subscriber.onError(invalidRequest);
+                return;
+            }
+            Slot<U> head = slots.peek();
+            if (done) {
+                Throwable failure = error.get();
+                if (failure != null && (head == null || head.result == null || emitted == demand)) {
+                    terminate();
+                    subscriber.onError(failure);
+                    return;
+                }
+                if (head == null) {
+                    terminated = true;
+                    subscriber.onComplete();
+                    return;
+                }
+            }
+            if (head == null || head.result == null || emitted == demand) {
+                break;
+            }
+            slots.poll();
+            subscriber.onNext(head.result);
+            emitted++;
+        }
+        if (emitted > 0) {
+            if (demand != Long.MAX_VALUE) {
+                requested.addAndGet(-emitted);
+            }
+            Flow.Subscription subscription = upstream.get();
+            if (!done && subscription != null) {
+                subscription.request(emitted);
+            }
+        }
+    }
+
+    private void terminate() {
+        terminated = true;
+        cancelUpstream();
+        slots.clear();
+    }
+
+    private static final class Slot<U> {
+
+        volatile Try<U> result;
+    }
+}
@@ -0,0 +1,367 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Unit test for {@link com.lambdista.util.TryProcessor}. The tests named after a rule check the corresponding rule
+ * of the Reactive Streams specification, which {@link Flow} adopts.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class TryProcessorTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @After
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * A synchronous publisher of the integers from 0 to {@code count - 1}, recording the demand it receives
+     */
+    private static final class RangePublisher implements Flow.Publisher<Integer> {
+
+        final int count;
+        final AtomicLong requested = new AtomicLong();
+        final AtomicBoolean cancelled = new AtomicBoolean();
+        final AtomicInteger next = new AtomicInteger();
+
+        RangePublisher(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Integer> subscriber) {
+            AtomicLong demand = new AtomicLong();
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    requested.addAndGet(n);
+                    // the thread raising the demand from zero emits until the demand is back to zero
+                    if (demand.getAndAccumulate(n, (r, m) -> r + m < 0 ? Long.MAX_VALUE : r + m) != 0) {
+                        return;
+                    }
+                    long emitted = 0;
+                    while (true) {
+                        long current = demand.get();
+                        while (emitted != current && !cancelled.get() && next.get() < count) {
+                            subscriber.onNext(next.getAndIncrement());
+                            emitted++;
+                        }
+                        if (next.get() == count && cancelled.compareAndSet(false, true)) {
+                            subscriber.onComplete();
+                        }
+                        if (demand.addAndGet(-emitted) == 0 || cancelled.get()) {
+                            return;
+                        }
+                        emitted = 0;
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled.set(true);
+                }
+            });
+        }
+    }
+
+    private static final class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+
+        final List<T> items = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch terminated = new CountDownLatch(1);
+        volatile Flow.Subscription subscription;
+        volatile Throwable error;
+        volatile boolean completed;
+        final AtomicInteger concurrentSignals = new AtomicInteger();
+        volatile boolean overlapping;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (concurrentSignals.incrementAndGet() > 1) {
+                overlapping = true;
+            }
+            items.add(item);
+            concurrentSignals.decrementAndGet();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+
+        void await() throws InterruptedException {
+            assertTrue("the stream must terminate", terminated.await(10, TimeUnit.SECONDS));
+        }
+    }
+
+    private static void awaitSize(List<?> items, int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (items.size() < size && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    public void testMapsEveryElementInOrder() throws InterruptedException {
+        TryProcessor<Integer, Integer> processor = new TryProcessor<>(i -> {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+            if (i % 10 == 0) {
+                throw new IllegalArgumentException("multiple of 10: " + i);
+            }
+            return i * 2;
+        }, 4, executor);
+        RecordingSubscriber<Try<Integer>> subscriber = new RecordingSubscriber<>();
+        new RangePublisher(100).subscribe(processor);
+        processor.subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        subscriber.await();
+
+        assertTrue(subscriber.completed);
+        assertEquals(100, subscriber.items.size());
+        for (int i = 0; i < 100; i++) {
+            Try<Integer> item = subscriber.items.get(i);
+            if (i % 10 == 0) {
+                assertTrue(item.failed().get() instanceof IllegalArgumentException);
+            } else {
+                assertEquals(Integer.valueOf(i * 2), item.get());
+            }
+        }
+    }
+
+    @Test
+    public void testWorksWithSubmissionPublisher() throws InterruptedException {
+        TryProcessor<String, Integer> processor = new TryProcessor<>(Integer::parseInt, 2, executor);
+        RecordingSubscriber<Try<Integer>> subscriber = new RecordingSubscriber<>();
+        try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>(executor, 4)) {
+            publisher.subscribe(processor);
+            processor.subscribe(subscriber);
+            subscriber.subscription.request(10);
+            for (String s : new String[]{"1", "x", "3"}) {
+                publisher.submit(s);
+            }
+        }
+        subscriber.await();
+        assertEquals(3, subscriber.items.size());
+        assertTrue(subscriber.items.get(1).isFailure());
+        assertEquals(Integer.valueOf(3), subscriber.items.get(2).get());
+    }
+
+    @Test
+    public void testRule1_1_neverSignalsMoreThanRequested() throws InterruptedException {
+        TryProcessor<Integer, Integer> processor = new TryProcessor<>(i -> i, 4, executor);
+        RecordingSubscriber<Try<Integer>> subscriber = new RecordingSubscriber<>();
+        new RangePublisher(10).subscribe(processor);
+        processor.subscribe(subscriber);
+        subscriber.subscription.request(3);
+        awaitSize(subscriber.items, 3);
+        Thread.sleep(50);
+        assertEquals(3, subscriber.items.size());
+        subscriber.subscription.request(7);
+        subscriber.await();
+        assertEquals(10, subscriber.items.size());
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void testBuffersAtMostParallelismElements() throws InterruptedException {
+        TryProcessor<Integer, Integer> processor = new TryProcessor<>(i -> i, 4, executor);
+        RangePublisher publisher = new RangePublisher(1_000_000);
+        RecordingSubscriber<Try<Integer>> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        assertEquals(4, publisher.requested.get());
+        subscriber.subscription.request(2);
+        awaitSize(subscriber.items, 2);
+        Thread.sleep(20);
+        assertEquals(6, publisher.requested.get());
+    }
+
+    @Test
+    public void testRule1_3_signalsAreSerialized() throws InterruptedException {
+        TryProcessor<Integer, Integer> processor = new TryProcessor<>(i -> i, 4, executor);
+        RecordingSubscriber<Try<Integer>> subscriber = new RecordingSubscriber<>();
+        new RangePublisher(10_000).subscribe(processor);
+        processor.subscribe(subscriber);
+        for (int i = 0; i < 10_000; i++) {
+            subscriber.subscription.request(1);
+        }
+        subscriber.await();
+        assertEquals(10_000, subscriber.items.size());
+        assertFalse(subscriber.overlapping);
+    }
+
+    @Test
+    public void testRule1_4_upstreamErrorIsDelivered() throws InterruptedException {
+        TryProcessor<Integer, Integer> processor = new TryProcessor<>(i -> i, 2, executor);
+        RecordingSubscriber<Try<Integer>> subscriber = new RecordingSubscriber<>();
+        processor.subscribe(subscriber);
+        IllegalStateException failure = new IllegalStateException("source broken");
+        processor.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        processor.onError(failure);
+        subscriber.await();
+        assertEquals(failure, subscriber.error);
+    }
+
+    @Test
+    public void testMapperErrorCancelsUpstreamAndIsDelivered() throws InterruptedException {
+        AssertionError fatal = new AssertionError("fatal");
+        TryProcessor<Integer, Integer> processor = new TryProcessor<>(i -> {
+            if (i == 3) {
+                throw fatal;
+            }
+            return i;
+        }, 2, executor);
+        RecordingSubscriber<Try<Integer>> subscriber = new RecordingSubscriber<>();
+        RangePublisher publisher = new RangePublisher(100);
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        subscriber.await();
+
+        assertEquals(fatal, subscriber.error);
+        assertTrue("upstream must be cancelled", publisher.cancelled.get());
+        assertTrue("at most the elements before the failed one are delivered", subscriber.items.size() <= 3);
+    }
+
+    @Test
+    public void testRule1_9_onlyOneSubscriberIsSupported() throws InterruptedException {
+        TryProcessor<Integer, Integer> processor = new TryProcessor<>(i -> i, 2, executor);
+        processor.subscribe(new RecordingSubscriber<>());
+        RecordingSubscriber<Try<Integer>> second = new RecordingSubscriber<>();
+        processor.subscribe(second);
+        second.await();
+        assertTrue(second.subscription != null);
+        assertTrue(second.error instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testRule2_5_secondUpstreamSubscriptionIsCancelled() {
+        TryProcessor<Integer, Integer> processor = new TryProcessor<>(i -> i, 2, executor);
+        RangePublisher first = new RangePublisher(10);
+        RangePublisher second = new RangePublisher(10);
+        first.subscribe(processor);
+        second.subscribe(processor);
+        assertFalse(first.cancelled.get());
+        assertTrue(second.cancelled.get());
+    }
+
+    @Test
+    public void testRule2_13_nullSignalsAreRejected() {
+        TryProcessor<Integer, Integer> processor = new TryProcessor<>(i -> i, 2, executor);
+        try {
+            processor.onNext(null);
+            fail("onNext(null) must throw a NullPointerException");
+        } catch (NullPointerException e) {
+            // expected
+        }
+        try {
+            processor.onSubscribe(null);
+            fail("onSubscribe(null) must throw a NullPointerException");
+        } catch (NullPointerException e) {
+            // expected
+        }
+        try {
+            processor.onError(null);
+            fail("onError(null) must throw a NullPointerException");
+        } catch (NullPointerException e) {
+            // expected
+        }
+        try {
+            processor.subscribe(null);
+            fail("subscribe(null) must throw a NullPointerException");
+        } catch (NullPointerException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testRule3_9_nonPositiveRequestSignalsError() throws InterruptedException {
+        TryProcessor<Integer, Integer> processor = new TryProcessor<>(i -> i, 2, executor);
+        RangePublisher publisher = new RangePublisher(10);
+        RecordingSubscriber<Try<Integer>> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        subscriber.subscription.request(0);
+        subscriber.await();
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+        assertTrue(publisher.cancelled.get());
+    }
+
+    @Test
+    public void testRule3_5_and_3_7_cancelStopsTheStreamAndIsIdempotent() throws InterruptedException {
+        TryProcessor<Integer, Integer> processor = new TryProcessor<>(i -> i, 2, executor);
+        RangePublisher publisher = new RangePublisher(1_000);
+        RecordingSubscriber<Try<Integer>> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        subscriber.subscription.request(5);
+        awaitSize(subscriber.items, 5);
+        subscriber.subscription.cancel();
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(100);
+        Thread.sleep(50);
+        assertTrue(publisher.cancelled.get());
+        assertEquals(5, subscriber.items.size());
+        assertNull(subscriber.error);
+        assertFalse(subscriber.completed);
+    }
+}